@@ -0,0 +1,414 @@
+/*
+ * Copyright (c) 2007-2013, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.bp;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.RandomAccess;
+
+import static org.threeten.bp.jdk7.Jdk7Methods.Objects_requireNonNull;
+
+/**
+ * A growable array of temporal objects held in a packed primitive form.
+ * <p>
+ * This is the base class for the temporal arrays, which hold each value as a
+ * {@code long} in an order-preserving encoding. Sorting and searching operate
+ * on the primitive values, and objects are only created when requested.
+ *
+ * <h3>Specification for implementors</h3>
+ * This class is mutable and not thread-safe.
+ *
+ * @param <T>  the temporal type
+ * @param <A>  the array type
+ */
+abstract class AbstractTemporalArray<T, A extends AbstractTemporalArray<T, A>> implements Iterable<T> {
+
+    /**
+     * The default capacity.
+     */
+    private static final int DEFAULT_CAPACITY = 16;
+    /**
+     * The size above which sorting uses a radix sort.
+     */
+    private static final int RADIX_SORT_THRESHOLD = 4096;
+
+    /**
+     * The packed values.
+     */
+    private long[] values;
+    /**
+     * The number of values.
+     */
+    private int size;
+
+    /**
+     * Constructor.
+     *
+     * @param values  the packed values, not null
+     * @param size  the number of values in use
+     */
+    AbstractTemporalArray(long[] values, int size) {
+        this.values = values;
+        this.size = size;
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param capacity  the initial capacity, zero or greater
+     */
+    AbstractTemporalArray(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Capacity must not be negative: " + capacity);
+        }
+        this.values = new long[capacity];
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Packs a temporal to a primitive value.
+     *
+     * @param value  the value to pack, not null
+     * @return the packed value
+     */
+    abstract long pack(T value);
+
+    /**
+     * Unpacks a temporal from a primitive value.
+     *
+     * @param packed  the packed value
+     * @return the value, not null
+     */
+    abstract T unpack(long packed);
+
+    /**
+     * Checks if a value that cannot be packed is before the supported range.
+     *
+     * @param value  the value that could not be packed, not null
+     * @return true if before the supported range, false if after it
+     */
+    abstract boolean isBeforeRange(T value);
+
+    /**
+     * Creates an array of the same type.
+     *
+     * @param values  the packed values, not null
+     * @return the array, not null
+     */
+    abstract A create(long[] values);
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the number of values in the array.
+     *
+     * @return the size, zero or greater
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Gets the value at the specified index.
+     * <p>
+     * This creates an object from the packed value.
+     *
+     * @param index  the index, from 0 to size - 1
+     * @return the value, not null
+     * @throws IndexOutOfBoundsException if the index is invalid
+     */
+    public T get(int index) {
+        return unpack(getPacked(index));
+    }
+
+    /**
+     * Gets the packed value at the specified index.
+     *
+     * @param index  the index, from 0 to size - 1
+     * @return the packed value
+     * @throws IndexOutOfBoundsException if the index is invalid
+     */
+    public long getPacked(int index) {
+        checkIndex(index);
+        return values[index];
+    }
+
+    /**
+     * Sets the value at the specified index.
+     *
+     * @param index  the index, from 0 to size - 1
+     * @param value  the value to set, not null
+     * @throws IndexOutOfBoundsException if the index is invalid
+     * @throws ArithmeticException if the value cannot be packed
+     */
+    public void set(int index, T value) {
+        Objects_requireNonNull(value, "value");
+        checkIndex(index);
+        values[index] = pack(value);
+    }
+
+    /**
+     * Adds a value to the end of the array.
+     *
+     * @param value  the value to add, not null
+     * @throws ArithmeticException if the value cannot be packed
+     */
+    public void add(T value) {
+        Objects_requireNonNull(value, "value");
+        addPacked(pack(value));
+    }
+
+    /**
+     * Adds a packed value to the end of the array.
+     *
+     * @param packed  the packed value to add
+     */
+    public void addPacked(long packed) {
+        if (size == values.length) {
+            values = Arrays.copyOf(values, Math.max(DEFAULT_CAPACITY, size + (size >> 1)));
+        }
+        values[size++] = packed;
+    }
+
+    /**
+     * Removes all values from the array.
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Sorts the array into ascending order.
+     * <p>
+     * The sort operates on the packed values without creating objects.
+     * Large arrays are sorted using a radix sort.
+     */
+    public void sort() {
+        if (size > RADIX_SORT_THRESHOLD) {
+            TemporalRadixSort.sort(values, 0, size);
+        } else {
+            Arrays.sort(values, 0, size);
+        }
+    }
+
+    /**
+     * Searches the sorted array for the specified value.
+     * <p>
+     * The array must be sorted, such as by {@link #sort()}.
+     * The result is as per {@link Arrays#binarySearch(long[], long)}.
+     * A value outside the supported range is not found, with an insertion point
+     * of the start or end of the array.
+     *
+     * @param value  the value to search for, not null
+     * @return the index of the value, or {@code (-(insertion point) - 1)} if not found
+     */
+    public int binarySearch(T value) {
+        Objects_requireNonNull(value, "value");
+        long packed;
+        try {
+            packed = pack(value);
+        } catch (ArithmeticException ex) {
+            return isBeforeRange(value) ? -1 : -size - 1;
+        }
+        return Arrays.binarySearch(values, 0, size, packed);
+    }
+
+    /**
+     * Returns the values of the sorted array within the specified range.
+     * <p>
+     * The array must be sorted, such as by {@link #sort()}.
+     * The result is a new array containing all the values that are
+     * equal to or after the start, and before the end.
+     * Either bound may be outside the supported range.
+     *
+     * @param startInclusive  the start of the range, inclusive, not null
+     * @param endExclusive  the end of the range, exclusive, not null
+     * @return the values in the range, not null
+     */
+    public A range(T startInclusive, T endExclusive) {
+        Objects_requireNonNull(startInclusive, "startInclusive");
+        Objects_requireNonNull(endExclusive, "endExclusive");
+        int start = lowerBound(startInclusive);
+        int end = Math.max(start, lowerBound(endExclusive));
+        return create(Arrays.copyOfRange(values, start, end));
+    }
+
+    /**
+     * Finds the first index with a value equal to or after the specified value,
+     * clamping a value outside the supported range to the start or end.
+     */
+    private int lowerBound(T value) {
+        long packed;
+        try {
+            packed = pack(value);
+        } catch (ArithmeticException ex) {
+            return isBeforeRange(value) ? 0 : size;
+        }
+        return lowerBound(packed);
+    }
+
+    /**
+     * Finds the first index with a value equal to or after the specified value.
+     */
+    private int lowerBound(long packed) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (values[mid] < packed) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Returns a list view of the array.
+     * <p>
+     * The list is backed by this array, creating each object when it is accessed.
+     * The list supports {@code set} but not changes to its size.
+     *
+     * @return the list view, not null
+     */
+    public List<T> asList() {
+        return new ListView();
+    }
+
+    /**
+     * Returns an iterator over the values.
+     * <p>
+     * Each object is created as it is returned by the iterator.
+     *
+     * @return the iterator, not null
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return asList().iterator();
+    }
+
+    /**
+     * Returns a copy of the packed values.
+     *
+     * @return the packed values, not null
+     */
+    public long[] toPackedArray() {
+        return Arrays.copyOf(values, size);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Checks if this array is equal to another.
+     * <p>
+     * The comparison is based on the values in the array, in order.
+     *
+     * @param obj  the object to check, null returns false
+     * @return true if this is equal to the other array
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj != null && getClass() == obj.getClass()) {
+            AbstractTemporalArray<?, ?> other = (AbstractTemporalArray<?, ?>) obj;
+            if (size != other.size) {
+                return false;
+            }
+            for (int i = 0; i < size; i++) {
+                if (values[i] != other.values[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * A hash code for this array.
+     *
+     * @return a suitable hash code
+     */
+    @Override
+    public int hashCode() {
+        // as per Arrays.hashCode(toPackedArray())
+        int hash = 1;
+        for (int i = 0; i < size; i++) {
+            long value = values[i];
+            hash = 31 * hash + (int) (value ^ (value >>> 32));
+        }
+        return hash;
+    }
+
+    /**
+     * Outputs this array as a {@code String}.
+     *
+     * @return a string representation of this array, not null
+     */
+    @Override
+    public String toString() {
+        return asList().toString();
+    }
+
+    //-----------------------------------------------------------------------
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+
+    /**
+     * List view of the array.
+     */
+    private final class ListView extends AbstractList<T> implements RandomAccess {
+        @Override
+        public T get(int index) {
+            return AbstractTemporalArray.this.get(index);
+        }
+        @Override
+        public T set(int index, T value) {
+            T old = AbstractTemporalArray.this.get(index);
+            AbstractTemporalArray.this.set(index, value);
+            return old;
+        }
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+
+}
@@ -33,9 +33,12 @@ package org.threeten.bp;
 
 import static org.threeten.bp.LocalTime.NANOS_PER_MINUTE;
 import static org.threeten.bp.LocalTime.NANOS_PER_SECOND;
+import static org.threeten.bp.LocalTime.SECONDS_PER_DAY;
 
 import java.io.Serializable;
+import java.lang.ref.WeakReference;
 import java.util.TimeZone;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.threeten.bp.jdk8.Jdk8Methods;
 
@@ -159,6 +162,30 @@ public abstract class Clock {
         return new SystemClock(zone);
     }
 
+    /**
+     * Obtains a clock that returns the current instant with nanosecond resolution
+     * using the system nano-time.
+     * <p>
+     * This clock is anchored to {@link System#currentTimeMillis()} and advanced using
+     * {@link System#nanoTime()}, allowing events within the same millisecond to be ordered.
+     * The clock is periodically re-synchronized with {@code currentTimeMillis()}.
+     * Small differences, and any difference that would move the clock backwards, are
+     * corrected gradually with a bounded slew, while large forward differences are
+     * applied immediately.
+     * <p>
+     * The instants returned by all clocks of this type never decrease, even when
+     * called from multiple threads.
+     * <p>
+     * The returned implementation is immutable, thread-safe and {@code Serializable}.
+     *
+     * @param zone  the time-zone to use to convert the instant to date-time, not null
+     * @return a clock that uses the system nano-time in the specified zone, not null
+     */
+    public static Clock systemPrecise(ZoneId zone) {
+        Objects_requireNonNull(zone, "zone");
+        return new NanoClock(zone, NanoTimeSource.INSTANCE);
+    }
+
     //-------------------------------------------------------------------------
     /**
      * Obtains a clock that returns the current instant ticking in whole seconds
@@ -257,6 +284,79 @@ public abstract class Clock {
         return new TickClock(baseClock, tickNanos);
     }
 
+    //-----------------------------------------------------------------------
+    /**
+     * Obtains a clock that returns the current instant from the system clock,
+     * updated periodically by a background thread.
+     * <p>
+     * This is equivalent to {@code cached(systemUTC(), granularity)}.
+     *
+     * @param granularity  the duration between updates, positive, not null
+     * @return a clock that returns the cached system instant, not null
+     * @throws IllegalArgumentException if the granularity is zero or negative
+     */
+    public static Clock cached(Duration granularity) {
+        return cached(systemUTC(), granularity);
+    }
+
+    /**
+     * Obtains a clock that returns the instant from the specified clock,
+     * updated periodically by a background thread.
+     * <p>
+     * A daemon thread obtains the instant from the base clock once per granularity
+     * and publishes it to the returned clock. Obtaining the instant from the returned
+     * clock is therefore a single volatile read, with no system call and no allocation.
+     * The instant returned will lag behind the base clock by up to the granularity.
+     * <p>
+     * The returned clock can be wrapped using {@link #tick(Clock, Duration) tick} or
+     * {@link #offset(Clock, Duration) offset}. Clocks obtained from it using
+     * {@link #withZone(ZoneId) withZone} share the same background thread.
+     * <p>
+     * The thread should be stopped using {@link #stopCached(Clock)} when the clock
+     * is no longer needed, after which the clock no longer advances.
+     * As a fallback, the thread also stops once the returned clock and all clocks
+     * derived from it are no longer referenced.
+     * <p>
+     * The returned implementation is thread-safe but not {@code Serializable}.
+     *
+     * @param baseClock  the base clock to cache the instant of, not null
+     * @param granularity  the duration between updates, positive, not null
+     * @return a clock that returns the cached instant of the base clock, not null
+     * @throws IllegalArgumentException if the granularity is zero or negative,
+     *  or too large to be expressed in milliseconds
+     */
+    public static Clock cached(Clock baseClock, Duration granularity) {
+        Objects_requireNonNull(baseClock, "baseClock");
+        Objects_requireNonNull(granularity, "granularity");
+        if (granularity.isNegative() || granularity.isZero()) {
+            throw new IllegalArgumentException("Granularity must be positive");
+        }
+        if (granularity.getSeconds() >= Long.MAX_VALUE / 1000) {
+            throw new IllegalArgumentException("Granularity is too large");
+        }
+        return new CachedClock(Ticker.start(baseClock, granularity), baseClock.getZone());
+    }
+
+    /**
+     * Stops the background thread of a clock obtained from {@code cached}.
+     * <p>
+     * The clock, and any clock sharing its thread via {@link #withZone(ZoneId) withZone},
+     * continues to return the last instant published, but no longer advances.
+     * This should be called when the clock is no longer needed, such as when
+     * an application is undeployed, as the thread is otherwise only stopped once
+     * the clock is garbage collected. Calling this more than once has no effect.
+     *
+     * @param cachedClock  the clock obtained from {@code cached}, not null
+     * @throws IllegalArgumentException if the clock was not obtained from {@code cached}
+     */
+    public static void stopCached(Clock cachedClock) {
+        Objects_requireNonNull(cachedClock, "cachedClock");
+        if (cachedClock instanceof CachedClock == false) {
+            throw new IllegalArgumentException("Clock was not obtained from Clock.cached(): " + cachedClock);
+        }
+        ((CachedClock) cachedClock).ticker.stop();
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Obtains a clock that always returns the same instant.
@@ -369,6 +469,83 @@ public abstract class Clock {
      */
     public abstract Instant instant();
 
+    //-------------------------------------------------------------------------
+    /**
+     * Gets the current epoch-second of the clock.
+     * <p>
+     * This returns the number of seconds from 1970-01-01T00:00Z.
+     * This method is provided to allow the use of the clock in high performance use cases
+     * where the creation of an object would be unacceptable.
+     * Each call reads the clock separately, thus {@link #instant()} should be used
+     * where the epoch-second and nano-of-second must be consistent.
+     * The default implementation calls {@link #instant()}.
+     *
+     * @return the current epoch-second from this clock
+     * @throws DateTimeException if the instant cannot be obtained, not thrown by most implementations
+     */
+    public long epochSecond() {
+        return instant().getEpochSecond();
+    }
+
+    /**
+     * Gets the current nano-of-second of the clock.
+     * <p>
+     * This returns the nanoseconds within the current second.
+     * This method is provided to allow the use of the clock in high performance use cases
+     * where the creation of an object would be unacceptable.
+     * Each call reads the clock separately, thus {@link #instant()} should be used
+     * where the epoch-second and nano-of-second must be consistent.
+     * The default implementation calls {@link #instant()}.
+     *
+     * @return the current nano-of-second from this clock, from 0 to 999,999,999
+     * @throws DateTimeException if the instant cannot be obtained, not thrown by most implementations
+     */
+    public int nanoOfSecond() {
+        return instant().getNano();
+    }
+
+    /**
+     * Gets the current epoch-day of the clock in the time-zone of the clock.
+     * <p>
+     * This returns the local date, as per {@link LocalDate#toEpochDay()},
+     * without creating a {@code LocalDate}.
+     * The default implementation calls {@link #epochSecond()}.
+     *
+     * @return the current epoch-day from this clock
+     * @throws DateTimeException if the instant cannot be obtained, not thrown by most implementations
+     */
+    public long epochDay() {
+        return Jdk8Methods.floorDiv(localEpochSecond(), SECONDS_PER_DAY);
+    }
+
+    /**
+     * Gets the current second-of-day of the clock in the time-zone of the clock.
+     * <p>
+     * This returns the local time, as per {@link LocalTime#toSecondOfDay()},
+     * without creating a {@code LocalTime}.
+     * The default implementation calls {@link #epochSecond()}.
+     *
+     * @return the current second-of-day from this clock, from 0 to 24 * 60 * 60 - 1
+     * @throws DateTimeException if the instant cannot be obtained, not thrown by most implementations
+     */
+    public int secondOfDay() {
+        return Jdk8Methods.floorMod(localEpochSecond(), SECONDS_PER_DAY);
+    }
+
+    /**
+     * Gets the current epoch-second adjusted to the time-zone of the clock.
+     *
+     * @return the local epoch-second
+     */
+    private long localEpochSecond() {
+        long epochSecond = epochSecond();
+        ZoneId zone = getZone();
+        if (zone instanceof ZoneOffset) {
+            return epochSecond + ((ZoneOffset) zone).getTotalSeconds();
+        }
+        return epochSecond + zone.getRules().getOffset(epochSecond).getTotalSeconds();
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Checks if this clock is equal to another clock.
@@ -425,6 +602,14 @@ public abstract class Clock {
             return Instant.ofEpochMilli(millis());
         }
         @Override
+        public long epochSecond() {
+            return Jdk8Methods.floorDiv(System.currentTimeMillis(), 1000);
+        }
+        @Override
+        public int nanoOfSecond() {
+            return Jdk8Methods.floorMod(System.currentTimeMillis(), 1000) * 1000000;
+        }
+        @Override
         public boolean equals(Object obj) {
             if (obj instanceof SystemClock) {
                 return zone.equals(((SystemClock) obj).zone);
@@ -441,6 +626,303 @@ public abstract class Clock {
         }
     }
 
+    //-----------------------------------------------------------------------
+    /**
+     * Implementation of a clock that uses {@link System#nanoTime()} to advance
+     * an instant anchored to {@link System#currentTimeMillis()}.
+     */
+    static final class NanoClock extends Clock implements Serializable {
+        private static final long serialVersionUID = -2581637154389426340L;
+        private final ZoneId zone;
+        private final transient NanoTimeSource source;
+
+        NanoClock(ZoneId zone, NanoTimeSource source) {
+            this.zone = zone;
+            this.source = source;
+        }
+        private Object readResolve() {
+            return new NanoClock(zone, NanoTimeSource.INSTANCE);
+        }
+        @Override
+        public ZoneId getZone() {
+            return zone;
+        }
+        @Override
+        public Clock withZone(ZoneId zone) {
+            if (zone.equals(this.zone)) {  // intentional NPE
+                return this;
+            }
+            return new NanoClock(zone, source);
+        }
+        @Override
+        public long millis() {
+            return source.originSecond * 1000L + Jdk8Methods.floorDiv(source.nanos(), 1000000L);
+        }
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochSecond(source.originSecond, source.nanos());
+        }
+        @Override
+        public long epochSecond() {
+            return source.originSecond + Jdk8Methods.floorDiv(source.nanos(), NANOS_PER_SECOND);
+        }
+        @Override
+        public int nanoOfSecond() {
+            return (int) Jdk8Methods.floorMod(source.nanos(), NANOS_PER_SECOND);
+        }
+        @Override
+        public boolean equals(Object obj) {
+            if (obj instanceof NanoClock) {
+                NanoClock other = (NanoClock) obj;
+                return zone.equals(other.zone) && source == other.source;
+            }
+            return false;
+        }
+        @Override
+        public int hashCode() {
+            return zone.hashCode() + 2;
+        }
+        @Override
+        public String toString() {
+            return "NanoClock[" + zone + "]";
+        }
+    }
+
+    /**
+     * The source of time for {@code NanoClock}.
+     * <p>
+     * The time is held as nanoseconds from an origin epoch-second, computed as the
+     * elapsed nano-time plus an adjustment. The adjustment is corrected against the
+     * millisecond system time at each re-synchronization.
+     */
+    static class NanoTimeSource {
+        /** The shared instance. */
+        static final NanoTimeSource INSTANCE = new NanoTimeSource();
+        /** The nanos between re-synchronizations. */
+        static final long RESYNC_NANOS = NANOS_PER_SECOND;
+        /** The maximum correction applied gradually at each re-synchronization. */
+        static final long MAX_SLEW_NANOS = 1000000L;
+        /** The forward error beyond which the correction is applied immediately. */
+        static final long STEP_NANOS = NANOS_PER_SECOND;
+
+        /** The epoch-second of the origin. */
+        final long originSecond;
+        /** The nano-time at the origin. */
+        private final long originNanoTime;
+        /** The adjustment added to the elapsed nano-time. */
+        private volatile long adjustment;
+        /** The nano-time at which to next re-synchronize. */
+        private volatile long nextResync;
+        /** The latest nanos returned, ensuring the clock never decreases. */
+        private final AtomicLong latest = new AtomicLong(Long.MIN_VALUE);
+
+        NanoTimeSource() {
+            this(System.currentTimeMillis(), System.nanoTime());
+        }
+
+        NanoTimeSource(long millis, long nanoTime) {
+            this.originNanoTime = nanoTime;
+            this.originSecond = Jdk8Methods.floorDiv(millis, 1000);
+            this.adjustment = Jdk8Methods.floorMod(millis, 1000) * 1000000L;
+            this.nextResync = originNanoTime + RESYNC_NANOS;
+        }
+
+        /**
+         * Gets the system millisecond time, overridable for testing.
+         */
+        long systemMillis() {
+            return System.currentTimeMillis();
+        }
+
+        /**
+         * Gets the system nano-time, overridable for testing.
+         */
+        long systemNanoTime() {
+            return System.nanoTime();
+        }
+
+        /**
+         * Gets the current nanos from the origin epoch-second.
+         *
+         * @return the nanos from the origin, never less than a previous result
+         */
+        long nanos() {
+            long nanoTime = systemNanoTime();
+            if (nanoTime - nextResync >= 0) {
+                resync();
+                nanoTime = systemNanoTime();
+            }
+            long nanos = nanoTime - originNanoTime + adjustment;
+            long previous = latest.get();
+            while (nanos > previous) {
+                if (latest.compareAndSet(previous, nanos)) {
+                    return nanos;
+                }
+                previous = latest.get();
+            }
+            return previous;
+        }
+
+        /**
+         * Corrects the adjustment against the millisecond system time.
+         */
+        synchronized void resync() {
+            long nanoTime = systemNanoTime();
+            if (nanoTime - nextResync < 0) {
+                return;  // another thread has re-synchronized
+            }
+            long actual = (systemMillis() - originSecond * 1000L) * 1000000L;
+            long predicted = nanoTime - originNanoTime + adjustment;
+            long error = 0;
+            if (predicted < actual) {
+                error = actual - predicted;
+            } else if (predicted >= actual + 1000000L) {
+                // the millisecond time is truncated, so allow the whole millisecond
+                error = actual + 1000000L - 1 - predicted;
+            }
+            if (error <= STEP_NANOS) {
+                error = Math.max(Math.min(error, MAX_SLEW_NANOS), -MAX_SLEW_NANOS);
+            }
+            adjustment += error;
+            nextResync = nanoTime + RESYNC_NANOS;
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Implementation of a clock that returns an instant published by a background thread.
+     */
+    static final class CachedClock extends Clock {
+        final Ticker ticker;
+        private final ZoneId zone;
+
+        CachedClock(Ticker ticker, ZoneId zone) {
+            this.ticker = ticker;
+            this.zone = zone;
+        }
+        @Override
+        public ZoneId getZone() {
+            return zone;
+        }
+        @Override
+        public Clock withZone(ZoneId zone) {
+            if (zone.equals(this.zone)) {  // intentional NPE
+                return this;
+            }
+            return new CachedClock(ticker, zone);
+        }
+        @Override
+        public long millis() {
+            return ticker.instant.toEpochMilli();
+        }
+        @Override
+        public Instant instant() {
+            return ticker.instant;
+        }
+        @Override
+        public boolean equals(Object obj) {
+            if (obj instanceof CachedClock) {
+                CachedClock other = (CachedClock) obj;
+                return ticker == other.ticker && zone.equals(other.zone);
+            }
+            return false;
+        }
+        @Override
+        public int hashCode() {
+            return ticker.hashCode() ^ zone.hashCode();
+        }
+        @Override
+        public String toString() {
+            return "CachedClock[" + ticker.baseClock + "," + ticker.granularity + "]";
+        }
+    }
+
+    /**
+     * Holds the instant published by the background thread of {@code CachedClock}.
+     * <p>
+     * The thread stops when {@link #stop()} is called. As a fallback, the thread only
+     * holds a weak reference to the ticker, and stops once the ticker is no longer
+     * referenced by any clock.
+     */
+    static final class Ticker {
+        /** The base clock. */
+        final Clock baseClock;
+        /** The duration between updates. */
+        final Duration granularity;
+        /** The latest instant. */
+        volatile Instant instant;
+        /** The thread updating the instant. */
+        Thread thread;
+        /** Whether the ticker has been stopped. */
+        volatile boolean stopped;
+
+        private Ticker(Clock baseClock, Duration granularity) {
+            this.baseClock = baseClock;
+            this.granularity = granularity;
+            this.instant = baseClock.instant();
+        }
+
+        /**
+         * Creates a ticker and starts its thread.
+         *
+         * @param baseClock  the base clock, not null
+         * @param granularity  the duration between updates, positive, not null
+         * @return the ticker, not null
+         */
+        static Ticker start(Clock baseClock, Duration granularity) {
+            Ticker ticker = new Ticker(baseClock, granularity);
+            final WeakReference<Ticker> ref = new WeakReference<Ticker>(ticker);
+            final Clock base = baseClock;
+            final long sleepMillis = granularity.toMillis();
+            final int sleepNanos = granularity.getNano() % 1000000;
+            Thread thread = new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        do {
+                            Thread.sleep(sleepMillis, sleepNanos);
+                        } while (update(ref, base));
+                    } catch (InterruptedException ex) {
+                        // stop updating
+                    }
+                }
+            }, "CachedClock-Ticker");
+            thread.setDaemon(true);
+            // avoid pinning the class loader of the caller, such as a web application
+            thread.setContextClassLoader(null);
+            ticker.thread = thread;
+            thread.start();
+            return ticker;
+        }
+
+        /**
+         * Stops the thread updating the instant.
+         */
+        void stop() {
+            stopped = true;
+            thread.interrupt();
+        }
+
+        /**
+         * Updates the instant of the ticker, if it is still referenced and not stopped.
+         * <p>
+         * This is a separate method so that the thread only holds a strong
+         * reference to the ticker while updating it.
+         *
+         * @param ref  the reference to the ticker, not null
+         * @param baseClock  the base clock, not null
+         * @return true if updated, false if the ticker is no longer referenced or stopped
+         */
+        private static boolean update(WeakReference<Ticker> ref, Clock baseClock) {
+            Ticker ticker = ref.get();
+            if (ticker == null || ticker.stopped) {
+                return false;
+            }
+            ticker.instant = baseClock.instant();
+            return true;
+        }
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Implementation of a clock that always returns the same instant.
@@ -475,6 +957,14 @@ public abstract class Clock {
             return instant;
         }
         @Override
+        public long epochSecond() {
+            return instant.getEpochSecond();
+        }
+        @Override
+        public int nanoOfSecond() {
+            return instant.getNano();
+        }
+        @Override
         public boolean equals(Object obj) {
             if (obj instanceof FixedClock) {
                 FixedClock other = (FixedClock) obj;
@@ -525,6 +1015,20 @@ public abstract class Clock {
             return baseClock.instant().plus(offset);
         }
         @Override
+        public long epochSecond() {
+            if (offset.getNano() == 0) {
+                return Jdk8Methods.safeAdd(baseClock.epochSecond(), offset.getSeconds());
+            }
+            return instant().getEpochSecond();
+        }
+        @Override
+        public int nanoOfSecond() {
+            if (offset.getNano() == 0) {
+                return baseClock.nanoOfSecond();
+            }
+            return instant().getNano();
+        }
+        @Override
         public boolean equals(Object obj) {
             if (obj instanceof OffsetClock) {
                 OffsetClock other = (OffsetClock) obj;
@@ -583,6 +1087,28 @@ public abstract class Clock {
             return instant.minusNanos(adjust);
         }
         @Override
+        public long epochSecond() {
+            if ((tickNanos % NANOS_PER_SECOND) == 0) {
+                long secs = baseClock.epochSecond();
+                return secs - Jdk8Methods.floorMod(secs, tickNanos / NANOS_PER_SECOND);
+            }
+            if ((NANOS_PER_SECOND % tickNanos) == 0) {
+                return baseClock.epochSecond();
+            }
+            return instant().getEpochSecond();
+        }
+        @Override
+        public int nanoOfSecond() {
+            if ((tickNanos % NANOS_PER_SECOND) == 0) {
+                return 0;
+            }
+            if ((NANOS_PER_SECOND % tickNanos) == 0) {
+                int nanos = baseClock.nanoOfSecond();
+                return nanos - (int) (nanos % tickNanos);
+            }
+            return instant().getNano();
+        }
+        @Override
         public boolean equals(Object obj) {
             if (obj instanceof TickClock) {
                 TickClock other = (TickClock) obj;
@@ -45,9 +45,6 @@ import java.io.IOException;
 import java.io.InvalidObjectException;
 import java.io.ObjectStreamException;
 import java.io.Serializable;
-import java.math.BigDecimal;
-import java.math.BigInteger;
-import java.math.RoundingMode;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -106,10 +103,6 @@ public final class Duration
      * Constant for nanos per second.
      */
     private static final int NANOS_PER_SECOND = 1000000000;
-    /**
-     * Constant for nanos per second.
-     */
-    private static final BigInteger BI_NANOS_PER_SECOND = BigInteger.valueOf(NANOS_PER_SECOND);
     /**
      * The pattern for parsing.
      */
@@ -300,6 +293,100 @@ public final class Duration
         return ofSeconds(secs, nanos);
     }
 
+    //-----------------------------------------------------------------------
+    /**
+     * Calculates the number of nanoseconds between two instants, saturating on overflow.
+     * <p>
+     * This returns the same value as {@code Duration.between(start, end).toNanos()}
+     * without creating a {@code Duration}. Rather than throwing an exception, a result
+     * too large to fit in a {@code long} is clamped to {@code Long.MAX_VALUE}
+     * or {@code Long.MIN_VALUE}.
+     * <p>
+     * The result is negative if the end is before the start.
+     * This is intended for recording elapsed times, such as in latency statistics.
+     *
+     * @param startInclusive  the start instant, inclusive, not null
+     * @param endExclusive  the end instant, exclusive, not null
+     * @return the number of nanoseconds between the instants, clamped to the range of a {@code long}
+     */
+    public static long nanosBetween(Instant startInclusive, Instant endExclusive) {
+        return saturatedBetween(startInclusive, endExclusive, NANOS_PER_SECOND, 1);
+    }
+
+    /**
+     * Calculates the number of microseconds between two instants, saturating on overflow.
+     * <p>
+     * This returns the number of whole microseconds between the instants,
+     * rounding towards negative infinity in the same way as {@link #toMillis()}.
+     * A result too large to fit in a {@code long} is clamped to
+     * {@code Long.MAX_VALUE} or {@code Long.MIN_VALUE}.
+     *
+     * @param startInclusive  the start instant, inclusive, not null
+     * @param endExclusive  the end instant, exclusive, not null
+     * @return the number of microseconds between the instants, clamped to the range of a {@code long}
+     */
+    public static long microsBetween(Instant startInclusive, Instant endExclusive) {
+        return saturatedBetween(startInclusive, endExclusive, 1000000, 1000);
+    }
+
+    /**
+     * Calculates the number of milliseconds between two instants, saturating on overflow.
+     * <p>
+     * This returns the same value as {@code Duration.between(start, end).toMillis()}
+     * without creating a {@code Duration}. A result too large to fit in a {@code long}
+     * is clamped to {@code Long.MAX_VALUE} or {@code Long.MIN_VALUE}.
+     *
+     * @param startInclusive  the start instant, inclusive, not null
+     * @param endExclusive  the end instant, exclusive, not null
+     * @return the number of milliseconds between the instants, clamped to the range of a {@code long}
+     */
+    public static long millisBetween(Instant startInclusive, Instant endExclusive) {
+        return saturatedBetween(startInclusive, endExclusive, 1000, 1000000);
+    }
+
+    private static long saturatedBetween(Instant startInclusive, Instant endExclusive, long unitsPerSecond, int nanosPerUnit) {
+        // the range of Instant ensures the seconds cannot overflow
+        long secs = endExclusive.getEpochSecond() - startInclusive.getEpochSecond();
+        int nos = endExclusive.getNano() - startInclusive.getNano();
+        if (nos < 0) {
+            secs--;
+            nos += NANOS_PER_SECOND;
+        }
+        return saturatedUnits(secs, nos, unitsPerSecond, nanosPerUnit);
+    }
+
+    /**
+     * Converts seconds and nano-of-second to a number of units, saturating on overflow.
+     *
+     * @param secs  the seconds, positive or negative
+     * @param nanoOfSecond  the nano-of-second, from 0 to 999,999,999
+     * @param unitsPerSecond  the number of units in a second
+     * @param nanosPerUnit  the number of nanoseconds in a unit
+     * @return the number of units, rounded towards negative infinity and clamped to the range of a {@code long}
+     */
+    private static long saturatedUnits(long secs, int nanoOfSecond, long unitsPerSecond, int nanosPerUnit) {
+        long part = nanoOfSecond / nanosPerUnit;
+        if (secs < 0) {
+            // borrow a second so that both parts have the same sign
+            secs++;
+            part -= unitsPerSecond;
+        }
+        if (secs > Long.MAX_VALUE / unitsPerSecond) {
+            return Long.MAX_VALUE;
+        }
+        if (secs < Long.MIN_VALUE / unitsPerSecond) {
+            return Long.MIN_VALUE;
+        }
+        long result = secs * unitsPerSecond + part;
+        if (part >= 0 && result < 0) {
+            return Long.MAX_VALUE;
+        }
+        if (part < 0 && result > 0) {
+            return Long.MIN_VALUE;
+        }
+        return result;
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Obtains a {@code Duration} from a text string such as {@code PnDTnHnMn.nS}.
@@ -839,8 +926,24 @@ public final class Duration
         if (multiplicand == 1) {
             return this;
         }
-        return create(toSeconds().multiply(BigDecimal.valueOf(multiplicand)));
-     }
+        if (nanos == 0) {
+            return create(Jdk8Methods.safeMultiply(seconds, multiplicand), 0);
+        }
+        if (multiplicand == Long.MIN_VALUE) {
+            // magnitude of multiplicand does not fit in a long
+            return multipliedBy(2).multipliedBy(Long.MIN_VALUE / 2);
+        }
+        // multiply the magnitudes, splitting the multiplicand to keep each product within a long
+        boolean negative = (seconds < 0) != (multiplicand < 0);
+        long absSecs = absSeconds();
+        long absNanos = absNanos();
+        long absMult = Math.abs(multiplicand);
+        long nanosProduct = absNanos * (absMult % NANOS_PER_SECOND);
+        long carry = absNanos * (absMult / NANOS_PER_SECOND) + nanosProduct / NANOS_PER_SECOND;
+        long resultSecs = Jdk8Methods.safeMultiply(absSecs, absMult) + carry;
+        int resultNanos = (int) (nanosProduct % NANOS_PER_SECOND);
+        return createMagnitude(negative, resultSecs, resultNanos);
+    }
 
     /**
      * Returns a copy of this duration divided by the specified value.
@@ -859,33 +962,94 @@ public final class Duration
         if (divisor == 1) {
             return this;
         }
-        return create(toSeconds().divide(BigDecimal.valueOf(divisor), RoundingMode.DOWN));
-     }
+        if (divisor == -1) {
+            return negated();
+        }
+        if (nanos == 0 && seconds % divisor == 0) {
+            return create(seconds / divisor, 0);
+        }
+        if (divisor == Long.MIN_VALUE) {
+            // magnitude of divisor does not fit in a long, dividing in two steps truncates the same
+            return dividedBy(Long.MIN_VALUE / 2).dividedBy(2);
+        }
+        // long division of the magnitudes, using seconds and nanoseconds as the two digits
+        boolean negative = (seconds < 0) != (divisor < 0);
+        long absDiv = Math.abs(divisor);
+        long absSecs = absSeconds();
+        long resultSecs = absSecs / absDiv;
+        long remainder = absSecs % absDiv;
+        // find (remainder * NANOS_PER_SECOND + absNanos) / absDiv, where remainder < absDiv,
+        // using shift and subtract on the bits of NANOS_PER_SECOND to avoid overflow
+        long resultNanos = 0;
+        long rem = 0;
+        for (int bit = 29; bit >= 0; bit--) {
+            resultNanos <<= 1;
+            if (rem >= absDiv - rem) {
+                rem -= absDiv - rem;
+                resultNanos++;
+            } else {
+                rem += rem;
+            }
+            if ((NANOS_PER_SECOND & (1 << bit)) != 0) {
+                if (rem >= absDiv - remainder) {
+                    rem -= absDiv - remainder;
+                    resultNanos++;
+                } else {
+                    rem += remainder;
+                }
+            }
+        }
+        long absNanos = absNanos();
+        resultNanos += absNanos / absDiv;
+        if (rem >= absDiv - absNanos % absDiv) {
+            resultNanos++;
+        }
+        return createMagnitude(negative, resultSecs, resultNanos);
+    }
+
+    /**
+     * Gets the whole seconds of the magnitude of this duration.
+     * <p>
+     * For a negative duration, this is one less than the magnitude of the seconds,
+     * with the difference included in {@link #absNanos()}, so that the result
+     * always fits in a {@code long}.
+     *
+     * @return the seconds of the magnitude, zero or greater
+     */
+    private long absSeconds() {
+        return (seconds < 0 ? -(seconds + 1) : seconds);
+    }
 
     /**
-     * Converts this duration to the total length in seconds and
-     * fractional nanoseconds expressed as a {@code BigDecimal}.
+     * Gets the nanoseconds of the magnitude of this duration.
      *
-     * @return the total length of the duration in seconds, with a scale of 9, not null
+     * @return the nanoseconds of the magnitude, from 0 to 1,000,000,000 inclusive
      */
-    private BigDecimal toSeconds() {
-        return BigDecimal.valueOf(seconds).add(BigDecimal.valueOf(nanos, 9));
+    private long absNanos() {
+        return (seconds < 0 ? NANOS_PER_SECOND - nanos : nanos);
     }
 
     /**
-     * Creates an instance of {@code Duration} from a number of seconds.
+     * Creates an instance of {@code Duration} from a magnitude and sign.
      *
-     * @param seconds  the number of seconds, up to scale 9, positive or negative
+     * @param negative  whether the duration is negative
+     * @param absSeconds  the seconds of the magnitude, overflowed if negative
+     * @param absNanos  the nanoseconds of the magnitude, from 0 to 1,000,000,000 inclusive
      * @return a {@code Duration}, not null
      * @throws ArithmeticException if numeric overflow occurs
      */
-    private static Duration create(BigDecimal seconds) {
-        BigInteger nanos = seconds.movePointRight(9).toBigIntegerExact();
-        BigInteger[] divRem = nanos.divideAndRemainder(BI_NANOS_PER_SECOND);
-        if (divRem[0].bitLength() > 63) {
-            throw new ArithmeticException("Exceeds capacity of Duration: " + nanos);
+    private static Duration createMagnitude(boolean negative, long absSeconds, long absNanos) {
+        if (absSeconds < 0) {
+            // only the most negative duration has a magnitude of seconds that overflows
+            if (negative == false || absSeconds != Long.MIN_VALUE || absNanos != 0) {
+                throw new ArithmeticException("Exceeds capacity of Duration");
+            }
+            return create(Long.MIN_VALUE, 0);
+        }
+        if (negative) {
+            return ofSeconds(-absSeconds, -absNanos);
         }
-        return ofSeconds(divRem[0].longValue(), divRem[1].intValue());
+        return ofSeconds(absSeconds, absNanos);
     }
 
     //-----------------------------------------------------------------------
@@ -1068,6 +1232,19 @@ public final class Duration
         return millis;
     }
 
+    /**
+     * Converts this duration to the total length in nanoseconds, saturating on overflow.
+     * <p>
+     * This returns the same value as {@link #toNanos()} when the result fits in a {@code long}.
+     * Otherwise, rather than throwing an exception, the result is clamped to
+     * {@code Long.MAX_VALUE} or {@code Long.MIN_VALUE}.
+     *
+     * @return the total length of the duration in nanoseconds, clamped to the range of a {@code long}
+     */
+    public long saturatedNanos() {
+        return saturatedUnits(seconds, nanos, NANOS_PER_SECOND, 1);
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Compares this duration to the specified {@code Duration}.
@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2007-2013, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.bp;
+
+import java.util.Collection;
+
+/**
+ * A growable array of {@code Instant} held as primitive values.
+ * <p>
+ * Each value is held as a {@code long} holding the nanoseconds from 1970-01-01T00:00Z.
+ * The supported range is approximately 1677 to 2262, as per {@link PackedDateTimes}.
+ * Sorting, searching and range queries operate on the primitive values,
+ * and {@code Instant} objects are only created when requested.
+ *
+ * <h3>Specification for implementors</h3>
+ * This class is mutable and not thread-safe.
+ */
+public final class InstantArray extends AbstractTemporalArray<Instant, InstantArray> {
+
+    /**
+     * Constructs an empty array.
+     */
+    public InstantArray() {
+        super(16);
+    }
+
+    /**
+     * Constructs an empty array with the specified capacity.
+     *
+     * @param capacity  the initial capacity, zero or greater
+     * @throws IllegalArgumentException if the capacity is negative
+     */
+    public InstantArray(int capacity) {
+        super(capacity);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param values  the packed values, not null
+     */
+    private InstantArray(long[] values) {
+        super(values, values.length);
+    }
+
+    /**
+     * Obtains an array containing the specified values.
+     *
+     * @param values  the values to add, not null, no nulls
+     * @throws ArithmeticException if a value is outside the supported range
+     * @return the array, not null
+     */
+    public static InstantArray of(Instant... values) {
+        InstantArray array = new InstantArray(values.length);
+        for (Instant value : values) {
+            array.add(value);
+        }
+        return array;
+    }
+
+    /**
+     * Obtains an array containing the specified values.
+     *
+     * @param values  the values to add, not null, no nulls
+     * @throws ArithmeticException if a value is outside the supported range
+     * @return the array, not null
+     */
+    public static InstantArray of(Collection<Instant> values) {
+        InstantArray array = new InstantArray(values.size());
+        for (Instant value : values) {
+            array.add(value);
+        }
+        return array;
+    }
+
+    /**
+     * Obtains an array from packed values.
+     * <p>
+     * The packed values are copied, and are not validated until accessed.
+     *
+     * @param packed  the packed values, not null
+     * @return the array, not null
+     */
+    public static InstantArray ofPacked(long[] packed) {
+        return new InstantArray(packed.clone());
+    }
+
+    //-----------------------------------------------------------------------
+    @Override
+    long pack(Instant value) {
+        return PackedDateTimes.packInstant(value);
+    }
+
+    @Override
+    Instant unpack(long packed) {
+        return PackedDateTimes.unpackInstant(packed);
+    }
+
+    @Override
+    boolean isBeforeRange(Instant value) {
+        return value.getEpochSecond() < 0;
+    }
+
+    @Override
+    InstantArray create(long[] values) {
+        return new InstantArray(values);
+    }
+
+}
@@ -31,7 +31,6 @@
  */
 package org.threeten.bp;
 
-import static org.threeten.bp.LocalTime.SECONDS_PER_DAY;
 import static org.threeten.bp.temporal.ChronoField.ALIGNED_DAY_OF_WEEK_IN_MONTH;
 import static org.threeten.bp.temporal.ChronoField.ALIGNED_DAY_OF_WEEK_IN_YEAR;
 import static org.threeten.bp.temporal.ChronoField.ALIGNED_WEEK_OF_MONTH;
@@ -128,6 +127,15 @@ public final class LocalDate
      * There are 7 leap years from 1970 to 2000.
      */
     static final long DAYS_0000_TO_1970 = (DAYS_PER_CYCLE * 5L) - (30L * 365L + 7L);
+    /**
+     * The number of 400 year cycles added to keep the epoch-day calculations positive.
+     * This covers the whole range of {@code ChronoField.EPOCH_DAY}.
+     */
+    private static final long SHIFT_CYCLES = 2500100;
+    /**
+     * The number of days from the shifted 0000-03-01 to 1970-01-01.
+     */
+    private static final long SHIFT_DAYS_TO_1970 = SHIFT_CYCLES * DAYS_PER_CYCLE + DAYS_0000_TO_1970 - 60;
 
     /**
      * The year.
@@ -186,11 +194,7 @@ public final class LocalDate
      */
     public static LocalDate now(Clock clock) {
         Objects_requireNonNull(clock, "clock");
-        final Instant now = clock.instant();  // called once
-        ZoneOffset offset = clock.getZone().getRules().getOffset(now);
-        long epochSec = now.getEpochSecond() + offset.getTotalSeconds();  // overflow caught later
-        long epochDay = Jdk8Methods.floorDiv(epochSec, SECONDS_PER_DAY);
-        return LocalDate.ofEpochDay(epochDay);
+        return LocalDate.ofEpochDay(clock.epochDay());
     }
 
     //-----------------------------------------------------------------------
@@ -272,35 +276,53 @@ public final class LocalDate
      * @throws DateTimeException if the epoch days exceeds the supported date range
      */
     public static LocalDate ofEpochDay(long epochDay) {
-        long zeroDay = epochDay + DAYS_0000_TO_1970;
-        // find the march-based year
-        zeroDay -= 60;  // adjust to 0000-03-01 so leap day is at end of four year cycle
-        long adjust = 0;
-        if (zeroDay < 0) {
-            // adjust negative years to positive for calculation
-            long adjustCycles = (zeroDay + 1) / DAYS_PER_CYCLE - 1;
-            adjust = adjustCycles * 400;
-            zeroDay += -adjustCycles * DAYS_PER_CYCLE;
-        }
-        long yearEst = (400 * zeroDay + 591) / DAYS_PER_CYCLE;
-        long doyEst = zeroDay - (365 * yearEst + yearEst / 4 - yearEst / 100 + yearEst / 400);
-        if (doyEst < 0) {
-            // fix estimate
-            yearEst--;
-            doyEst = zeroDay - (365 * yearEst + yearEst / 4 - yearEst / 100 + yearEst / 400);
+        EPOCH_DAY.checkValidValue(epochDay);
+        long yearMonthDay = yearMonthDay(epochDay);
+        // check year now we are certain it is correct
+        int year = YEAR.checkValidIntValue(yearMonthDay >> 9);
+        int month = (int) (yearMonthDay >> 5) & 15;
+        int dayOfMonth = (int) yearMonthDay & 31;
+        LocalDateCache cache = LocalDateCache.active;
+        if (cache != null) {
+            LocalDate cached = cache.get(epochDay, year, month, dayOfMonth);
+            if (cached != null) {
+                return cached;
+            }
+            LocalDate date = new LocalDate(year, month, dayOfMonth);
+            cache.put(epochDay, date);
+            return date;
         }
-        yearEst += adjust;  // reset any negative year
-        int marchDoy0 = (int) doyEst;
+        return new LocalDate(year, month, dayOfMonth);
+    }
 
-        // convert march-based values back to january-based
-        int marchMonth0 = (marchDoy0 * 5 + 2) / 153;
-        int month = (marchMonth0 + 2) % 12 + 1;
-        int dom = marchDoy0 - (marchMonth0 * 306 + 5) / 10 + 1;
-        yearEst += marchMonth0 / 10;
+    /**
+     * Converts an epoch day to a packed year, month and day-of-month.
+     * <p>
+     * The result is {@code (year << 9) | (month << 5) | dayOfMonth}.
+     * The epoch day must be within the range of {@code ChronoField.EPOCH_DAY}.
+     * The year is not validated.
+     *
+     * @param epochDay  the Epoch Day to convert, based on the epoch 1970-01-01
+     * @return the packed year, month and day-of-month
+     */
+    static long yearMonthDay(long epochDay) {
+        // Neri-Schneider algorithm, using a march-based year so leap day is at the end
+        // and shifted by whole 400 year cycles so that all values are positive
+        long marchDay = epochDay + SHIFT_DAYS_TO_1970;
+        long n1 = 4 * marchDay + 3;
+        long century = n1 / DAYS_PER_CYCLE;
+        long n2 = (n1 % DAYS_PER_CYCLE) | 3;
+        long p2 = 2939745L * n2;
+        long marchYear = 100 * century + (p2 >>> 32);
+        int marchDoy0 = (int) ((p2 & 0xFFFFFFFFL) / 2939745 / 4);
 
-        // check year now we are certain it is correct
-        int year = YEAR.checkValidIntValue(yearEst);
-        return new LocalDate(year, month, dom);
+        // convert march-based values back to january-based
+        int n3 = 2141 * marchDoy0 + 197913;
+        int january = marchDoy0 >= 306 ? 1 : 0;
+        int month = (n3 >>> 16) - 12 * january;
+        int dom = (n3 & 0xFFFF) / 2141 + 1;
+        long year = marchYear + january - SHIFT_CYCLES * 400;
+        return (year << 9) | (month << 5) | dom;
     }
 
     //-----------------------------------------------------------------------
@@ -376,6 +398,17 @@ public final class LocalDate
                 throw new DateTimeException("Invalid date '" + month.name() + " " + dayOfMonth + "'");
             }
         }
+        LocalDateCache cache = LocalDateCache.active;
+        if (cache != null) {
+            long epochDay = toEpochDay(year, month.getValue(), dayOfMonth);
+            LocalDate cached = cache.get(epochDay, year, month.getValue(), dayOfMonth);
+            if (cached != null) {
+                return cached;
+            }
+            LocalDate date = new LocalDate(year, month.getValue(), dayOfMonth);
+            cache.put(epochDay, date);
+            return date;
+        }
         return new LocalDate(year, month.getValue(), dayOfMonth);
     }
 
@@ -1627,24 +1660,28 @@ public final class LocalDate
     //-----------------------------------------------------------------------
     @Override
     public long toEpochDay() {
-        long y = year;
-        long m = month;
-        long total = 0;
-        total += 365 * y;
-        if (y >= 0) {
-            total += (y + 3) / 4 - (y + 99) / 100 + (y + 399) / 400;
-        } else {
-            total -= y / -4 - y / -100 + y / -400;
-        }
-        total += ((367 * m - 362) / 12);
+        return toEpochDay(year, month, day);
+    }
+
+    /**
+     * Converts a valid year, month and day-of-month to an epoch-day.
+     *
+     * @param year  the year, valid
+     * @param month  the month-of-year, valid
+     * @param day  the day-of-month, valid
+     * @return the Epoch Day
+     */
+    static long toEpochDay(int year, int month, int day) {
+        // Neri-Schneider algorithm, using a march-based year so leap day is at the end
+        // and shifted by whole 400 year cycles so that all values are positive
+        int january = month <= 2 ? 1 : 0;
+        long marchYear = year + SHIFT_CYCLES * 400 - january;
+        int marchMonth = month + 12 * january;
+        long century = marchYear / 100;
+        long total = 1461 * marchYear / 4 - century + century / 4;
+        total += (979 * marchMonth - 2919) / 32;
         total += day - 1;
-        if (m > 2) {
-            total--;
-            if (isLeapYear() == false) {
-                total--;
-            }
-        }
-        return total - DAYS_0000_TO_1970;
+        return total - SHIFT_DAYS_TO_1970;
     }
 
     //-----------------------------------------------------------------------
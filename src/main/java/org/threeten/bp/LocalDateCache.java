@@ -0,0 +1,191 @@
+/*
+ * Copyright (c) 2007-2013, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.bp;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * An opt-in cache of {@code LocalDate} instances.
+ * <p>
+ * When enabled, the {@code LocalDate} factory methods, and the methods that
+ * create dates from an epoch-day such as {@code plusDays}, return cached instances.
+ * This reduces allocation in applications that create the same dates repeatedly,
+ * and makes equal dates within the cache identical objects.
+ * <p>
+ * The cache is a fixed size table indexed by epoch-day. Any window of consecutive
+ * dates up to the size of the cache can be held at once, with newly created dates
+ * replacing those a whole cache size earlier or later. A size of 4096 thus holds
+ * around eleven years of dates. The cache does not lock, and a date may occasionally
+ * be created when racing with another thread, but equal dates are otherwise identical.
+ * <p>
+ * The cache is disabled by default. Applications should not rely on the identity
+ * of dates, as the cache may be disabled or replaced at any time.
+ *
+ * <h3>Specification for implementors</h3>
+ * This class is thread-safe.
+ */
+public final class LocalDateCache {
+
+    /**
+     * The active cache, null if disabled.
+     */
+    static volatile LocalDateCache active;
+
+    /**
+     * The cached dates, indexed by epoch-day.
+     */
+    private final LocalDate[] dates;
+    /**
+     * The mask to obtain the index from the epoch-day.
+     */
+    private final int mask;
+    /**
+     * The number of hits, null if not recording statistics.
+     */
+    private final AtomicLong hits;
+    /**
+     * The number of misses, null if not recording statistics.
+     */
+    private final AtomicLong misses;
+
+    /**
+     * Enables the cache, replacing any existing cache.
+     * <p>
+     * The size is rounded up to a power of two.
+     * Recording statistics adds a shared counter update to each lookup,
+     * and should not be enabled where dates are created heavily from many threads.
+     *
+     * @param size  the number of dates to cache, from 1 to 2^24
+     * @param recordStatistics  whether to count hits and misses
+     * @throws IllegalArgumentException if the size is invalid
+     */
+    public static void enable(int size, boolean recordStatistics) {
+        if (size < 1 || size > (1 << 24)) {
+            throw new IllegalArgumentException("Invalid cache size: " + size);
+        }
+        int capacity = 1;
+        while (capacity < size) {
+            capacity <<= 1;
+        }
+        active = new LocalDateCache(capacity, recordStatistics);
+    }
+
+    /**
+     * Disables the cache, releasing the cached dates.
+     */
+    public static void disable() {
+        active = null;
+    }
+
+    /**
+     * Checks if the cache is enabled.
+     *
+     * @return true if enabled
+     */
+    public static boolean isEnabled() {
+        return active != null;
+    }
+
+    /**
+     * Gets the number of lookups that returned a cached date since the cache was enabled.
+     *
+     * @return the number of hits, zero if disabled or not recording statistics
+     */
+    public static long getHitCount() {
+        LocalDateCache cache = active;
+        return (cache != null && cache.hits != null ? cache.hits.get() : 0);
+    }
+
+    /**
+     * Gets the number of lookups that created a date since the cache was enabled.
+     *
+     * @return the number of misses, zero if disabled or not recording statistics
+     */
+    public static long getMissCount() {
+        LocalDateCache cache = active;
+        return (cache != null && cache.misses != null ? cache.misses.get() : 0);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Constructor.
+     *
+     * @param size  the size, a power of two
+     * @param recordStatistics  whether to count hits and misses
+     */
+    private LocalDateCache(int size, boolean recordStatistics) {
+        this.dates = new LocalDate[size];
+        this.mask = size - 1;
+        this.hits = (recordStatistics ? new AtomicLong() : null);
+        this.misses = (recordStatistics ? new AtomicLong() : null);
+    }
+
+    /**
+     * Gets the cached date for an epoch-day.
+     * <p>
+     * The caller supplies the fields of the date, which are compared to the
+     * cached date to confirm that the slot holds the requested date.
+     *
+     * @param epochDay  the epoch-day of the date
+     * @param year  the year of the date
+     * @param month  the month-of-year of the date, from 1 to 12
+     * @param dayOfMonth  the day-of-month of the date, from 1 to 31
+     * @return the cached date, null if not cached
+     */
+    LocalDate get(long epochDay, int year, int month, int dayOfMonth) {
+        LocalDate date = dates[(int) epochDay & mask];
+        if (date != null && date.getDayOfMonth() == dayOfMonth &&
+                date.getMonthValue() == month && date.getYear() == year) {
+            record(hits);
+            return date;
+        }
+        record(misses);
+        return null;
+    }
+
+    /**
+     * Adds a date to the cache.
+     *
+     * @param epochDay  the epoch-day of the date
+     * @param date  the date, not null
+     */
+    void put(long epochDay, LocalDate date) {
+        dates[(int) epochDay & mask] = date;
+    }
+
+    private static void record(AtomicLong counter) {
+        if (counter != null) {
+            counter.incrementAndGet();
+        }
+    }
+
+}
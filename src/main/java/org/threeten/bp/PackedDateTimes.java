@@ -0,0 +1,448 @@
+/*
+ * Copyright (c) 2007-2013, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.bp;
+
+import static org.threeten.bp.LocalTime.NANOS_PER_DAY;
+import static org.threeten.bp.LocalTime.NANOS_PER_HOUR;
+import static org.threeten.bp.LocalTime.NANOS_PER_MINUTE;
+import static org.threeten.bp.LocalTime.NANOS_PER_SECOND;
+import static org.threeten.bp.LocalTime.SECONDS_PER_MINUTE;
+
+import org.threeten.bp.jdk7.Jdk7Methods;
+import org.threeten.bp.jdk8.Jdk8Methods;
+
+/**
+ * Packed primitive encodings of the core date-time classes.
+ * <p>
+ * This class converts date-time objects to and from primitive values, allowing
+ * large numbers of values to be held in primitive arrays rather than as objects.
+ * All the encodings preserve order, such that comparing the packed values
+ * gives the same result as comparing the objects.
+ * <ul>
+ * <li>{@code LocalDate} is packed to an {@code int} holding the epoch-day.
+ *  The supported range is approximately -5,877,000 to +5,881,000.
+ * <li>{@code LocalDateTime} is packed to a {@code long} holding the nanoseconds
+ *  from 1970-01-01T00:00. The supported range is approximately 1677 to 2262.
+ * <li>{@code Instant} is packed to a {@code long} holding the nanoseconds
+ *  from 1970-01-01T00:00Z. The supported range is approximately 1677 to 2262.
+ *  The full range is available as the long pair of {@link Instant#getEpochSecond()}
+ *  and {@link Instant#getNano()}, which can be compared using
+ *  {@link #compareInstant(long, int, long, int)}.
+ * <li>{@code OffsetDateTime} is packed to a {@code long} holding the instant
+ *  in nanoseconds, as above, plus a {@code short} holding the offset in minutes.
+ *  Offsets with a seconds component are not supported.
+ * </ul>
+ * Methods are provided to extract fields from, compare and add to the packed
+ * values without converting them back to objects.
+ *
+ * <h3>Specification for implementors</h3>
+ * This is a thread-safe utility class.
+ */
+public final class PackedDateTimes {
+
+    /**
+     * Private constructor since this is a utility class.
+     */
+    private PackedDateTimes() {
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Packs a {@code LocalDate} to an epoch-day.
+     *
+     * @param date  the date to pack, not null
+     * @return the packed date
+     * @throws ArithmeticException if the date is outside the supported range
+     */
+    public static int packLocalDate(LocalDate date) {
+        return Jdk8Methods.safeToInt(date.toEpochDay());
+    }
+
+    /**
+     * Packs a year, month and day-of-month to an epoch-day.
+     *
+     * @param year  the year to represent, from MIN_YEAR to MAX_YEAR
+     * @param month  the month-of-year to represent, from 1 (January) to 12 (December)
+     * @param dayOfMonth  the day-of-month to represent, from 1 to 31
+     * @return the packed date
+     * @throws DateTimeException if the value of any field is out of range,
+     *  or if the day-of-month is invalid for the month-year
+     * @throws ArithmeticException if the date is outside the supported range
+     */
+    public static int packLocalDate(int year, int month, int dayOfMonth) {
+        return packLocalDate(LocalDate.of(year, month, dayOfMonth));
+    }
+
+    /**
+     * Unpacks a {@code LocalDate} from an epoch-day.
+     *
+     * @param packed  the packed date
+     * @return the date, not null
+     */
+    public static LocalDate unpackLocalDate(int packed) {
+        return LocalDate.ofEpochDay(packed);
+    }
+
+    /**
+     * Gets the year of a packed date.
+     *
+     * @param packed  the packed date
+     * @return the year
+     */
+    public static int getYear(int packed) {
+        return (int) (LocalDate.yearMonthDay(packed) >> 9);
+    }
+
+    /**
+     * Gets the month-of-year of a packed date.
+     *
+     * @param packed  the packed date
+     * @return the month-of-year, from 1 to 12
+     */
+    public static int getMonthValue(int packed) {
+        return (int) (LocalDate.yearMonthDay(packed) >> 5) & 15;
+    }
+
+    /**
+     * Gets the day-of-month of a packed date.
+     *
+     * @param packed  the packed date
+     * @return the day-of-month, from 1 to 31
+     */
+    public static int getDayOfMonth(int packed) {
+        return (int) LocalDate.yearMonthDay(packed) & 31;
+    }
+
+    /**
+     * Gets the day-of-week of a packed date.
+     *
+     * @param packed  the packed date
+     * @return the day-of-week, from 1 (Monday) to 7 (Sunday)
+     */
+    public static int getDayOfWeek(int packed) {
+        return Jdk8Methods.floorMod(packed + 3L, 7) + 1;
+    }
+
+    /**
+     * Adds days to a packed date.
+     *
+     * @param packed  the packed date
+     * @param daysToAdd  the days to add, may be negative
+     * @return the packed date with the days added
+     * @throws ArithmeticException if the result exceeds the supported range
+     */
+    public static int datePlusDays(int packed, long daysToAdd) {
+        return Jdk8Methods.safeToInt(Jdk8Methods.safeAdd(packed, daysToAdd));
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Packs a {@code LocalDateTime} to nanoseconds from 1970-01-01T00:00.
+     *
+     * @param dateTime  the date-time to pack, not null
+     * @return the packed date-time
+     * @throws ArithmeticException if the date-time is outside the supported range
+     */
+    public static long packLocalDateTime(LocalDateTime dateTime) {
+        return pack(dateTime.toLocalDate().toEpochDay(), dateTime.toLocalTime().toNanoOfDay(), NANOS_PER_DAY);
+    }
+
+    /**
+     * Unpacks a {@code LocalDateTime} from nanoseconds from 1970-01-01T00:00.
+     *
+     * @param packed  the packed date-time
+     * @return the date-time, not null
+     */
+    public static LocalDateTime unpackLocalDateTime(long packed) {
+        return LocalDateTime.of(
+                LocalDate.ofEpochDay(Jdk8Methods.floorDiv(packed, NANOS_PER_DAY)),
+                LocalTime.ofNanoOfDay(Jdk8Methods.floorMod(packed, NANOS_PER_DAY)));
+    }
+
+    /**
+     * Gets the date part of a packed date-time as a packed date.
+     *
+     * @param packed  the packed date-time
+     * @return the packed date
+     */
+    public static int getDate(long packed) {
+        return (int) Jdk8Methods.floorDiv(packed, NANOS_PER_DAY);
+    }
+
+    /**
+     * Gets the nano-of-day of a packed date-time.
+     *
+     * @param packed  the packed date-time
+     * @return the nano-of-day, from 0 to 24 * 60 * 60 * 1,000,000,000 - 1
+     */
+    public static long getNanoOfDay(long packed) {
+        return Jdk8Methods.floorMod(packed, NANOS_PER_DAY);
+    }
+
+    /**
+     * Gets the hour-of-day of a packed date-time.
+     *
+     * @param packed  the packed date-time
+     * @return the hour-of-day, from 0 to 23
+     */
+    public static int getHour(long packed) {
+        return (int) (getNanoOfDay(packed) / NANOS_PER_HOUR);
+    }
+
+    /**
+     * Gets the minute-of-hour of a packed date-time.
+     *
+     * @param packed  the packed date-time
+     * @return the minute-of-hour, from 0 to 59
+     */
+    public static int getMinute(long packed) {
+        return (int) (getNanoOfDay(packed) / NANOS_PER_MINUTE % 60);
+    }
+
+    /**
+     * Gets the second-of-minute of a packed date-time.
+     *
+     * @param packed  the packed date-time
+     * @return the second-of-minute, from 0 to 59
+     */
+    public static int getSecond(long packed) {
+        return (int) (getNanoOfDay(packed) / NANOS_PER_SECOND % SECONDS_PER_MINUTE);
+    }
+
+    /**
+     * Gets the nano-of-second of a packed date-time or instant.
+     *
+     * @param packed  the packed date-time or instant
+     * @return the nano-of-second, from 0 to 999,999,999
+     */
+    public static int getNano(long packed) {
+        return (int) Jdk8Methods.floorMod(packed, NANOS_PER_SECOND);
+    }
+
+    /**
+     * Gets the seconds from the epoch of a packed date-time or instant.
+     * <p>
+     * For a packed instant, this is the epoch-second.
+     * For a packed date-time, this is the local epoch-second.
+     *
+     * @param packed  the packed date-time or instant
+     * @return the seconds from the epoch
+     */
+    public static long getEpochSecond(long packed) {
+        return Jdk8Methods.floorDiv(packed, NANOS_PER_SECOND);
+    }
+
+    /**
+     * Adds days to a packed date-time.
+     *
+     * @param packed  the packed date-time
+     * @param daysToAdd  the days to add, may be negative
+     * @return the packed date-time with the days added
+     * @throws ArithmeticException if the result exceeds the supported range
+     */
+    public static long dateTimePlusDays(long packed, long daysToAdd) {
+        return Jdk8Methods.safeAdd(packed, Jdk8Methods.safeMultiply(daysToAdd, NANOS_PER_DAY));
+    }
+
+    /**
+     * Adds seconds to a packed date-time or instant.
+     *
+     * @param packed  the packed date-time or instant
+     * @param secondsToAdd  the seconds to add, may be negative
+     * @return the packed value with the seconds added
+     * @throws ArithmeticException if the result exceeds the supported range
+     */
+    public static long plusSeconds(long packed, long secondsToAdd) {
+        return Jdk8Methods.safeAdd(packed, Jdk8Methods.safeMultiply(secondsToAdd, NANOS_PER_SECOND));
+    }
+
+    /**
+     * Adds nanoseconds to a packed date-time or instant.
+     *
+     * @param packed  the packed date-time or instant
+     * @param nanosToAdd  the nanoseconds to add, may be negative
+     * @return the packed value with the nanoseconds added
+     * @throws ArithmeticException if the result exceeds the supported range
+     */
+    public static long plusNanos(long packed, long nanosToAdd) {
+        return Jdk8Methods.safeAdd(packed, nanosToAdd);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Packs an {@code Instant} to nanoseconds from 1970-01-01T00:00Z.
+     *
+     * @param instant  the instant to pack, not null
+     * @return the packed instant
+     * @throws ArithmeticException if the instant is outside the supported range
+     */
+    public static long packInstant(Instant instant) {
+        return packInstant(instant.getEpochSecond(), instant.getNano());
+    }
+
+    /**
+     * Packs an epoch-second and nano-of-second to nanoseconds from 1970-01-01T00:00Z.
+     *
+     * @param epochSecond  the epoch-second
+     * @param nanoOfSecond  the nano-of-second, from 0 to 999,999,999
+     * @return the packed instant
+     * @throws ArithmeticException if the instant is outside the supported range
+     */
+    public static long packInstant(long epochSecond, int nanoOfSecond) {
+        return pack(epochSecond, nanoOfSecond, NANOS_PER_SECOND);
+    }
+
+    /**
+     * Unpacks an {@code Instant} from nanoseconds from 1970-01-01T00:00Z.
+     *
+     * @param packed  the packed instant
+     * @return the instant, not null
+     */
+    public static Instant unpackInstant(long packed) {
+        return Instant.ofEpochSecond(getEpochSecond(packed), getNano(packed));
+    }
+
+    /**
+     * Compares two instants held as epoch-second and nano-of-second pairs.
+     * <p>
+     * This allows the full range of {@code Instant} to be compared without
+     * creating objects.
+     *
+     * @param epochSecond1  the epoch-second of the first instant
+     * @param nano1  the nano-of-second of the first instant
+     * @param epochSecond2  the epoch-second of the second instant
+     * @param nano2  the nano-of-second of the second instant
+     * @return the comparator value, negative if less, positive if greater
+     */
+    public static int compareInstant(long epochSecond1, int nano1, long epochSecond2, int nano2) {
+        int cmp = Jdk7Methods.Long_compare(epochSecond1, epochSecond2);
+        if (cmp != 0) {
+            return cmp;
+        }
+        return nano1 - nano2;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Packs the instant of an {@code OffsetDateTime} to nanoseconds from 1970-01-01T00:00Z.
+     * <p>
+     * The offset must be packed separately using {@link #packOffset(ZoneOffset)}.
+     *
+     * @param dateTime  the date-time to pack, not null
+     * @return the packed instant
+     * @throws ArithmeticException if the date-time is outside the supported range
+     */
+    public static long packOffsetDateTime(OffsetDateTime dateTime) {
+        return packInstant(dateTime.toEpochSecond(), dateTime.getNano());
+    }
+
+    /**
+     * Packs a {@code ZoneOffset} to a number of minutes.
+     *
+     * @param offset  the offset to pack, not null
+     * @return the packed offset
+     * @throws DateTimeException if the offset has a seconds component
+     */
+    public static short packOffset(ZoneOffset offset) {
+        int totalSeconds = offset.getTotalSeconds();
+        if (totalSeconds % SECONDS_PER_MINUTE != 0) {
+            throw new DateTimeException("Unable to pack offset with seconds: " + offset);
+        }
+        return (short) (totalSeconds / SECONDS_PER_MINUTE);
+    }
+
+    /**
+     * Unpacks a {@code ZoneOffset} from a number of minutes.
+     *
+     * @param packedOffset  the packed offset
+     * @return the offset, not null
+     * @throws DateTimeException if the offset is invalid
+     */
+    public static ZoneOffset unpackOffset(short packedOffset) {
+        return ZoneOffset.ofTotalSeconds(packedOffset * SECONDS_PER_MINUTE);
+    }
+
+    /**
+     * Unpacks an {@code OffsetDateTime} from a packed instant and offset.
+     *
+     * @param packed  the packed instant
+     * @param packedOffset  the packed offset
+     * @return the date-time, not null
+     * @throws DateTimeException if the offset is invalid
+     */
+    public static OffsetDateTime unpackOffsetDateTime(long packed, short packedOffset) {
+        ZoneOffset offset = unpackOffset(packedOffset);
+        return OffsetDateTime.of(LocalDateTime.ofEpochSecond(getEpochSecond(packed), getNano(packed), offset), offset);
+    }
+
+    /**
+     * Converts a packed instant and offset to a packed local date-time.
+     *
+     * @param packed  the packed instant
+     * @param packedOffset  the packed offset
+     * @return the packed local date-time
+     * @throws ArithmeticException if the result exceeds the supported range
+     */
+    public static long toLocalDateTime(long packed, short packedOffset) {
+        return plusSeconds(packed, packedOffset * SECONDS_PER_MINUTE);
+    }
+
+    /**
+     * Compares two packed offset date-times.
+     * <p>
+     * The comparison is consistent with {@link OffsetDateTime#compareTo(OffsetDateTime)},
+     * being based on the instant, then on the offset.
+     *
+     * @param packed1  the packed instant of the first date-time
+     * @param packedOffset1  the packed offset of the first date-time
+     * @param packed2  the packed instant of the second date-time
+     * @param packedOffset2  the packed offset of the second date-time
+     * @return the comparator value, negative if less, positive if greater
+     */
+    public static int compareOffsetDateTime(long packed1, short packedOffset1, long packed2, short packedOffset2) {
+        int cmp = Jdk7Methods.Long_compare(packed1, packed2);
+        if (cmp != 0) {
+            return cmp;
+        }
+        return packedOffset1 - packedOffset2;
+    }
+
+    //-----------------------------------------------------------------------
+    private static long pack(long units, long nanoOfUnit, long nanosPerUnit) {
+        if (units < 0 && nanoOfUnit > 0) {
+            // avoid overflowing before adding the nanos at the bottom of the range
+            return Jdk8Methods.safeAdd(Jdk8Methods.safeMultiply(units + 1, nanosPerUnit), nanoOfUnit - nanosPerUnit);
+        }
+        return Jdk8Methods.safeAdd(Jdk8Methods.safeMultiply(units, nanosPerUnit), nanoOfUnit);
+    }
+
+}
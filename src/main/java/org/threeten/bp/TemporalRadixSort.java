@@ -0,0 +1,512 @@
+/*
+ * Copyright (c) 2007-2013, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.bp;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.ListIterator;
+
+import org.threeten.bp.chrono.ChronoLocalDate;
+import org.threeten.bp.chrono.ChronoLocalDateTime;
+import org.threeten.bp.chrono.ChronoZonedDateTime;
+
+/**
+ * Sorting of date-time objects using a primitive radix sort.
+ * <p>
+ * Each date-time type has an unsigned sort key, held as one {@code long} or
+ * as a high and low pair of {@code long}, which preserves the order of the
+ * associated comparator. Comparing the keys as unsigned values, high then low,
+ * gives the same order as comparing the objects.
+ * <ul>
+ * <li>{@code ChronoLocalDate} has a single key based on the epoch-day,
+ *  matching {@link ChronoLocalDate#DATE_COMPARATOR}.
+ * <li>{@code LocalTime} has a single key of the nano-of-day.
+ * <li>{@code ChronoLocalDateTime} has a high key based on the epoch-day and a low
+ *  key of the nano-of-day, matching {@link ChronoLocalDateTime#DATE_TIME_COMPARATOR}.
+ * <li>{@code Instant}, {@code ChronoZonedDateTime} and {@code OffsetDateTime} have a high
+ *  key based on the epoch-second and a low key of the nano-of-second, matching the
+ *  position on the instant time-line.
+ * </ul>
+ * The sort methods compute the keys once per element and then sort them using
+ * a least significant digit radix sort, avoiding the cost of a comparator call
+ * for every comparison. The sorts are stable, thus equal elements are not reordered.
+ * Digits that are the same for every element are skipped, so narrow ranges of
+ * values sort in fewer passes.
+ * <p>
+ * The sorts allocate working arrays proportional to the number of elements.
+ * For small numbers of elements a comparator based sort is likely to be faster.
+ *
+ * <h3>Specification for implementors</h3>
+ * This is a thread-safe utility class.
+ */
+public final class TemporalRadixSort {
+
+    /**
+     * The number of bits in a digit.
+     */
+    private static final int DIGIT_BITS = 8;
+    /**
+     * The number of distinct digits.
+     */
+    private static final int RADIX = 1 << DIGIT_BITS;
+    /**
+     * The number of digits in a {@code long}.
+     */
+    private static final int DIGITS = 64 / DIGIT_BITS;
+
+    /**
+     * Private constructor since this is a utility class.
+     */
+    private TemporalRadixSort() {
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the unsigned sort key of a date.
+     *
+     * @param date  the date to obtain the key for, not null
+     * @return the unsigned sort key
+     */
+    public static long key(ChronoLocalDate<?> date) {
+        return date.toEpochDay() ^ Long.MIN_VALUE;
+    }
+
+    /**
+     * Gets the unsigned sort key of a time.
+     *
+     * @param time  the time to obtain the key for, not null
+     * @return the unsigned sort key
+     */
+    public static long key(LocalTime time) {
+        return time.toNanoOfDay();
+    }
+
+    /**
+     * Gets the high unsigned sort key of a date-time.
+     *
+     * @param dateTime  the date-time to obtain the key for, not null
+     * @return the high unsigned sort key
+     */
+    public static long keyHigh(ChronoLocalDateTime<?> dateTime) {
+        return dateTime.toLocalDate().toEpochDay() ^ Long.MIN_VALUE;
+    }
+
+    /**
+     * Gets the low unsigned sort key of a date-time.
+     *
+     * @param dateTime  the date-time to obtain the key for, not null
+     * @return the low unsigned sort key
+     */
+    public static long keyLow(ChronoLocalDateTime<?> dateTime) {
+        return dateTime.toLocalTime().toNanoOfDay();
+    }
+
+    /**
+     * Gets the high unsigned sort key of an instant.
+     *
+     * @param instant  the instant to obtain the key for, not null
+     * @return the high unsigned sort key
+     */
+    public static long keyHigh(Instant instant) {
+        return instant.getEpochSecond() ^ Long.MIN_VALUE;
+    }
+
+    /**
+     * Gets the low unsigned sort key of an instant.
+     *
+     * @param instant  the instant to obtain the key for, not null
+     * @return the low unsigned sort key
+     */
+    public static long keyLow(Instant instant) {
+        return instant.getNano();
+    }
+
+    /**
+     * Gets the high unsigned sort key of a zoned date-time.
+     *
+     * @param dateTime  the date-time to obtain the key for, not null
+     * @return the high unsigned sort key
+     */
+    public static long keyHigh(ChronoZonedDateTime<?> dateTime) {
+        return dateTime.toEpochSecond() ^ Long.MIN_VALUE;
+    }
+
+    /**
+     * Gets the low unsigned sort key of a zoned date-time.
+     *
+     * @param dateTime  the date-time to obtain the key for, not null
+     * @return the low unsigned sort key
+     */
+    public static long keyLow(ChronoZonedDateTime<?> dateTime) {
+        return dateTime.toLocalTime().getNano();
+    }
+
+    /**
+     * Gets the high unsigned sort key of an offset date-time.
+     *
+     * @param dateTime  the date-time to obtain the key for, not null
+     * @return the high unsigned sort key
+     */
+    public static long keyHigh(OffsetDateTime dateTime) {
+        return dateTime.toEpochSecond() ^ Long.MIN_VALUE;
+    }
+
+    /**
+     * Gets the low unsigned sort key of an offset date-time.
+     *
+     * @param dateTime  the date-time to obtain the key for, not null
+     * @return the low unsigned sort key
+     */
+    public static long keyLow(OffsetDateTime dateTime) {
+        return dateTime.getNano();
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Sorts a list of dates into ascending order of the local time-line.
+     *
+     * @param <T>  the type of date
+     * @param list  the list to sort, not null, no null elements
+     * @throws UnsupportedOperationException if the list does not support {@code set}
+     */
+    public static <T extends ChronoLocalDate<?>> void sortDates(List<T> list) {
+        Object[] array = list.toArray();
+        sortDates(array);
+        copyBack(array, list);
+    }
+
+    /**
+     * Sorts an array of dates into ascending order of the local time-line.
+     *
+     * @param array  the array to sort, not null, no null elements
+     */
+    public static void sortDates(ChronoLocalDate<?>[] array) {
+        sortDates((Object[]) array);
+    }
+
+    private static void sortDates(Object[] array) {
+        long[] keys = new long[array.length];
+        for (int i = 0; i < array.length; i++) {
+            keys[i] = key((ChronoLocalDate<?>) array[i]);
+        }
+        reorder(array, sortedOrder(keys, null));
+    }
+
+    /**
+     * Sorts a list of times into ascending order.
+     *
+     * @param list  the list to sort, not null, no null elements
+     * @throws UnsupportedOperationException if the list does not support {@code set}
+     */
+    public static void sortTimes(List<LocalTime> list) {
+        Object[] array = list.toArray();
+        sortTimes(array);
+        copyBack(array, list);
+    }
+
+    /**
+     * Sorts an array of times into ascending order.
+     *
+     * @param array  the array to sort, not null, no null elements
+     */
+    public static void sortTimes(LocalTime[] array) {
+        sortTimes((Object[]) array);
+    }
+
+    private static void sortTimes(Object[] array) {
+        long[] keys = new long[array.length];
+        for (int i = 0; i < array.length; i++) {
+            keys[i] = key((LocalTime) array[i]);
+        }
+        reorder(array, sortedOrder(keys, null));
+    }
+
+    /**
+     * Sorts a list of date-times into ascending order of the local time-line.
+     *
+     * @param <T>  the type of date-time
+     * @param list  the list to sort, not null, no null elements
+     * @throws UnsupportedOperationException if the list does not support {@code set}
+     */
+    public static <T extends ChronoLocalDateTime<?>> void sortDateTimes(List<T> list) {
+        Object[] array = list.toArray();
+        sortDateTimes(array);
+        copyBack(array, list);
+    }
+
+    /**
+     * Sorts an array of date-times into ascending order of the local time-line.
+     *
+     * @param array  the array to sort, not null, no null elements
+     */
+    public static void sortDateTimes(ChronoLocalDateTime<?>[] array) {
+        sortDateTimes((Object[]) array);
+    }
+
+    private static void sortDateTimes(Object[] array) {
+        long[] high = new long[array.length];
+        long[] low = new long[array.length];
+        for (int i = 0; i < array.length; i++) {
+            ChronoLocalDateTime<?> dateTime = (ChronoLocalDateTime<?>) array[i];
+            high[i] = keyHigh(dateTime);
+            low[i] = keyLow(dateTime);
+        }
+        reorder(array, sortedOrder(high, low));
+    }
+
+    /**
+     * Sorts a list of instants into ascending order.
+     *
+     * @param list  the list to sort, not null, no null elements
+     * @throws UnsupportedOperationException if the list does not support {@code set}
+     */
+    public static void sortInstants(List<Instant> list) {
+        Object[] array = list.toArray();
+        sortInstants(array);
+        copyBack(array, list);
+    }
+
+    /**
+     * Sorts an array of instants into ascending order.
+     *
+     * @param array  the array to sort, not null, no null elements
+     */
+    public static void sortInstants(Instant[] array) {
+        sortInstants((Object[]) array);
+    }
+
+    private static void sortInstants(Object[] array) {
+        long[] high = new long[array.length];
+        long[] low = new long[array.length];
+        for (int i = 0; i < array.length; i++) {
+            Instant instant = (Instant) array[i];
+            high[i] = keyHigh(instant);
+            low[i] = keyLow(instant);
+        }
+        reorder(array, sortedOrder(high, low));
+    }
+
+    /**
+     * Sorts a list of zoned date-times into ascending order of the instant time-line.
+     * <p>
+     * Date-times at the same instant retain their relative order.
+     *
+     * @param <T>  the type of date-time
+     * @param list  the list to sort, not null, no null elements
+     * @throws UnsupportedOperationException if the list does not support {@code set}
+     */
+    public static <T extends ChronoZonedDateTime<?>> void sortZonedDateTimes(List<T> list) {
+        Object[] array = list.toArray();
+        sortZonedDateTimes(array);
+        copyBack(array, list);
+    }
+
+    /**
+     * Sorts an array of zoned date-times into ascending order of the instant time-line.
+     * <p>
+     * Date-times at the same instant retain their relative order.
+     *
+     * @param array  the array to sort, not null, no null elements
+     */
+    public static void sortZonedDateTimes(ChronoZonedDateTime<?>[] array) {
+        sortZonedDateTimes((Object[]) array);
+    }
+
+    private static void sortZonedDateTimes(Object[] array) {
+        long[] high = new long[array.length];
+        long[] low = new long[array.length];
+        for (int i = 0; i < array.length; i++) {
+            ChronoZonedDateTime<?> dateTime = (ChronoZonedDateTime<?>) array[i];
+            high[i] = keyHigh(dateTime);
+            low[i] = keyLow(dateTime);
+        }
+        reorder(array, sortedOrder(high, low));
+    }
+
+    /**
+     * Sorts a list of offset date-times into ascending order of the instant time-line.
+     * <p>
+     * Date-times at the same instant retain their relative order.
+     *
+     * @param list  the list to sort, not null, no null elements
+     * @throws UnsupportedOperationException if the list does not support {@code set}
+     */
+    public static void sortOffsetDateTimes(List<OffsetDateTime> list) {
+        Object[] array = list.toArray();
+        sortOffsetDateTimes(array);
+        copyBack(array, list);
+    }
+
+    /**
+     * Sorts an array of offset date-times into ascending order of the instant time-line.
+     * <p>
+     * Date-times at the same instant retain their relative order.
+     *
+     * @param array  the array to sort, not null, no null elements
+     */
+    public static void sortOffsetDateTimes(OffsetDateTime[] array) {
+        sortOffsetDateTimes((Object[]) array);
+    }
+
+    private static void sortOffsetDateTimes(Object[] array) {
+        long[] high = new long[array.length];
+        long[] low = new long[array.length];
+        for (int i = 0; i < array.length; i++) {
+            OffsetDateTime dateTime = (OffsetDateTime) array[i];
+            high[i] = keyHigh(dateTime);
+            low[i] = keyLow(dateTime);
+        }
+        reorder(array, sortedOrder(high, low));
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Sorts a range of an array of signed values into ascending order.
+     *
+     * @param values  the values to sort, not null
+     * @param fromIndex  the start index, inclusive
+     * @param toIndex  the end index, exclusive
+     */
+    static void sort(long[] values, int fromIndex, int toIndex) {
+        long[] keys = new long[toIndex - fromIndex];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = values[fromIndex + i] ^ Long.MIN_VALUE;
+        }
+        keys = radixSort(keys, null);
+        for (int i = 0; i < keys.length; i++) {
+            values[fromIndex + i] = keys[i] ^ Long.MIN_VALUE;
+        }
+    }
+
+    /**
+     * Calculates the stable sorted order of unsigned keys.
+     *
+     * @param high  the high keys, not null
+     * @param low  the low keys, null if there are only high keys
+     * @return the indices of the keys in sorted order, not null
+     */
+    private static int[] sortedOrder(long[] high, long[] low) {
+        int[] order = new int[high.length];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        if (low != null) {
+            radixSort(low, order);
+            long[] ordered = new long[high.length];
+            for (int i = 0; i < order.length; i++) {
+                ordered[i] = high[order[i]];
+            }
+            high = ordered;
+        }
+        radixSort(high, order);
+        return order;
+    }
+
+    /**
+     * Sorts unsigned keys using a least significant digit radix sort.
+     * <p>
+     * The order array, if present, is permuted alongside the keys.
+     * The keys and order are sorted in place, except that the
+     * returned keys may be a different array of the same length.
+     *
+     * @param keys  the keys to sort, not null
+     * @param order  the associated indices to permute, may be null
+     * @return the sorted keys, not null
+     */
+    private static long[] radixSort(long[] keys, int[] order) {
+        int size = keys.length;
+        int[][] counts = new int[DIGITS][RADIX];
+        for (int i = 0; i < size; i++) {
+            long key = keys[i];
+            for (int digit = 0; digit < DIGITS; digit++) {
+                counts[digit][(int) (key >>> (digit * DIGIT_BITS)) & (RADIX - 1)]++;
+            }
+        }
+        long[] keysIn = keys;
+        long[] keysOut = new long[size];
+        int[] orderIn = order;
+        int[] orderOut = (order != null ? new int[size] : null);
+        for (int digit = 0; digit < DIGITS; digit++) {
+            int shift = digit * DIGIT_BITS;
+            int[] offsets = counts[digit];
+            if (size == 0 || offsets[(int) (keysIn[0] >>> shift) & (RADIX - 1)] == size) {
+                continue;  // every key has the same digit
+            }
+            int total = 0;
+            for (int bucket = 0; bucket < RADIX; bucket++) {
+                int count = offsets[bucket];
+                offsets[bucket] = total;
+                total += count;
+            }
+            for (int i = 0; i < size; i++) {
+                int pos = offsets[(int) (keysIn[i] >>> shift) & (RADIX - 1)]++;
+                keysOut[pos] = keysIn[i];
+                if (orderIn != null) {
+                    orderOut[pos] = orderIn[i];
+                }
+            }
+            long[] keysTemp = keysIn;
+            keysIn = keysOut;
+            keysOut = keysTemp;
+            int[] orderTemp = orderIn;
+            orderIn = orderOut;
+            orderOut = orderTemp;
+        }
+        if (orderIn != order) {
+            System.arraycopy(orderIn, 0, order, 0, size);
+        }
+        return keysIn;
+    }
+
+    /**
+     * Reorders an array into the specified order.
+     */
+    private static void reorder(Object[] array, int[] order) {
+        Object[] copy = Arrays.copyOf(array, array.length);
+        for (int i = 0; i < order.length; i++) {
+            array[i] = copy[order[i]];
+        }
+    }
+
+    /**
+     * Copies the sorted array back into the list.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> void copyBack(Object[] array, List<T> list) {
+        ListIterator<T> it = list.listIterator();
+        for (Object element : array) {
+            it.next();
+            it.set((T) element);
+        }
+    }
+
+}
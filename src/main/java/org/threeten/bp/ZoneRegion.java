@@ -79,9 +79,10 @@ final class ZoneRegion extends ZoneId implements Serializable {
      */
     private final String id;
     /**
-     * The time-zone rules, null if zone ID was loaded leniently.
+     * The time-zone rules and the refresh count they were obtained at,
+     * null if zone ID was loaded leniently and the rules have not been looked up.
      */
-    private final transient ZoneRules rules;
+    private transient volatile Bound bound;
 
     /**
      * Obtains an instance of {@code ZoneRegion} from an identifier without checking
@@ -119,6 +120,7 @@ final class ZoneRegion extends ZoneId implements Serializable {
             throw new DateTimeException("Invalid ID for region-based ZoneId, invalid format: " + zoneId);
         }
         ZoneRules rules = null;
+        int refreshCount = ZoneRulesProvider.getRefreshCount();
         try {
             // always attempt load for better behavior after deserialization
             rules = ZoneRulesProvider.getRules(zoneId);
@@ -127,7 +129,7 @@ final class ZoneRegion extends ZoneId implements Serializable {
                 throw ex;
             }
         }
-        return new ZoneRegion(zoneId, rules);
+        return new ZoneRegion(zoneId, rules, refreshCount);
     }
 
     //-------------------------------------------------------------------------
@@ -136,10 +138,11 @@ final class ZoneRegion extends ZoneId implements Serializable {
      *
      * @param id  the time-zone ID, not null
      * @param rules  the rules, null for lazy lookup
+     * @param refreshCount  the refresh count of the provider before the rules were obtained
      */
-    ZoneRegion(String id, ZoneRules rules) {
+    ZoneRegion(String id, ZoneRules rules, int refreshCount) {
         this.id = id;
-        this.rules = rules;
+        this.bound = (rules != null ? new Bound(refreshCount, rules) : null);
     }
 
     //-----------------------------------------------------------------------
@@ -152,7 +155,15 @@ final class ZoneRegion extends ZoneId implements Serializable {
     public ZoneRules getRules() {
         // additional query for group provider when null allows for possibility
         // that the provider was added after the ZoneId was created
-        return (rules != null ? rules : ZoneRulesProvider.getRules(id));
+        // or when the rules may have been refreshed since the ZoneId was created
+        int refreshCount = ZoneRulesProvider.getRefreshCount();
+        Bound bound = this.bound;
+        if (bound != null && bound.refreshCount == refreshCount) {
+            return bound.rules;
+        }
+        ZoneRules rules = ZoneRulesProvider.getRules(id);
+        this.bound = new Bound(refreshCount, rules);
+        return rules;
     }
 
     //-----------------------------------------------------------------------
@@ -184,4 +195,24 @@ final class ZoneRegion extends ZoneId implements Serializable {
         return ofLenient(id);
     }
 
+    //-----------------------------------------------------------------------
+    /**
+     * The rules of a region together with the refresh count they were obtained at.
+     */
+    private static final class Bound {
+        /**
+         * The refresh count of the provider before the rules were obtained.
+         */
+        private final int refreshCount;
+        /**
+         * The time-zone rules, not null.
+         */
+        private final ZoneRules rules;
+
+        private Bound(int refreshCount, ZoneRules rules) {
+            this.refreshCount = refreshCount;
+            this.rules = rules;
+        }
+    }
+
 }
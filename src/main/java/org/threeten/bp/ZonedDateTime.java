@@ -556,7 +556,7 @@ public final class ZonedDateTime
      * @param offset  the zone offset, validated as not null
      * @param zone  the time-zone, validated as not null
      */
-    private ZonedDateTime(LocalDateTime dateTime, ZoneOffset offset, ZoneId zone) {
+    ZonedDateTime(LocalDateTime dateTime, ZoneOffset offset, ZoneId zone) {
         this.dateTime = dateTime;
         this.offset = offset;
         this.zone = zone;
@@ -0,0 +1,420 @@
+/*
+ * Copyright (c) 2007-2013, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.bp;
+
+import static org.threeten.bp.jdk7.Jdk7Methods.Objects_requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.threeten.bp.zone.ZoneOffsetTransitionCursor;
+import org.threeten.bp.zone.ZoneRules;
+
+/**
+ * Resolves sorted local date-times to offsets and zoned date-times in bulk.
+ * <p>
+ * Calling {@link ZonedDateTime#ofLocal(LocalDateTime, ZoneId, ZoneOffset)} for each
+ * value searches the zone rules and allocates a list of valid offsets per value.
+ * This class instead walks the transitions once, using a {@link ZoneOffsetTransitionCursor}
+ * over the range of the input, and resolves each value against the current transition.
+ * The input must be in ascending order.
+ * <p>
+ * Local date-times in a gap or overlap are resolved using the strategies supplied
+ * when the resolver is created. Using {@link GapStrategy#SHIFT_FORWARD} and
+ * {@link OverlapStrategy#EARLIER_OFFSET} matches {@code ZonedDateTime.ofLocal}
+ * with no preferred offset.
+ *
+ * <h3>Specification for implementors</h3>
+ * This class is immutable and thread-safe.
+ */
+public final class ZonedDateTimeResolver {
+
+    /**
+     * The result of locating a value that is not in a gap or overlap.
+     */
+    private static final int NORMAL = 0;
+    /**
+     * The result of locating a value that is in a gap.
+     */
+    private static final int GAP = 1;
+    /**
+     * The result of locating a value that is in an overlap.
+     */
+    private static final int OVERLAP = 2;
+
+    /**
+     * The time-zone.
+     */
+    private final ZoneId zone;
+    /**
+     * The rules of the time-zone.
+     */
+    private final ZoneRules rules;
+    /**
+     * The gap strategy.
+     */
+    private final GapStrategy gapStrategy;
+    /**
+     * The overlap strategy.
+     */
+    private final OverlapStrategy overlapStrategy;
+
+    /**
+     * Obtains a resolver matching {@link ZonedDateTime#of(LocalDateTime, ZoneId)}.
+     * <p>
+     * Local date-times in a gap are shifted forward by the length of the gap,
+     * and those in an overlap use the earlier offset.
+     *
+     * @param zone  the time-zone, not null
+     * @return the resolver, not null
+     */
+    public static ZonedDateTimeResolver of(ZoneId zone) {
+        return of(zone, GapStrategy.SHIFT_FORWARD, OverlapStrategy.EARLIER_OFFSET);
+    }
+
+    /**
+     * Obtains a resolver using the specified strategies.
+     *
+     * @param zone  the time-zone, not null
+     * @param gapStrategy  the strategy for local date-times in a gap, not null
+     * @param overlapStrategy  the strategy for local date-times in an overlap, not null
+     * @return the resolver, not null
+     */
+    public static ZonedDateTimeResolver of(ZoneId zone, GapStrategy gapStrategy, OverlapStrategy overlapStrategy) {
+        Objects_requireNonNull(zone, "zone");
+        Objects_requireNonNull(gapStrategy, "gapStrategy");
+        Objects_requireNonNull(overlapStrategy, "overlapStrategy");
+        return new ZonedDateTimeResolver(zone, gapStrategy, overlapStrategy);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param zone  the time-zone, not null
+     * @param gapStrategy  the gap strategy, not null
+     * @param overlapStrategy  the overlap strategy, not null
+     */
+    private ZonedDateTimeResolver(ZoneId zone, GapStrategy gapStrategy, OverlapStrategy overlapStrategy) {
+        this.zone = zone;
+        this.rules = zone.getRules();
+        this.gapStrategy = gapStrategy;
+        this.overlapStrategy = overlapStrategy;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the time-zone.
+     *
+     * @return the time-zone, not null
+     */
+    public ZoneId getZone() {
+        return zone;
+    }
+
+    /**
+     * Gets the strategy for local date-times in a gap.
+     *
+     * @return the gap strategy, not null
+     */
+    public GapStrategy getGapStrategy() {
+        return gapStrategy;
+    }
+
+    /**
+     * Gets the strategy for local date-times in an overlap.
+     *
+     * @return the overlap strategy, not null
+     */
+    public OverlapStrategy getOverlapStrategy() {
+        return overlapStrategy;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Resolves a sorted list of local date-times to zoned date-times.
+     *
+     * @param localDateTimes  the local date-times in ascending order, not null
+     * @return a new list of zoned date-times in the same order, not null
+     * @throws IllegalArgumentException if the local date-times are not in ascending order
+     * @throws DateTimeException if a local date-time is rejected by a strategy
+     */
+    public List<ZonedDateTime> resolve(List<LocalDateTime> localDateTimes) {
+        Objects_requireNonNull(localDateTimes, "localDateTimes");
+        int size = localDateTimes.size();
+        List<ZonedDateTime> result = new ArrayList<ZonedDateTime>(size);
+        if (size == 0) {
+            return result;
+        }
+        Walk walk = new Walk(
+                localDateTimes.get(0).toEpochSecond(ZoneOffset.UTC),
+                localDateTimes.get(size - 1).toEpochSecond(ZoneOffset.UTC));
+        for (LocalDateTime localDateTime : localDateTimes) {
+            result.add(resolve(walk, localDateTime));
+        }
+        return result;
+    }
+
+    /**
+     * Resolves a sorted array of local date-times to zoned date-times.
+     *
+     * @param localDateTimes  the local date-times in ascending order, not null
+     * @return a new list of zoned date-times in the same order, not null
+     * @throws IllegalArgumentException if the local date-times are not in ascending order
+     * @throws DateTimeException if a local date-time is rejected by a strategy
+     */
+    public List<ZonedDateTime> resolve(LocalDateTimeArray localDateTimes) {
+        Objects_requireNonNull(localDateTimes, "localDateTimes");
+        int size = localDateTimes.size();
+        List<ZonedDateTime> result = new ArrayList<ZonedDateTime>(size);
+        if (size == 0) {
+            return result;
+        }
+        Walk walk = new Walk(
+                PackedDateTimes.getEpochSecond(localDateTimes.getPacked(0)),
+                PackedDateTimes.getEpochSecond(localDateTimes.getPacked(size - 1)));
+        for (int i = 0; i < size; i++) {
+            result.add(resolve(walk, PackedDateTimes.unpackLocalDateTime(localDateTimes.getPacked(i))));
+        }
+        return result;
+    }
+
+    /**
+     * Resolves sorted local epoch-seconds to epoch-seconds and offsets.
+     * <p>
+     * The local epoch-second is the number of seconds from 1970-01-01T00:00 in the
+     * local time-line, as per {@link LocalDateTime#toEpochSecond(ZoneOffset)} with
+     * an offset of zero. Each value is resolved to the epoch-second of the instant
+     * and the total seconds of the offset in force at that instant.
+     * Either output array may be null if that output is not required.
+     *
+     * @param localEpochSeconds  the local epoch-seconds in ascending order, not null
+     * @param epochSecondsOut  the array to store the epoch-seconds in, null to not store
+     * @param offsetSecondsOut  the array to store the offset total seconds in, null to not store
+     * @throws IllegalArgumentException if the local epoch-seconds are not in ascending order
+     *  or an output array is shorter than the input
+     * @throws DateTimeException if a local epoch-second is rejected by a strategy
+     */
+    public void resolve(long[] localEpochSeconds, long[] epochSecondsOut, int[] offsetSecondsOut) {
+        Objects_requireNonNull(localEpochSeconds, "localEpochSeconds");
+        int size = localEpochSeconds.length;
+        if ((epochSecondsOut != null && epochSecondsOut.length < size) ||
+                (offsetSecondsOut != null && offsetSecondsOut.length < size)) {
+            throw new IllegalArgumentException("Output array is shorter than the input");
+        }
+        if (size == 0) {
+            return;
+        }
+        Walk walk = new Walk(localEpochSeconds[0], localEpochSeconds[size - 1]);
+        for (int i = 0; i < size; i++) {
+            long local = localEpochSeconds[i];
+            long epochSec;
+            ZoneOffset offset;
+            switch (walk.locate(local)) {
+                case GAP:
+                    offset = walk.offsetAfter;
+                    if (gapStrategy == GapStrategy.SHIFT_FORWARD) {
+                        epochSec = local - walk.offsetBefore.getTotalSeconds();
+                    } else if (gapStrategy == GapStrategy.NEXT_VALID_TIME) {
+                        epochSec = walk.transitionEpochSecond;
+                    } else {
+                        throw gapException(LocalDateTime.ofEpochSecond(local, 0, ZoneOffset.UTC));
+                    }
+                    break;
+                case OVERLAP:
+                    offset = overlapOffset(walk, LocalDateTime.ofEpochSecond(local, 0, ZoneOffset.UTC));
+                    epochSec = local - offset.getTotalSeconds();
+                    break;
+                default:
+                    offset = walk.offset;
+                    epochSec = local - offset.getTotalSeconds();
+                    break;
+            }
+            if (epochSecondsOut != null) {
+                epochSecondsOut[i] = epochSec;
+            }
+            if (offsetSecondsOut != null) {
+                offsetSecondsOut[i] = offset.getTotalSeconds();
+            }
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    private ZonedDateTime resolve(Walk walk, LocalDateTime localDateTime) {
+        switch (walk.locate(localDateTime.toEpochSecond(ZoneOffset.UTC))) {
+            case GAP: {
+                ZoneOffset after = walk.offsetAfter;
+                if (gapStrategy == GapStrategy.SHIFT_FORWARD) {
+                    long shift = after.getTotalSeconds() - walk.offsetBefore.getTotalSeconds();
+                    return new ZonedDateTime(localDateTime.plusSeconds(shift), after, zone);
+                } else if (gapStrategy == GapStrategy.NEXT_VALID_TIME) {
+                    return new ZonedDateTime(LocalDateTime.ofEpochSecond(walk.transitionEpochSecond, 0, after), after, zone);
+                }
+                throw gapException(localDateTime);
+            }
+            case OVERLAP:
+                return new ZonedDateTime(localDateTime, overlapOffset(walk, localDateTime), zone);
+            default:
+                return new ZonedDateTime(localDateTime, walk.offset, zone);
+        }
+    }
+
+    private ZoneOffset overlapOffset(Walk walk, LocalDateTime localDateTime) {
+        switch (overlapStrategy) {
+            case EARLIER_OFFSET:
+                return walk.offsetBefore;
+            case LATER_OFFSET:
+                return walk.offsetAfter;
+            default:
+                throw new DateTimeException("LocalDateTime '" + localDateTime +
+                        "' is ambiguous in zone '" + zone +
+                        "' due to an overlap in the local time-line, typically caused by daylight savings");
+        }
+    }
+
+    private DateTimeException gapException(LocalDateTime localDateTime) {
+        // error message says daylight savings for simplicity
+        // even though there are other kinds of gaps
+        return new DateTimeException("LocalDateTime '" + localDateTime +
+                "' does not exist in zone '" + zone +
+                "' due to a gap in the local time-line, typically caused by daylight savings");
+    }
+
+    @Override
+    public String toString() {
+        return "ZonedDateTimeResolver[" + zone + "," + gapStrategy + "," + overlapStrategy + "]";
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * A single pass over the transitions covering a range of local epoch-seconds.
+     */
+    private final class Walk {
+        /** The cursor, positioned on the next transition that may affect a value. */
+        private final ZoneOffsetTransitionCursor cursor;
+        /** The last local epoch-second located. */
+        private long previous = Long.MIN_VALUE;
+        /** The offset after the last transition passed. */
+        private ZoneOffset current;
+        /** The offset of a normal value. */
+        ZoneOffset offset;
+        /** The offset before the gap or overlap. */
+        ZoneOffset offsetBefore;
+        /** The offset after the gap or overlap. */
+        ZoneOffset offsetAfter;
+        /** The epoch-second of the gap or overlap. */
+        long transitionEpochSecond;
+
+        Walk(long firstLocal, long lastLocal) {
+            // an offset moves the instant by at most 18 hours from the local value
+            int maxOffset = ZoneOffset.MAX.getTotalSeconds();
+            Instant start = Instant.ofEpochSecond(firstLocal - maxOffset);
+            Instant end = Instant.ofEpochSecond(Math.max(firstLocal, lastLocal) + maxOffset + 1);
+            current = rules.getOffset(start);
+            cursor = rules.transitionCursor(start, end);
+            cursor.next();
+        }
+
+        /**
+         * Locates the local epoch-second, moving the cursor forward as necessary.
+         *
+         * @param local  the local epoch-second, not less than the last located
+         * @return the kind of result, NORMAL, GAP or OVERLAP
+         */
+        int locate(long local) {
+            if (local < previous) {
+                throw new IllegalArgumentException("Local date-times must be in ascending order");
+            }
+            previous = local;
+            while (cursor.isPositioned()) {
+                long epochSec = cursor.getEpochSecond();
+                ZoneOffset before = cursor.getOffsetBefore();
+                ZoneOffset after = cursor.getOffsetAfter();
+                long localBefore = epochSec + before.getTotalSeconds();
+                long localAfter = epochSec + after.getTotalSeconds();
+                if (local < Math.min(localBefore, localAfter)) {
+                    offset = before;
+                    return NORMAL;
+                }
+                if (local < Math.max(localBefore, localAfter)) {
+                    offsetBefore = before;
+                    offsetAfter = after;
+                    transitionEpochSecond = epochSec;
+                    return localAfter > localBefore ? GAP : OVERLAP;
+                }
+                current = after;
+                cursor.next();
+            }
+            offset = current;
+            return NORMAL;
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Strategy for resolving a local date-time in a gap, where it does not exist.
+     */
+    public static enum GapStrategy {
+        /**
+         * Shifts the local date-time forward by the length of the gap,
+         * as per {@link ZonedDateTime#ofLocal(LocalDateTime, ZoneId, ZoneOffset)}.
+         */
+        SHIFT_FORWARD,
+        /**
+         * Uses the instant of the transition, which is the first valid local date-time
+         * after the gap, discarding any fraction of a second.
+         */
+        NEXT_VALID_TIME,
+        /**
+         * Rejects the local date-time by throwing {@link DateTimeException}.
+         */
+        REJECT;
+    }
+
+    /**
+     * Strategy for resolving a local date-time in an overlap, where it exists twice.
+     */
+    public static enum OverlapStrategy {
+        /**
+         * Uses the earlier offset, which is the offset before the transition.
+         */
+        EARLIER_OFFSET,
+        /**
+         * Uses the later offset, which is the offset after the transition.
+         */
+        LATER_OFFSET,
+        /**
+         * Rejects the local date-time by throwing {@link DateTimeException}.
+         */
+        REJECT;
+    }
+
+}
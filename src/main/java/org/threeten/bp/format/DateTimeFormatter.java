@@ -47,6 +47,7 @@ import java.text.Format;
 import java.text.ParseException;
 import java.text.ParsePosition;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.HashMap;
 import java.util.Locale;
 import java.util.Map;
@@ -613,7 +614,7 @@ public final class DateTimeFormatter {
         moy.put(10L, "Oct");
         moy.put(11L, "Nov");
         moy.put(12L, "Dec");
-        RFC_1123_DATE_TIME = new DateTimeFormatterBuilder()
+        DateTimeFormatter general = new DateTimeFormatterBuilder()
             .parseCaseInsensitive()
             .parseLenient()
             .optionalStart()
@@ -636,6 +637,9 @@ public final class DateTimeFormatter {
             .appendLiteral(' ')
             .appendOffset("+HHMM", "GMT")  // should handle UT/Z/EST/EDT/CST/CDT/MST/MDT/PST/MDT
             .toFormatter();
+        RFC_1123_DATE_TIME = new DateTimeFormatterBuilder()
+            .appendRfc1123(general)
+            .toFormatter();
     }
 
     //-----------------------------------------------------------------------
@@ -1285,6 +1289,114 @@ public final class DateTimeFormatter {
         }
     }
 
+    //-----------------------------------------------------------------------
+    /**
+     * Fully parses each text in an array to an ISO epoch-day.
+     * <p>
+     * This is intended for bulk parsing of columns of dates, such as when importing data.
+     * Each text is parsed and resolved as {@link #parse(CharSequence, Class)} would
+     * with a type of {@code LocalDate}, except that the epoch-day is stored directly
+     * in the output array and failures are reported in the returned bit set.
+     * The same parse state is reused for the whole array, and the common case of
+     * a year, month and day-of-month is resolved without creating a date object.
+     * <p>
+     * If a text cannot be parsed, including if it is null, the bit for its index is set
+     * and the corresponding element of the output array is left unchanged.
+     *
+     * @param texts  the texts to parse, not null
+     * @param epochDays  the array to store the epoch-days in, at least as long as the texts, not null
+     * @return the indices of the texts that could not be parsed, not null
+     * @throws IllegalArgumentException if the output array is too small
+     */
+    public BitSet parseToEpochDays(CharSequence[] texts, long[] epochDays) {
+        Objects_requireNonNull(texts, "texts");
+        Objects_requireNonNull(epochDays, "epochDays");
+        if (epochDays.length < texts.length) {
+            throw new IllegalArgumentException("Output array is too small");
+        }
+        BitSet errors = new BitSet();
+        DateTimeParseContext context = new DateTimeParseContext(this);
+        for (int i = 0; i < texts.length; i++) {
+            Parsed parsed = parseFully(context, texts[i]);
+            if (parsed == null) {
+                errors.set(i);
+                continue;
+            }
+            try {
+                epochDays[i] = parsed.resolveEpochDay();
+            } catch (RuntimeException ex) {
+                errors.set(i);
+            }
+        }
+        return errors;
+    }
+
+    /**
+     * Fully parses each text in an array to an instant, as epoch-seconds and nanoseconds.
+     * <p>
+     * This is intended for bulk parsing of columns of timestamps, such as when importing data.
+     * Each text must represent an instant, or a date and time with an offset or zone.
+     * It is parsed and resolved as {@link #parse(CharSequence, Class)} would with a type
+     * of {@code Instant}, or {@code ZonedDateTime} if no instant is parsed, except that
+     * the values are stored directly in the output arrays and failures are reported
+     * in the returned bit set.
+     * The same parse state is reused for the whole array, and the common cases of an
+     * instant or a date and time with an offset are resolved without creating objects.
+     * <p>
+     * If a text cannot be parsed, including if it is null, the bit for its index is set
+     * and the corresponding elements of the output arrays are left unchanged.
+     *
+     * @param texts  the texts to parse, not null
+     * @param epochSeconds  the array to store the epoch-seconds in, at least as long as the texts, not null
+     * @param nanos  the array to store the nano-of-second in, at least as long as the texts,
+     *  null if not required
+     * @return the indices of the texts that could not be parsed, not null
+     * @throws IllegalArgumentException if an output array is too small
+     */
+    public BitSet parseToEpochSeconds(CharSequence[] texts, long[] epochSeconds, int[] nanos) {
+        Objects_requireNonNull(texts, "texts");
+        Objects_requireNonNull(epochSeconds, "epochSeconds");
+        if (epochSeconds.length < texts.length || (nanos != null && nanos.length < texts.length)) {
+            throw new IllegalArgumentException("Output array is too small");
+        }
+        BitSet errors = new BitSet();
+        DateTimeParseContext context = new DateTimeParseContext(this);
+        for (int i = 0; i < texts.length; i++) {
+            Parsed parsed = parseFully(context, texts[i]);
+            if (parsed == null) {
+                errors.set(i);
+                continue;
+            }
+            try {
+                parsed.resolveEpochSecond(epochSeconds, nanos, i);
+            } catch (RuntimeException ex) {
+                errors.set(i);
+            }
+        }
+        return errors;
+    }
+
+    /**
+     * Parses the whole of the text using a reused context.
+     *
+     * @param context  the context to reset and parse into, not null
+     * @param text  the text to parse, null returns null
+     * @return the parsed data, null if the text could not be fully parsed
+     */
+    private Parsed parseFully(DateTimeParseContext context, CharSequence text) {
+        if (text == null) {
+            return null;
+        }
+        context.reset();
+        int pos;
+        try {
+            pos = printerParser.parse(context, text, 0);
+        } catch (RuntimeException ex) {
+            return null;
+        }
+        return (pos == text.length() ? context.toParsed() : null);
+    }
+
     private DateTimeParseException createError(CharSequence text, RuntimeException ex) {
         String abbr = "";
         if (text.length() > 64) {
@@ -63,6 +63,7 @@ import org.threeten.bp.LocalDateTime;
 import org.threeten.bp.ZoneId;
 import org.threeten.bp.ZoneOffset;
 import org.threeten.bp.chrono.Chronology;
+import org.threeten.bp.chrono.IsoChronology;
 import org.threeten.bp.format.SimpleDateTimeTextProvider.LocaleStore;
 import org.threeten.bp.jdk8.Jdk8Methods;
 import org.threeten.bp.temporal.ChronoField;
@@ -602,6 +603,20 @@ public final class DateTimeFormatterBuilder {
         return this;
     }
 
+    /**
+     * Appends the RFC-1123 format, defined by the specified formatter.
+     * <p>
+     * The common form of the format is printed and parsed directly,
+     * with the specified formatter used for everything else.
+     *
+     * @param general  the formatter defining the RFC-1123 format, not null
+     * @return this, for chaining, not null
+     */
+    DateTimeFormatterBuilder appendRfc1123(DateTimeFormatter general) {
+        appendInternal(new Rfc1123PrinterParser(general.toPrinterParser(false)));
+        return this;
+    }
+
     /**
      * Appends the zone offset, such as '+01:00', to the formatter.
      * <p>
@@ -2428,8 +2443,10 @@ public final class DateTimeFormatterBuilder {
         // days in a 400 year cycle = 146097
         // days in a 10,000 year cycle = 146097 * 25
         // seconds per day = 86400
-        private static final long SECONDS_PER_10000_YEARS = 146097L * 25L * 86400L;
-        private static final long SECONDS_0000_TO_1970 = ((146097L * 5L) - (30L * 365L + 7L)) * 86400L;
+        static final long SECONDS_PER_10000_YEARS = 146097L * 25L * 86400L;
+        static final long SECONDS_0000_TO_1970 = IsoDates.DAYS_0000_TO_1970 * 86400L;
+        private static final int SECONDS_PER_DAY = 86400;
+        private static final int NOT_HANDLED = Integer.MIN_VALUE;
         private static final CompositePrinterParser PARSER = new DateTimeFormatterBuilder()
                     .parseCaseInsensitive()
                     .append(DateTimeFormatter.ISO_LOCAL_DATE).appendLiteral('T')
@@ -2454,11 +2471,11 @@ public final class DateTimeFormatterBuilder {
                 long zeroSecs = inSec - SECONDS_PER_10000_YEARS + SECONDS_0000_TO_1970;
                 long hi = Jdk8Methods.floorDiv(zeroSecs, SECONDS_PER_10000_YEARS) + 1;
                 long lo = Jdk8Methods.floorMod(zeroSecs, SECONDS_PER_10000_YEARS);
-                LocalDateTime ldt = LocalDateTime.ofEpochSecond(lo - SECONDS_0000_TO_1970, inNano, ZoneOffset.UTC);
                 if (hi > 0) {
                     buf.append('+').append(hi);
                 }
-                buf.append(ldt).append('Z');
+                printLocal(buf, lo, inNano);
+                buf.append('Z');
             } else {
                 // before current era
                 long zeroSecs = inSec + SECONDS_0000_TO_1970;
@@ -2480,8 +2497,71 @@ public final class DateTimeFormatterBuilder {
             return true;
         }
 
+        /**
+         * Prints the local date-time directly, without creating a {@code LocalDateTime}.
+         * <p>
+         * The output matches {@code LocalDateTime.toString()} for years 0000 to 9999.
+         *
+         * @param buf  the buffer to append to, not null
+         * @param zeroSecs  the seconds from 0000-01-01T00:00, from 0 to 10,000 years
+         * @param nano  the nano-of-second, from 0 to 999,999,999
+         */
+        private static void printLocal(StringBuilder buf, long zeroSecs, int nano) {
+            int zeroDay = (int) (zeroSecs / SECONDS_PER_DAY);
+            int secsOfDay = (int) (zeroSecs - zeroDay * (long) SECONDS_PER_DAY);
+            int packed = IsoDates.packedDate(zeroDay);
+            int year = packed >>> 9;
+            int month = (packed >>> 5) & 15;
+            int dom = packed & 31;
+            int hour = secsOfDay / 3600;
+            int minute = (secsOfDay / 60) % 60;
+            int second = secsOfDay % 60;
+            appendTwoDigits(buf, year / 100);
+            appendTwoDigits(buf, year % 100);
+            buf.append('-');
+            appendTwoDigits(buf, month);
+            buf.append('-');
+            appendTwoDigits(buf, dom);
+            buf.append('T');
+            appendTwoDigits(buf, hour);
+            buf.append(':');
+            appendTwoDigits(buf, minute);
+            if (second > 0 || nano > 0) {
+                buf.append(':');
+                appendTwoDigits(buf, second);
+                if (nano > 0) {
+                    buf.append('.');
+                    if (nano % 1000000 == 0) {
+                        appendDigits(buf, nano / 1000000, 3);
+                    } else if (nano % 1000 == 0) {
+                        appendDigits(buf, nano / 1000, 6);
+                    } else {
+                        appendDigits(buf, nano, 9);
+                    }
+                }
+            }
+        }
+
+        static void appendTwoDigits(StringBuilder buf, int value) {
+            buf.append((char) ('0' + value / 10)).append((char) ('0' + value % 10));
+        }
+
+        private static void appendDigits(StringBuilder buf, int value, int width) {
+            int divisor = 1;
+            for (int i = 1; i < width; i++) {
+                divisor *= 10;
+            }
+            for ( ; divisor > 0; divisor /= 10) {
+                buf.append((char) ('0' + (value / divisor) % 10));
+            }
+        }
+
         @Override
         public int parse(DateTimeParseContext context, CharSequence text, int position) {
+            int fastPos = parseFast(context, text, position);
+            if (fastPos != NOT_HANDLED) {
+                return fastPos;
+            }
             // new context to avoid overwriting fields like year/month/day
             DateTimeParseContext newContext = context.copy();
             int pos = PARSER.parse(newContext, text, position);
@@ -2508,17 +2588,319 @@ public final class DateTimeFormatterBuilder {
             } catch (RuntimeException ex) {
                 return ~position;
             }
-            int successPos = text.length();
+            int successPos = pos;
             successPos = context.setParsedField(INSTANT_SECONDS, instantSecs, position, successPos);
             return context.setParsedField(NANO_OF_SECOND, nano, position, successPos);
         }
 
+        /**
+         * Parses the common 'yyyy-MM-ddTHH:mm[:ss[.fffffffff]]Z' shape directly.
+         * <p>
+         * This avoids the nested parser and the copied context.
+         * Any text that does not match the simple shape, including extended years,
+         * invalid values and non-standard symbols, is left to the general parser
+         * so that the result and error position are unchanged.
+         *
+         * @param context  the context to store into, not null
+         * @param text  the text to parse, not null
+         * @param position  the position to start parsing at
+         * @return the new position, or the bitwise complement of the error position,
+         *  or {@code NOT_HANDLED} if the general parser must be used
+         */
+        private int parseFast(DateTimeParseContext context, CharSequence text, int position) {
+            DateTimeFormatSymbols symbols = context.getSymbols();
+            if (symbols.getZeroDigit() != '0' || symbols.getDecimalSeparator() != '.') {
+                return NOT_HANDLED;
+            }
+            int length = text.length();
+            if (position < 0 || position + 17 > length ||
+                    text.charAt(position + 4) != '-' || text.charAt(position + 7) != '-' ||
+                    DateTimeParseContext.charEqualsIgnoreCase(text.charAt(position + 10), 'T') == false ||
+                    text.charAt(position + 13) != ':') {
+                return NOT_HANDLED;
+            }
+            int year = parseDigits(text, position, 4);
+            int month = parseDigits(text, position + 5, 2);
+            int day = parseDigits(text, position + 8, 2);
+            int hour = parseDigits(text, position + 11, 2);
+            int min = parseDigits(text, position + 14, 2);
+            if ((year | month | day | hour | min) < 0) {
+                return NOT_HANDLED;
+            }
+            int pos = position + 16;
+            int sec = 0;
+            int nano = 0;
+            if (text.charAt(pos) == ':' && pos + 3 < length) {
+                sec = parseDigits(text, pos + 1, 2);
+                if (sec < 0) {
+                    return NOT_HANDLED;
+                }
+                pos += 3;
+                if (text.charAt(pos) == '.') {
+                    pos++;
+                    int digits = 0;
+                    while (pos < length && digits < 9) {
+                        int digit = text.charAt(pos) - '0';
+                        if (digit < 0 || digit > 9) {
+                            break;
+                        }
+                        nano = nano * 10 + digit;
+                        digits++;
+                        pos++;
+                    }
+                    for ( ; digits < 9; digits++) {
+                        nano *= 10;
+                    }
+                }
+            }
+            if (pos >= length || DateTimeParseContext.charEqualsIgnoreCase(text.charAt(pos), 'Z') == false) {
+                return NOT_HANDLED;
+            }
+            if (month < 1 || month > 12 || day < 1 || day > IsoDates.lengthOfMonth(year, month) ||
+                    hour > 23 || min > 59 || sec > 59) {
+                return NOT_HANDLED;  // the general parser produces the error
+            }
+            long instantSecs = IsoDates.epochDay(year, month, day) * SECONDS_PER_DAY + hour * 3600 + min * 60 + sec;
+            int successPos = pos + 1;
+            successPos = context.setParsedField(INSTANT_SECONDS, instantSecs, position, successPos);
+            return context.setParsedField(NANO_OF_SECOND, nano, position, successPos);
+        }
+
+        static int parseDigits(CharSequence text, int position, int count) {
+            int total = 0;
+            for (int i = 0; i < count; i++) {
+                int digit = text.charAt(position + i) - '0';
+                if (digit < 0 || digit > 9) {
+                    return -1;
+                }
+                total = total * 10 + digit;
+            }
+            return total;
+        }
+
         @Override
         public String toString() {
             return "Instant()";
         }
     }
 
+    //-----------------------------------------------------------------------
+    /**
+     * Prints or parses the RFC-1123 format, such as 'Tue, 3 Jun 2008 11:05:30 GMT'.
+     * <p>
+     * The common form is handled directly from fixed English name tables.
+     * Anything else is passed to the general printer-parser, which defines the format.
+     */
+    static final class Rfc1123PrinterParser implements DateTimePrinterParser {
+        private static final int NOT_HANDLED = Integer.MIN_VALUE;
+        private static final String DAY_NAMES = "MonTueWedThuFriSatSun";
+        private static final String MONTH_NAMES = "JanFebMarAprMayJunJulAugSepOctNovDec";
+
+        private final CompositePrinterParser general;
+
+        /**
+         * Constructor.
+         *
+         * @param general  the general printer-parser defining the format, not null
+         */
+        Rfc1123PrinterParser(CompositePrinterParser general) {
+            this.general = general;
+        }
+
+        @Override
+        public boolean print(DateTimePrintContext context, StringBuilder buf) {
+            TemporalAccessor temporal = context.getTemporal();
+            if (context.getSymbols().getZeroDigit() == '0' &&
+                    temporal.isSupported(INSTANT_SECONDS) && temporal.isSupported(OFFSET_SECONDS) &&
+                    temporal.query(TemporalQueries.chronology()) == IsoChronology.INSTANCE) {
+                long epochSecs = temporal.getLong(INSTANT_SECONDS);
+                int offsetSecs = Jdk8Methods.safeToInt(temporal.getLong(OFFSET_SECONDS));
+                long zeroSecs = epochSecs + offsetSecs + InstantPrinterParser.SECONDS_0000_TO_1970;
+                if (zeroSecs >= 0 && zeroSecs < InstantPrinterParser.SECONDS_PER_10000_YEARS) {
+                    print(buf, zeroSecs, offsetSecs);
+                    return true;
+                }
+            }
+            return general.print(context, buf);
+        }
+
+        private static void print(StringBuilder buf, long zeroSecs, int offsetSecs) {
+            int zeroDay = (int) (zeroSecs / 86400);
+            int secsOfDay = (int) (zeroSecs - zeroDay * 86400L);
+            int packed = IsoDates.packedDate(zeroDay);
+            int year = packed >>> 9;
+            int month = (packed >>> 5) & 15;
+            int dom = packed & 31;
+            // 0000-01-01 was a Saturday
+            int dow0 = (zeroDay + 5) % 7;
+            buf.append(DAY_NAMES, dow0 * 3, dow0 * 3 + 3).append(", ");
+            if (dom >= 10) {
+                buf.append((char) ('0' + dom / 10));
+            }
+            buf.append((char) ('0' + dom % 10)).append(' ');
+            buf.append(MONTH_NAMES, month * 3 - 3, month * 3).append(' ');
+            InstantPrinterParser.appendTwoDigits(buf, year / 100);
+            InstantPrinterParser.appendTwoDigits(buf, year % 100);
+            buf.append(' ');
+            InstantPrinterParser.appendTwoDigits(buf, secsOfDay / 3600);
+            buf.append(':');
+            InstantPrinterParser.appendTwoDigits(buf, (secsOfDay / 60) % 60);
+            buf.append(':');
+            InstantPrinterParser.appendTwoDigits(buf, secsOfDay % 60);
+            buf.append(' ');
+            int absHours = Math.abs((offsetSecs / 3600) % 100);
+            int absMinutes = Math.abs((offsetSecs / 60) % 60);
+            if (absHours == 0 && absMinutes == 0) {
+                buf.append("GMT");
+            } else {
+                buf.append(offsetSecs < 0 ? '-' : '+');
+                InstantPrinterParser.appendTwoDigits(buf, absHours);
+                InstantPrinterParser.appendTwoDigits(buf, absMinutes);
+            }
+        }
+
+        @Override
+        public int parse(DateTimeParseContext context, CharSequence text, int position) {
+            int pos = parseFast(context, text, position);
+            if (pos != NOT_HANDLED) {
+                return pos;
+            }
+            return general.parse(context, text, position);
+        }
+
+        /**
+         * Parses the common form directly, storing the same fields as the general parser.
+         * <p>
+         * Any text that does not match the common form is left to the general parser
+         * so that the result and error position are unchanged.
+         *
+         * @param context  the context to store into, not null
+         * @param text  the text to parse, not null
+         * @param position  the position to start parsing at
+         * @return the new position, or the bitwise complement of the error position,
+         *  or {@code NOT_HANDLED} if the general parser must be used
+         */
+        private int parseFast(DateTimeParseContext context, CharSequence text, int position) {
+            if (context.getSymbols().getZeroDigit() != '0') {
+                return NOT_HANDLED;
+            }
+            int length = text.length();
+            if (position < 0 || position + 20 > length) {
+                return NOT_HANDLED;
+            }
+            // optional day-of-week
+            int pos = position;
+            int dow = 0;
+            if (text.charAt(pos + 3) == ',') {
+                dow = findName(DAY_NAMES, text, pos);
+                if (dow == 0 || text.charAt(pos + 4) != ' ') {
+                    return NOT_HANDLED;
+                }
+                pos += 5;
+            }
+            int domPos = pos;
+            int dom = InstantPrinterParser.parseDigits(text, pos, 1);
+            pos++;
+            if (dom >= 0 && pos < length && text.charAt(pos) != ' ') {
+                int digit = InstantPrinterParser.parseDigits(text, pos, 1);
+                dom = (digit < 0 ? -1 : dom * 10 + digit);
+                pos++;
+            }
+            if (dom < 0 || pos + 17 > length || text.charAt(pos) != ' ') {
+                return NOT_HANDLED;
+            }
+            int monthPos = pos + 1;
+            int month = findName(MONTH_NAMES, text, monthPos);
+            int yearPos = monthPos + 4;
+            int hourPos = yearPos + 5;
+            int minPos = hourPos + 3;
+            if (month == 0 || text.charAt(yearPos - 1) != ' ' || text.charAt(hourPos - 1) != ' ' ||
+                    text.charAt(minPos - 1) != ':') {
+                return NOT_HANDLED;
+            }
+            int year = InstantPrinterParser.parseDigits(text, yearPos, 4);
+            int hour = InstantPrinterParser.parseDigits(text, hourPos, 2);
+            int min = InstantPrinterParser.parseDigits(text, minPos, 2);
+            if ((year | hour | min) < 0) {
+                return NOT_HANDLED;
+            }
+            pos = minPos + 2;
+            int secPos = -1;
+            int sec = 0;
+            if (text.charAt(pos) == ':') {
+                secPos = pos + 1;
+                sec = (secPos + 2 < length ? InstantPrinterParser.parseDigits(text, secPos, 2) : -1);
+                if (sec < 0) {
+                    return NOT_HANDLED;
+                }
+                pos = secPos + 2;
+            }
+            if (text.charAt(pos) != ' ') {
+                return NOT_HANDLED;
+            }
+            int offsetPos = ++pos;
+            int offsetSecs;
+            if (pos + 3 <= length && regionEqualsIgnoreCase(text, pos, "GMT", 0)) {
+                offsetSecs = 0;
+                pos += 3;
+            } else {
+                char sign = (pos < length ? text.charAt(pos) : ' ');
+                if ((sign != '+' && sign != '-') || pos + 5 > length) {
+                    return NOT_HANDLED;
+                }
+                int offsetHours = InstantPrinterParser.parseDigits(text, pos + 1, 2);
+                int offsetMins = InstantPrinterParser.parseDigits(text, pos + 3, 2);
+                pos += 5;
+                if (offsetHours < 0 || offsetHours > 59 || offsetMins < 0 || offsetMins > 59 ||
+                        (pos + 2 <= length && InstantPrinterParser.parseDigits(text, pos, 2) >= 0)) {
+                    return NOT_HANDLED;  // the general parser also handles offset seconds
+                }
+                offsetSecs = (sign == '-' ? -1 : 1) * (offsetHours * 3600 + offsetMins * 60);
+            }
+            // match the side effects of the general parser
+            context.setCaseSensitive(false);
+            context.setStrict(false);
+            int result = pos;
+            if (dow > 0) {
+                result = context.setParsedField(ChronoField.DAY_OF_WEEK, dow, position, result);
+            }
+            result = context.setParsedField(DAY_OF_MONTH, dom, domPos, result);
+            result = context.setParsedField(MONTH_OF_YEAR, month, monthPos, result);
+            result = context.setParsedField(YEAR, year, yearPos, result);
+            result = context.setParsedField(HOUR_OF_DAY, hour, hourPos, result);
+            result = context.setParsedField(MINUTE_OF_HOUR, min, minPos, result);
+            if (secPos >= 0) {
+                result = context.setParsedField(SECOND_OF_MINUTE, sec, secPos, result);
+            }
+            return context.setParsedField(OFFSET_SECONDS, offsetSecs, offsetPos, result);
+        }
+
+        private static int findName(String names, CharSequence text, int position) {
+            for (int i = 0; i < names.length(); i += 3) {
+                if (regionEqualsIgnoreCase(text, position, names, i)) {
+                    return i / 3 + 1;
+                }
+            }
+            return 0;
+        }
+
+        private static boolean regionEqualsIgnoreCase(CharSequence text, int position, String names, int offset) {
+            for (int i = 0; i < 3; i++) {
+                if (DateTimeParseContext.charEqualsIgnoreCase(text.charAt(position + i), names.charAt(offset + i)) == false) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public String toString() {
+            // the general printer-parsers, without the parentheses of their composite
+            String str = general.toString();
+            return str.substring(1, str.length() - 1);
+        }
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Prints or parses an offset ID.
@@ -31,13 +31,26 @@
  */
 package org.threeten.bp.format;
 
+import static org.threeten.bp.temporal.ChronoField.DAY_OF_MONTH;
+import static org.threeten.bp.temporal.ChronoField.HOUR_OF_DAY;
+import static org.threeten.bp.temporal.ChronoField.INSTANT_SECONDS;
+import static org.threeten.bp.temporal.ChronoField.MINUTE_OF_HOUR;
+import static org.threeten.bp.temporal.ChronoField.MONTH_OF_YEAR;
+import static org.threeten.bp.temporal.ChronoField.NANO_OF_SECOND;
+import static org.threeten.bp.temporal.ChronoField.OFFSET_SECONDS;
+import static org.threeten.bp.temporal.ChronoField.SECOND_OF_MINUTE;
+import static org.threeten.bp.temporal.ChronoField.YEAR;
+
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Locale;
 import java.util.Map;
 
 import org.threeten.bp.DateTimeException;
+import org.threeten.bp.Instant;
+import org.threeten.bp.LocalDate;
 import org.threeten.bp.ZoneId;
+import org.threeten.bp.ZonedDateTime;
 import org.threeten.bp.chrono.Chronology;
 import org.threeten.bp.chrono.IsoChronology;
 import org.threeten.bp.jdk8.DefaultInterfaceTemporalAccessor;
@@ -354,6 +367,26 @@ final class DateTimeParseContext {
         currentParsed().zone = zone;
     }
 
+    //-----------------------------------------------------------------------
+    /**
+     * Resets this context so that it can be used for another parse.
+     * <p>
+     * The parsed data store is cleared and reused, and the case sensitive and
+     * strict settings are restored to their defaults.
+     * Any {@code Parsed} previously returned by {@link #toParsed()} is invalidated.
+     */
+    void reset() {
+        caseSensitive = true;
+        strict = true;
+        while (parsed.size() > 1) {
+            parsed.remove(parsed.size() - 1);
+        }
+        Parsed current = parsed.get(0);
+        current.chrono = null;
+        current.zone = null;
+        current.fieldValues.clear();
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Returns a {@code TemporalAccessor} that can be used to interpret
@@ -470,6 +503,86 @@ final class DateTimeParseContext {
             }
         }
 
+        /**
+         * Resolves the parse to an ISO epoch-day.
+         * <p>
+         * A year, month and day-of-month alone are resolved directly.
+         * Anything else is resolved by the builder, as a parse to {@code LocalDate} would be.
+         * Calling this method may change the state of this object.
+         *
+         * @return the epoch-day
+         * @throws DateTimeException if unable to resolve a date
+         */
+        long resolveEpochDay() {
+            if (fieldValues.size() == 3) {
+                Long year = fieldValues.get(YEAR);
+                Long month = fieldValues.get(MONTH_OF_YEAR);
+                Long dom = fieldValues.get(DAY_OF_MONTH);
+                if (year != null && month != null && dom != null && isValidDate(year, month, dom)) {
+                    return IsoDates.epochDay(year, month.intValue(), dom.intValue());
+                }
+            }
+            return LocalDate.from(resolveFields().toBuilder().resolve()).toEpochDay();
+        }
+
+        /**
+         * Resolves the parse to an instant, storing the epoch-second and nanosecond.
+         * <p>
+         * An instant, or a date and time with an offset, is resolved directly.
+         * Anything else is resolved by the builder, as a parse to {@code Instant}
+         * or {@code ZonedDateTime} would be.
+         * Calling this method may change the state of this object.
+         *
+         * @param epochSeconds  the array to store the epoch-second in, not null
+         * @param nanos  the array to store the nanosecond in, null to ignore
+         * @param index  the index to store at
+         * @throws DateTimeException if unable to resolve an instant
+         */
+        void resolveEpochSecond(long[] epochSeconds, int[] nanos, int index) {
+            int size = fieldValues.size();
+            Long nano = fieldValues.get(NANO_OF_SECOND);
+            if (zone == null && (nano == null || (nano >= 0 && nano < 1000000000L))) {
+                Long instantSecs = fieldValues.get(INSTANT_SECONDS);
+                if (size == 2 && instantSecs != null && nano != null &&
+                        instantSecs >= Instant.MIN.getEpochSecond() && instantSecs <= Instant.MAX.getEpochSecond()) {
+                    store(epochSeconds, nanos, index, instantSecs, nano);
+                    return;
+                }
+                Long offset = fieldValues.get(OFFSET_SECONDS);
+                Long year = fieldValues.get(YEAR);
+                Long month = fieldValues.get(MONTH_OF_YEAR);
+                Long dom = fieldValues.get(DAY_OF_MONTH);
+                Long hour = fieldValues.get(HOUR_OF_DAY);
+                Long min = fieldValues.get(MINUTE_OF_HOUR);
+                Long sec = fieldValues.get(SECOND_OF_MINUTE);
+                if (size == 6 + (sec != null ? 1 : 0) + (nano != null ? 1 : 0) &&
+                        offset != null && offset >= -18 * 3600 && offset <= 18 * 3600 &&
+                        year != null && month != null && dom != null && isValidDate(year, month, dom) &&
+                        hour != null && hour >= 0 && hour < 24 && min != null && min >= 0 && min < 60 &&
+                        (sec == null ? nano == null : (sec >= 0 && sec < 60))) {
+                    long secs = IsoDates.epochDay(year, month.intValue(), dom.intValue()) * 86400L +
+                            hour * 3600 + min * 60 + (sec != null ? sec : 0) - offset;
+                    store(epochSeconds, nanos, index, secs, nano != null ? nano : 0);
+                    return;
+                }
+            }
+            DateTimeBuilder builder = resolveFields().toBuilder().resolve();
+            if (builder.isSupported(INSTANT_SECONDS)) {
+                Instant instant = Instant.from(builder);
+                store(epochSeconds, nanos, index, instant.getEpochSecond(), instant.getNano());
+            } else {
+                ZonedDateTime zdt = ZonedDateTime.from(builder);
+                store(epochSeconds, nanos, index, zdt.toEpochSecond(), zdt.getNano());
+            }
+        }
+
+        private void store(long[] epochSeconds, int[] nanos, int index, long epochSecond, long nano) {
+            epochSeconds[index] = epochSecond;
+            if (nanos != null) {
+                nanos[index] = (int) nano;
+            }
+        }
+
         /**
          * Returns a {@code DateTimeBuilder} that can be used to interpret
          * the results of the parse.
@@ -500,6 +613,14 @@ final class DateTimeParseContext {
         }
     }
 
+    //-----------------------------------------------------------------------
+    private static boolean isValidDate(long year, long month, long dom) {
+        if (YEAR.range().isValidValue(year) == false || month < 1 || month > 12 || dom < 1) {
+            return false;
+        }
+        return dom <= IsoDates.lengthOfMonth(year, (int) month);
+    }
+
     //-------------------------------------------------------------------------
     // for testing
     /**
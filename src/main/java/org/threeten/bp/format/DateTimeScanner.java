@@ -0,0 +1,314 @@
+/*
+ * Copyright (c) 2007-2013, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.bp.format;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.CharBuffer;
+
+import org.threeten.bp.format.DateTimeFormatterBuilder.CompositePrinterParser;
+
+import static org.threeten.bp.jdk7.Jdk7Methods.Objects_requireNonNull;
+
+/**
+ * Scanner that finds successive instants matching a formatter within a stream of text.
+ * <p>
+ * This is intended for extracting timestamps from large inputs, such as log files,
+ * without splitting the text into lines or strings.
+ * The input is read through a window and the formatter is applied at each candidate
+ * position using the same position-based protocol as
+ * {@link DateTimeFormatter#parseUnresolved(CharSequence, java.text.ParsePosition)}.
+ * <p>
+ * A match must resolve to an instant, thus the formatter must parse either an instant
+ * or a date and time with an offset or zone, as for
+ * {@link DateTimeFormatter#parseToEpochSeconds(CharSequence[], long[], int[])}.
+ * Each match is passed to a {@link Handler} as primitive values.
+ * <p>
+ * Candidate positions are either the start of each line, or every position in the text.
+ * When scanning every position, the search continues after the end of each match.
+ * A match cannot be longer than {@link #MAX_MATCH_LENGTH} characters when reading from a {@code Reader}.
+ *
+ * <h3>Specification for implementors</h3>
+ * This class is mutable and not thread-safe.
+ * The parse state is reused between matches, so an instance must only be used from a single thread.
+ */
+public final class DateTimeScanner {
+
+    /**
+     * The maximum length of a match when reading from a {@code Reader}.
+     */
+    public static final int MAX_MATCH_LENGTH = 256;
+    /**
+     * The size of the window used when reading from a {@code Reader}.
+     */
+    private static final int WINDOW_SIZE = 8192;
+
+    /**
+     * The printer-parser of the formatter.
+     */
+    private final CompositePrinterParser printerParser;
+    /**
+     * Whether to only match at the start of lines.
+     */
+    private final boolean lineStartsOnly;
+    /**
+     * The reused parse context.
+     */
+    private final DateTimeParseContext context;
+    /**
+     * The epoch-second of the last match.
+     */
+    private final long[] epochSecond = new long[1];
+    /**
+     * The nano-of-second of the last match.
+     */
+    private final int[] nano = new int[1];
+    /**
+     * Whether the current position is at the start of a line.
+     */
+    private boolean atLineStart;
+    /**
+     * Whether the handler requested that scanning stop.
+     */
+    private boolean stopped;
+    /**
+     * The number of matches in the current scan.
+     */
+    private long count;
+
+    /**
+     * Callback receiving the instants found by a scanner.
+     */
+    public interface Handler {
+        /**
+         * Handles an instant found in the text.
+         *
+         * @param offset  the offset of the start of the match from the start of the scanned text
+         * @param epochSecond  the epoch-second of the instant
+         * @param nanoOfSecond  the nano-of-second of the instant, from 0 to 999,999,999
+         * @return true to continue scanning, false to stop
+         */
+        boolean found(long offset, long epochSecond, int nanoOfSecond);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Obtains a scanner that matches at the start of each line.
+     * <p>
+     * The start of the text and each position after a {@code '\n'} are candidates.
+     *
+     * @param formatter  the formatter to match with, not null
+     * @return the scanner, not null
+     */
+    public static DateTimeScanner ofLineStarts(DateTimeFormatter formatter) {
+        return new DateTimeScanner(formatter, true);
+    }
+
+    /**
+     * Obtains a scanner that matches at any position.
+     * <p>
+     * Every position is a candidate, except those inside an earlier match.
+     *
+     * @param formatter  the formatter to match with, not null
+     * @return the scanner, not null
+     */
+    public static DateTimeScanner ofAnyPosition(DateTimeFormatter formatter) {
+        return new DateTimeScanner(formatter, false);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param formatter  the formatter to match with, not null
+     * @param lineStartsOnly  whether to only match at the start of lines
+     */
+    private DateTimeScanner(DateTimeFormatter formatter, boolean lineStartsOnly) {
+        Objects_requireNonNull(formatter, "formatter");
+        this.printerParser = formatter.toPrinterParser(false);
+        this.lineStartsOnly = lineStartsOnly;
+        this.context = new DateTimeParseContext(formatter);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Scans all the text from a reader.
+     * <p>
+     * The reader is read until the end of the stream, or until the handler stops the scan.
+     * The reader is not closed.
+     *
+     * @param reader  the reader to scan, not null
+     * @param handler  the handler to receive the matches, not null
+     * @return the number of matches passed to the handler
+     * @throws IOException if an error occurs reading
+     */
+    public long scan(Reader reader, Handler handler) throws IOException {
+        Objects_requireNonNull(reader, "reader");
+        Objects_requireNonNull(handler, "handler");
+        start();
+        char[] buf = new char[WINDOW_SIZE];
+        int filled = 0;
+        int pos = 0;
+        long base = 0;
+        boolean eof = false;
+        while (stopped == false) {
+            // move the unscanned text to the start of the window and refill
+            System.arraycopy(buf, pos, buf, 0, filled - pos);
+            base += pos;
+            filled -= pos;
+            pos = 0;
+            while (filled < buf.length) {
+                int read = reader.read(buf, filled, buf.length - filled);
+                if (read < 0) {
+                    eof = true;
+                    break;
+                }
+                filled += read;
+            }
+            int limit = (eof ? filled : filled - MAX_MATCH_LENGTH);
+            pos = scanWindow(CharBuffer.wrap(buf, 0, filled), pos, limit, base, handler);
+            if (eof) {
+                break;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Scans the remaining text in a buffer.
+     * <p>
+     * The text from the position to the limit of the buffer is scanned as a complete input.
+     * Offsets passed to the handler are relative to the position of the buffer on entry.
+     * On exit, the position of the buffer is set to the limit, or to the end of the
+     * last match if the handler stopped the scan.
+     *
+     * @param buffer  the buffer to scan, not null
+     * @param handler  the handler to receive the matches, not null
+     * @return the number of matches passed to the handler
+     */
+    public long scan(CharBuffer buffer, Handler handler) {
+        Objects_requireNonNull(buffer, "buffer");
+        Objects_requireNonNull(handler, "handler");
+        start();
+        int start = buffer.position();
+        int length = buffer.remaining();
+        int pos = scanWindow(buffer, 0, length, 0, handler);
+        buffer.position(start + pos);
+        return count;
+    }
+
+    //-----------------------------------------------------------------------
+    private void start() {
+        atLineStart = true;
+        stopped = false;
+        count = 0;
+    }
+
+    /**
+     * Scans a window of text.
+     *
+     * @param text  the text of the window, not null
+     * @param pos  the position to start from
+     * @param limit  the position at which there may be too little text to match
+     * @param base  the offset of the window from the start of the input
+     * @param handler  the handler to receive the matches, not null
+     * @return the position that scanning reached
+     */
+    private int scanWindow(CharSequence text, int pos, int limit, long base, Handler handler) {
+        int length = text.length();
+        while (pos < length) {
+            if (lineStartsOnly) {
+                if (atLineStart) {
+                    if (pos >= limit) {
+                        break;  // more text needed
+                    }
+                    atLineStart = false;
+                    int end = match(text, pos);
+                    if (end >= 0 && report(handler, base + pos) == false) {
+                        return end;
+                    }
+                }
+                while (pos < length && text.charAt(pos) != '\n') {
+                    pos++;
+                }
+                if (pos < length) {
+                    pos++;
+                    atLineStart = true;
+                }
+            } else {
+                if (pos >= limit) {
+                    break;  // more text needed
+                }
+                int end = match(text, pos);
+                if (end >= 0) {
+                    if (report(handler, base + pos) == false) {
+                        return end;
+                    }
+                    pos = Math.max(end, pos + 1);
+                } else {
+                    pos++;
+                }
+            }
+        }
+        return pos;
+    }
+
+    /**
+     * Attempts to match the formatter at the specified position.
+     *
+     * @param text  the text to match, not null
+     * @param pos  the position to match at
+     * @return the end of the match, negative if no match
+     */
+    private int match(CharSequence text, int pos) {
+        context.reset();
+        try {
+            int end = printerParser.parse(context, text, pos);
+            if (end < 0) {
+                return -1;
+            }
+            context.toParsed().resolveEpochSecond(epochSecond, nano, 0);
+            return end;
+        } catch (RuntimeException ex) {
+            return -1;
+        }
+    }
+
+    private boolean report(Handler handler, long offset) {
+        count++;
+        if (handler.found(offset, epochSecond[0], nano[0]) == false) {
+            stopped = true;
+            return false;
+        }
+        return true;
+    }
+
+}
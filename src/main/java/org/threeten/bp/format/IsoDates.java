@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2007-2013, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.bp.format;
+
+/**
+ * Calculations on ISO dates shared by the fast paths of the printers and parsers.
+ * <p>
+ * These work directly on primitive year, month and day values, without
+ * creating a {@code LocalDate}, and perform no validation.
+ *
+ * <h3>Specification for implementors</h3>
+ * This is a thread-safe utility class.
+ */
+final class IsoDates {
+
+    /**
+     * The number of days in a 400 year cycle.
+     */
+    private static final int DAYS_PER_CYCLE = 146097;
+    /**
+     * The number of days from year zero to year 1970.
+     */
+    static final long DAYS_0000_TO_1970 = (DAYS_PER_CYCLE * 5L) - (30L * 365L + 7L);
+
+    /**
+     * Restricted constructor.
+     */
+    private IsoDates() {
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Checks if the year is a leap year in the proleptic ISO calendar.
+     *
+     * @param year  the proleptic year
+     * @return true if the year is a leap year
+     */
+    static boolean isLeapYear(long year) {
+        return (year & 3) == 0 && (year % 100 != 0 || year % 400 == 0);
+    }
+
+    /**
+     * Gets the length of the month in days.
+     *
+     * @param year  the proleptic year
+     * @param month  the month-of-year, from 1 to 12
+     * @return the length of the month, from 28 to 31
+     */
+    static int lengthOfMonth(long year, int month) {
+        switch (month) {
+            case 2:
+                return (isLeapYear(year) ? 29 : 28);
+            case 4:
+            case 6:
+            case 9:
+            case 11:
+                return 30;
+            default:
+                return 31;
+        }
+    }
+
+    /**
+     * Converts a year, month and day-of-month to an epoch-day.
+     *
+     * @param year  the proleptic year
+     * @param month  the month-of-year, from 1 to 12
+     * @param dom  the day-of-month, valid for the month
+     * @return the epoch-day, based on 1970-01-01
+     */
+    static long epochDay(long year, int month, int dom) {
+        long total = 365 * year;
+        if (year >= 0) {
+            total += (year + 3) / 4 - (year + 99) / 100 + (year + 399) / 400;
+        } else {
+            total -= year / -4 - year / -100 + year / -400;
+        }
+        total += (367 * month - 362) / 12 + dom - 1;
+        if (month > 2) {
+            total -= (isLeapYear(year) ? 1 : 2);
+        }
+        return total - DAYS_0000_TO_1970;
+    }
+
+    /**
+     * Converts a day count to a packed year, month and day-of-month.
+     * <p>
+     * The result holds the year in bits 9 and above, the month in bits 5 to 8
+     * and the day-of-month in bits 0 to 4.
+     *
+     * @param zeroDay  the days from 0000-01-01, from 0 to 10,000 years
+     * @return the packed date
+     */
+    static int packedDate(int zeroDay) {
+        // march-based calculation, shifted by one cycle to keep values positive
+        int shifted = zeroDay - 60 + DAYS_PER_CYCLE;
+        int cycleDays = shifted % DAYS_PER_CYCLE;
+        int yearOfCycle = (cycleDays - cycleDays / 1460 + cycleDays / 36524 - cycleDays / 146096) / 365;
+        int marchDoy0 = cycleDays - (365 * yearOfCycle + yearOfCycle / 4 - yearOfCycle / 100);
+        int marchMonth0 = (marchDoy0 * 5 + 2) / 153;
+        int dom = marchDoy0 - (marchMonth0 * 153 + 2) / 5 + 1;
+        int month = (marchMonth0 < 10 ? marchMonth0 + 3 : marchMonth0 - 9);
+        int year = (shifted / DAYS_PER_CYCLE) * 400 + yearOfCycle + (month <= 2 ? 1 : 0) - 400;
+        return (year << 9) | (month << 5) | dom;
+    }
+
+}
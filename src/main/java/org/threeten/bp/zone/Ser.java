@@ -223,4 +223,112 @@ final class Ser implements Externalizable {
         }
     }
 
+    //-----------------------------------------------------------------------
+    /**
+     * Writes an unsigned variable length value to the stream.
+     * <p>
+     * Each byte holds seven bits of the value, with the top bit set
+     * on all bytes except the last.
+     *
+     * @param value  the value, treated as unsigned
+     * @param out  the output stream, not null
+     * @throws IOException if an error occurs
+     */
+    static void writeVarLong(long value, DataOutput out) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) (value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    /**
+     * Reads an unsigned variable length value from the stream.
+     *
+     * @param in  the input stream, not null
+     * @return the value, treated as unsigned
+     * @throws IOException if an error occurs
+     */
+    static long readVarLong(DataInput in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = in.readByte();
+            value |= (long) (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new StreamCorruptedException("Invalid variable length value");
+    }
+
+    /**
+     * Writes a sorted array of epoch seconds to the stream.
+     * <p>
+     * The first value is stored signed and each subsequent value as the
+     * difference from the previous, using a variable length encoding.
+     * The low bits select the unit, favouring whole hours, then quarter hours,
+     * then seconds, which keeps a typical half-year difference in two bytes.
+     *
+     * @param epochSecs  the epoch seconds in ascending order, not null
+     * @param out  the output stream, not null
+     * @throws IOException if an error occurs
+     */
+    static void writeEpochSecDeltas(long[] epochSecs, DataOutput out) throws IOException {
+        writeVarLong(epochSecs.length, out);
+        long previous = 0;
+        for (int i = 0; i < epochSecs.length; i++) {
+            long delta = epochSecs[i] - previous;
+            if (i == 0) {
+                delta = zigZag(delta);
+            } else if (delta <= 0) {
+                throw new IllegalArgumentException("Epoch seconds must be in ascending order");
+            }
+            if (delta % 3600 == 0) {
+                writeVarLong((delta / 3600) << 1, out);
+            } else if (delta % 900 == 0) {
+                writeVarLong(((delta / 900) << 2) | 1, out);
+            } else {
+                writeVarLong((delta << 2) | 3, out);
+            }
+            previous = epochSecs[i];
+        }
+    }
+
+    /**
+     * Reads a sorted array of epoch seconds from the stream.
+     *
+     * @param in  the input stream, not null
+     * @return the epoch seconds, not null
+     * @throws IOException if an error occurs
+     */
+    static long[] readEpochSecDeltas(DataInput in) throws IOException {
+        long[] epochSecs = new long[(int) readVarLong(in)];
+        long previous = 0;
+        for (int i = 0; i < epochSecs.length; i++) {
+            long store = readVarLong(in);
+            long delta;
+            if ((store & 1) == 0) {
+                delta = (store >>> 1) * 3600;
+            } else if ((store & 3) == 1) {
+                delta = (store >>> 2) * 900;
+            } else {
+                delta = store >>> 2;
+            }
+            if (i == 0) {
+                delta = unZigZag(delta);
+            }
+            previous += delta;
+            epochSecs[i] = previous;
+        }
+        return epochSecs;
+    }
+
+    private static long zigZag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unZigZag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
 }
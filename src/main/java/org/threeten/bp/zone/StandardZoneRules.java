@@ -31,25 +31,30 @@
  */
 package org.threeten.bp.zone;
 
+import static org.threeten.bp.temporal.ChronoField.YEAR;
+
 import java.io.DataInput;
 import java.io.DataOutput;
 import java.io.IOException;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 
 import org.threeten.bp.Duration;
 import org.threeten.bp.Instant;
-import org.threeten.bp.LocalDate;
 import org.threeten.bp.LocalDateTime;
 import org.threeten.bp.Year;
 import org.threeten.bp.ZoneOffset;
 import org.threeten.bp.jdk8.Jdk8Methods;
 
+import static org.threeten.bp.jdk7.Jdk7Methods.Objects_requireNonNull;
+
 /**
  * The rules describing how the zone offset varies through the year and historically.
  * <p>
@@ -180,21 +185,49 @@ final class StandardZoneRules extends ZoneRules implements Serializable {
         this.wallOffsets = wallOffsets;
         this.lastRules = lastRules;
 
-        // convert savings transitions to locals
-        List<LocalDateTime> localTransitionList = new ArrayList<LocalDateTime>();
+        // convert savings transitions to locals, as per ZoneOffsetTransition
+        LocalDateTime[] localTransitions = new LocalDateTime[savingsInstantTransitions.length * 2];
         for (int i = 0; i < savingsInstantTransitions.length; i++) {
             ZoneOffset before = wallOffsets[i];
             ZoneOffset after = wallOffsets[i + 1];
-            ZoneOffsetTransition trans = new ZoneOffsetTransition(savingsInstantTransitions[i], before, after);
-            if (trans.isGap()) {
-                localTransitionList.add(trans.getDateTimeBefore());
-                localTransitionList.add(trans.getDateTimeAfter());
-            } else {
-                localTransitionList.add(trans.getDateTimeAfter());
-                localTransitionList.add(trans.getDateTimeBefore());
-            }
+            LocalDateTime dateTimeBefore = LocalDateTime.ofEpochSecond(savingsInstantTransitions[i], 0, before);
+            LocalDateTime dateTimeAfter = dateTimeBefore.plusSeconds(after.getTotalSeconds() - before.getTotalSeconds());
+            boolean gap = after.getTotalSeconds() > before.getTotalSeconds();
+            localTransitions[i * 2] = (gap ? dateTimeBefore : dateTimeAfter);
+            localTransitions[i * 2 + 1] = (gap ? dateTimeAfter : dateTimeBefore);
         }
-        this.savingsLocalTransitions = localTransitionList.toArray(new LocalDateTime[localTransitionList.size()]);
+        this.savingsLocalTransitions = localTransitions;
+    }
+
+    /**
+     * Constructor used when interning.
+     *
+     * @param rules  the rules to copy, not null
+     * @param interner  the interner to share state with, not null
+     */
+    private StandardZoneRules(StandardZoneRules rules, ZoneRulesInterner interner) {
+        super();
+        this.standardTransitions = interner.intern(rules.standardTransitions);
+        this.standardOffsets = interner.intern(rules.standardOffsets);
+        this.savingsInstantTransitions = interner.intern(rules.savingsInstantTransitions);
+        this.savingsLocalTransitions = interner.intern(rules.savingsLocalTransitions);
+        this.wallOffsets = interner.intern(rules.wallOffsets);
+        ZoneOffsetTransitionRule[] internedRules = new ZoneOffsetTransitionRule[rules.lastRules.length];
+        for (int i = 0; i < internedRules.length; i++) {
+            internedRules[i] = interner.intern(rules.lastRules[i]);
+        }
+        this.lastRules = interner.intern(internedRules);
+    }
+
+    /**
+     * Returns an equal instance that shares its arrays and transition rules
+     * with other rules known to the interner.
+     *
+     * @param interner  the interner, not null
+     * @return the equal rules, not null
+     */
+    StandardZoneRules intern(ZoneRulesInterner interner) {
+        return new StandardZoneRules(this, interner);
     }
 
     //-----------------------------------------------------------------------
@@ -268,6 +301,98 @@ final class StandardZoneRules extends ZoneRules implements Serializable {
         return new StandardZoneRules(stdTrans, stdOffsets, savTrans, savOffsets, rules);
     }
 
+    /**
+     * Writes the state to the stream in the compact format.
+     * <p>
+     * The compact format stores transitions as differences and offsets
+     * as indices into a dictionary shared by all the rules in a file.
+     *
+     * @param out  the output stream, not null
+     * @param offsetIndices  the dictionary index of each offset, not null
+     * @throws IOException if an error occurs
+     */
+    void writeCompact(DataOutput out, Map<ZoneOffset, Integer> offsetIndices) throws IOException {
+        Ser.writeEpochSecDeltas(standardTransitions, out);
+        for (ZoneOffset offset : standardOffsets) {
+            Ser.writeVarLong(offsetIndices.get(offset), out);
+        }
+        Ser.writeEpochSecDeltas(savingsInstantTransitions, out);
+        for (ZoneOffset offset : wallOffsets) {
+            Ser.writeVarLong(offsetIndices.get(offset), out);
+        }
+        out.writeByte(lastRules.length);
+        for (ZoneOffsetTransitionRule rule : lastRules) {
+            rule.writeExternal(out);
+        }
+    }
+
+    /**
+     * Reads the state from the stream in the compact format.
+     *
+     * @param in  the input stream, not null
+     * @param offsets  the dictionary of offsets, not null
+     * @return the created object, not null
+     * @throws IOException if an error occurs
+     */
+    static StandardZoneRules readCompact(DataInput in, ZoneOffset[] offsets) throws IOException {
+        long[] stdTrans = Ser.readEpochSecDeltas(in);
+        ZoneOffset[] stdOffsets = new ZoneOffset[stdTrans.length + 1];
+        for (int i = 0; i < stdOffsets.length; i++) {
+            stdOffsets[i] = offsets[(int) Ser.readVarLong(in)];
+        }
+        long[] savTrans = Ser.readEpochSecDeltas(in);
+        ZoneOffset[] savOffsets = new ZoneOffset[savTrans.length + 1];
+        for (int i = 0; i < savOffsets.length; i++) {
+            savOffsets[i] = offsets[(int) Ser.readVarLong(in)];
+        }
+        int ruleSize = in.readByte();
+        ZoneOffsetTransitionRule[] rules = new ZoneOffsetTransitionRule[ruleSize];
+        for (int i = 0; i < ruleSize; i++) {
+            rules[i] = ZoneOffsetTransitionRule.readExternal(in);
+        }
+        return new StandardZoneRules(stdTrans, stdOffsets, savTrans, savOffsets, rules);
+    }
+
+    /**
+     * Adds the standard and wall offsets used by these rules to the collection.
+     *
+     * @param offsets  the collection to add to, not null
+     */
+    void addOffsets(Collection<ZoneOffset> offsets) {
+        offsets.addAll(Arrays.asList(standardOffsets));
+        offsets.addAll(Arrays.asList(wallOffsets));
+    }
+
+    /**
+     * Obtains a copy of these rules without the history before an instant.
+     * <p>
+     * The offsets in force at the instant become the initial offsets.
+     * The last savings transition before the instant is retained, so that
+     * the rules continue to have at least one savings transition.
+     * The rules are unchanged for all instants from the specified instant onwards.
+     *
+     * @param epochSecond  the epoch-second to retain history from
+     * @return the rules, not null
+     */
+    StandardZoneRules withHistoryFrom(long epochSecond) {
+        int stdIndex = countBefore(standardTransitions, epochSecond);
+        int savIndex = Math.max(countBefore(savingsInstantTransitions, epochSecond) - 1, 0);
+        if (stdIndex == 0 && savIndex == 0) {
+            return this;
+        }
+        return new StandardZoneRules(
+                Arrays.copyOfRange(standardTransitions, stdIndex, standardTransitions.length),
+                Arrays.copyOfRange(standardOffsets, stdIndex, standardOffsets.length),
+                Arrays.copyOfRange(savingsInstantTransitions, savIndex, savingsInstantTransitions.length),
+                Arrays.copyOfRange(wallOffsets, savIndex, wallOffsets.length),
+                lastRules);
+    }
+
+    private static int countBefore(long[] epochSecs, long epochSecond) {
+        int index = Arrays.binarySearch(epochSecs, epochSecond);
+        return (index < 0 ? -index - 1 : index);
+    }
+
     //-----------------------------------------------------------------------
     @Override
     public boolean isFixedOffset() {
@@ -277,12 +402,25 @@ final class StandardZoneRules extends ZoneRules implements Serializable {
     //-----------------------------------------------------------------------
     @Override
     public ZoneOffset getOffset(Instant instant) {
-        long epochSec = instant.getEpochSecond();
+        return getOffset(instant.getEpochSecond());
+    }
 
+    @Override
+    public ZoneOffset getOffset(long epochSec) {
         // check if using last rules
         if (lastRules.length > 0 &&
                 epochSec > savingsInstantTransitions[savingsInstantTransitions.length - 1]) {
             int year = findYear(epochSec, wallOffsets[wallOffsets.length - 1]);
+            if (year >= LAST_CACHED_YEAR) {
+                // calculate directly rather than creating transitions that are not cached
+                ZoneOffsetTransitionRule[] ruleArray = lastRules;
+                for (int i = 0; i < ruleArray.length; i++) {
+                    if (epochSec < ruleArray[i].transitionEpochSecond(year)) {
+                        return ruleArray[i].getOffsetBefore();
+                    }
+                }
+                return ruleArray[ruleArray.length - 1].getOffsetAfter();
+            }
             ZoneOffsetTransition[] transArray = findTransitionArray(year);
             ZoneOffsetTransition trans = null;
             for (int i = 0; i < transArray.length; i++) {
@@ -422,9 +560,16 @@ final class StandardZoneRules extends ZoneRules implements Serializable {
     private ZoneOffsetTransition[] findTransitionArray(int year) {
         Integer yearObj = year;  // should use Year class, but this saves a class load
         ZoneOffsetTransition[] transArray = lastRulesCache.get(yearObj);
+        ZoneRulesListener listener = ZoneRulesListeners.listener;
         if (transArray != null) {
+            if (listener != null) {
+                listener.transitionCacheHit(year);
+            }
             return transArray;
         }
+        if (listener != null) {
+            listener.transitionCacheMiss(year);
+        }
         ZoneOffsetTransitionRule[] ruleArray = lastRules;
         transArray  = new ZoneOffsetTransition[ruleArray.length];
         for (int i = 0; i < ruleArray.length; i++) {
@@ -536,13 +681,49 @@ final class StandardZoneRules extends ZoneRules implements Serializable {
     }
 
     private int findYear(long epochSecond, ZoneOffset offset) {
+        return YEAR.checkValidIntValue(findYearUnchecked(epochSecond, offset));
+    }
+
+    private static long findYearUnchecked(long epochSecond, ZoneOffset offset) {
         // inline for performance
         long localSecond = epochSecond + offset.getTotalSeconds();
         long localEpochDay = Jdk8Methods.floorDiv(localSecond, 86400);
-        return LocalDate.ofEpochDay(localEpochDay).getYear();
+        // estimate from the average year length, which is at most one year out
+        long year = 1970 + Jdk8Methods.floorDiv(localEpochDay * 400, 146097);
+        if (localEpochDay < ZoneOffsetTransitionRule.yearStartEpochDay(year)) {
+            year--;
+        } else if (localEpochDay >= ZoneOffsetTransitionRule.yearStartEpochDay(year + 1)) {
+            year++;
+        }
+        return year;
+    }
+
+    /**
+     * Finds the year of the epoch-second in the last offset, clamped to the valid range.
+     *
+     * @param epochSecond  the epoch-second
+     * @return the year, from {@code Year.MIN_VALUE} to {@code Year.MAX_VALUE}
+     */
+    private int findLastRulesYear(long epochSecond) {
+        long year = findYearUnchecked(epochSecond, wallOffsets[wallOffsets.length - 1]);
+        return (int) Math.max(Year.MIN_VALUE, Math.min(Year.MAX_VALUE, year));
     }
 
     //-------------------------------------------------------------------------
+    /**
+     * {@inheritDoc}
+     * <p>
+     * This implementation walks the historic transition arrays directly and then
+     * generates transitions from the last rules year by year, without creating
+     * any {@code ZoneOffsetTransition} instances or caching the generated years.
+     */
+    @Override
+    public ZoneOffsetTransitionCursor transitionCursor(Instant startInclusive, Instant endExclusive) {
+        Objects_requireNonNull(startInclusive, "startInclusive");
+        Objects_requireNonNull(endExclusive, "endExclusive");
+        return new Cursor(startInclusive, endExclusive);
+    }
+
     @Override
     public List<ZoneOffsetTransition> getTransitions() {
         List<ZoneOffsetTransition> list = new ArrayList<ZoneOffsetTransition>();
@@ -594,4 +775,203 @@ final class StandardZoneRules extends ZoneRules implements Serializable {
         return "StandardZoneRules[currentStandardOffset=" + standardOffsets[standardOffsets.length - 1] + "]";
     }
 
+    //-----------------------------------------------------------------------
+    /**
+     * Cursor over the transitions, walking the historic arrays and then the last rules.
+     * <p>
+     * Generated transitions are only those after the last historic transition,
+     * matching {@link StandardZoneRules#nextTransition(Instant)}.
+     */
+    private final class Cursor extends ZoneOffsetTransitionCursor {
+        /** State before the first transition. */
+        private static final int BEFORE = 0;
+        /** State on a historic transition. */
+        private static final int HISTORIC = 1;
+        /** State on a transition generated from the last rules. */
+        private static final int GENERATED = 2;
+        /** State after the last transition. */
+        private static final int AFTER = 3;
+        /** The current state. */
+        private int state = BEFORE;
+        /** The index into the historic arrays. */
+        private int index;
+        /** The year of the generated transition. */
+        private int year;
+        /** The index into the last rules. */
+        private int ruleIndex;
+
+        Cursor(Instant start, Instant end) {
+            super(start, end);
+        }
+
+        @Override
+        public boolean next() {
+            boolean found;
+            switch (state) {
+                case BEFORE:
+                    found = seekFirst(startEpochSecond);
+                    break;
+                case HISTORIC:
+                    if (index + 1 < savingsInstantTransitions.length) {
+                        found = historic(index + 1);
+                    } else {
+                        found = seekGenerated(epochSecond);
+                    }
+                    break;
+                case GENERATED:
+                    if (ruleIndex + 1 < lastRules.length) {
+                        found = generated(year, ruleIndex + 1);
+                    } else if (year < Year.MAX_VALUE) {
+                        found = generated(year + 1, 0);
+                    } else {
+                        found = false;
+                    }
+                    break;
+                default:
+                    return false;
+            }
+            if (found == false || epochSecond >= endEpochSecond) {
+                afterLast();
+                return false;
+            }
+            return true;
+        }
+
+        @Override
+        public boolean previous() {
+            boolean found;
+            switch (state) {
+                case AFTER:
+                    found = seekLast(endEpochSecond);
+                    break;
+                case HISTORIC:
+                    found = index > 0 && historic(index - 1);
+                    break;
+                case GENERATED:
+                    if (ruleIndex > 0) {
+                        found = generatedOrHistoric(year, ruleIndex - 1);
+                    } else if (year > Year.MIN_VALUE) {
+                        found = generatedOrHistoric(year - 1, lastRules.length - 1);
+                    } else {
+                        found = lastHistoric();
+                    }
+                    break;
+                default:
+                    return false;
+            }
+            if (found == false || epochSecond < startEpochSecond) {
+                beforeFirst();
+                return false;
+            }
+            return true;
+        }
+
+        @Override
+        public void beforeFirst() {
+            state = BEFORE;
+            unposition();
+        }
+
+        @Override
+        public void afterLast() {
+            state = AFTER;
+            unposition();
+        }
+
+        //-----------------------------------------------------------------------
+        /**
+         * Moves to the first transition at or after the epoch-second.
+         */
+        private boolean seekFirst(long epochSec) {
+            int idx = Arrays.binarySearch(savingsInstantTransitions, epochSec);
+            if (idx < 0) {
+                idx = -idx - 1;
+            }
+            if (idx < savingsInstantTransitions.length) {
+                return historic(idx);
+            }
+            return seekGenerated(epochSec - 1);
+        }
+
+        /**
+         * Moves to the first generated transition after the epoch-second,
+         * which must be at or after the last historic transition.
+         */
+        private boolean seekGenerated(long epochSec) {
+            if (lastRules.length == 0 || epochSec >= endEpochSecond) {
+                return false;
+            }
+            // a transition may fall in an adjacent year in the last offset
+            int y = Math.max(findLastRulesYear(epochSec) - 1, Year.MIN_VALUE);
+            for ( ; y <= Year.MAX_VALUE; y++) {
+                for (int i = 0; i < lastRules.length; i++) {
+                    long trans = lastRules[i].transitionEpochSecond(y);
+                    if (trans > epochSec) {
+                        return generated(y, i);
+                    }
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Moves to the last transition before the epoch-second.
+         */
+        private boolean seekLast(long epochSec) {
+            int length = savingsInstantTransitions.length;
+            long lastHistoric = (length > 0 ? savingsInstantTransitions[length - 1] : Long.MIN_VALUE);
+            if (lastRules.length > 0 && epochSec > lastHistoric + 1) {
+                int y = Math.min(findLastRulesYear(epochSec) + 1, Year.MAX_VALUE);
+                for ( ; y >= Year.MIN_VALUE; y--) {
+                    for (int i = lastRules.length - 1; i >= 0; i--) {
+                        long trans = lastRules[i].transitionEpochSecond(y);
+                        if (trans < epochSec) {
+                            return generatedOrHistoric(y, i);
+                        }
+                    }
+                }
+                return lastHistoric();
+            }
+            int idx = Arrays.binarySearch(savingsInstantTransitions, epochSec);
+            if (idx < 0) {
+                idx = -idx - 1;
+            }
+            return idx > 0 && historic(idx - 1);
+        }
+
+        /**
+         * Moves to a generated transition, or to the last historic transition
+         * if the generated one is not after it.
+         */
+        private boolean generatedOrHistoric(int y, int i) {
+            long trans = lastRules[i].transitionEpochSecond(y);
+            int length = savingsInstantTransitions.length;
+            if (length > 0 && trans <= savingsInstantTransitions[length - 1]) {
+                return lastHistoric();
+            }
+            return generated(y, i);
+        }
+
+        private boolean lastHistoric() {
+            int length = savingsInstantTransitions.length;
+            return length > 0 && historic(length - 1);
+        }
+
+        private boolean historic(int idx) {
+            state = HISTORIC;
+            index = idx;
+            position(savingsInstantTransitions[idx], wallOffsets[idx], wallOffsets[idx + 1]);
+            return true;
+        }
+
+        private boolean generated(int y, int i) {
+            ZoneOffsetTransitionRule rule = lastRules[i];
+            state = GENERATED;
+            year = y;
+            ruleIndex = i;
+            position(rule.transitionEpochSecond(y), rule.getOffsetBefore(), rule.getOffsetAfter());
+            return true;
+        }
+    }
+
 }
@@ -35,15 +35,21 @@ import static org.threeten.bp.temporal.ChronoField.HOUR_OF_DAY;
 import static org.threeten.bp.temporal.ChronoField.MINUTE_OF_HOUR;
 import static org.threeten.bp.temporal.ChronoField.SECOND_OF_MINUTE;
 
+import java.io.BufferedOutputStream;
 import java.io.BufferedReader;
 import java.io.ByteArrayOutputStream;
 import java.io.DataOutputStream;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.FileReader;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.security.MessageDigest;
 import java.text.ParsePosition;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -53,7 +59,15 @@ import java.util.SortedMap;
 import java.util.StringTokenizer;
 import java.util.TreeMap;
 import java.util.TreeSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.jar.JarOutputStream;
+import java.util.regex.Pattern;
 import java.util.zip.ZipEntry;
 
 import org.threeten.bp.DayOfWeek;
@@ -93,23 +107,39 @@ final class TzdbZoneRulesCompiler {
      * Constant for MJD 1972-01-01.
      */
     private static final long MJD_1972_01_01 = 41317L;
+    /**
+     * The original TZDB.dat format.
+     */
+    static final int FORMAT_ORIGINAL = 1;
+    /**
+     * The compact TZDB.dat format.
+     */
+    static final int FORMAT_COMPACT = 2;
 
     /**
      * Reads a set of TZDB files and builds a single combined data file.
+     * <p>
+     * The process exits with status 1 if the arguments are invalid or the files
+     * cannot be compiled, so that a build running the compiler fails.
      *
      * @param args  the arguments
      */
     public static void main(String[] args) {
         if (args.length < 2) {
             outputHelp();
-            return;
+            System.exit(1);
         }
 
         // parse args
         String version = null;
         File baseSrcDir = null;
         File dstDir = null;
+        File datDir = null;
         boolean verbose = false;
+        int format = FORMAT_COMPACT;
+        Pattern include = null;
+        Pattern exclude = null;
+        int fromYear = Year.MIN_VALUE;
 
         // parse options
         int i;
@@ -128,31 +158,62 @@ final class TzdbZoneRulesCompiler {
                     dstDir = new File(args[i]);
                     continue;
                 }
+            } else if ("-datdir".equals(arg)) {
+                if (datDir == null && ++i < args.length) {
+                    datDir = new File(args[i]);
+                    continue;
+                }
             } else if ("-version".equals(arg)) {
                 if (version == null && ++i < args.length) {
                     version = args[i];
                     continue;
                 }
+            } else if ("-format".equals(arg)) {
+                if (++i < args.length && (args[i].equals("1") || args[i].equals("2"))) {
+                    format = Integer.parseInt(args[i]);
+                    continue;
+                }
+            } else if ("-include".equals(arg)) {
+                if (include == null && ++i < args.length) {
+                    include = Pattern.compile(args[i]);
+                    continue;
+                }
+            } else if ("-exclude".equals(arg)) {
+                if (exclude == null && ++i < args.length) {
+                    exclude = Pattern.compile(args[i]);
+                    continue;
+                }
+            } else if ("-fromyear".equals(arg)) {
+                if (fromYear == Year.MIN_VALUE && ++i < args.length && args[i].matches("-?[0-9]{1,9}")) {
+                    fromYear = Integer.parseInt(args[i]);
+                    continue;
+                }
             } else if ("-verbose".equals(arg)) {
                 if (verbose == false) {
                     verbose = true;
                     continue;
                 }
-            } else if ("-help".equals(arg) == false) {
+            } else if ("-help".equals(arg)) {
+                outputHelp();
+                return;
+            } else {
                 System.out.println("Unrecognised option: " + arg);
+                outputHelp();
+                System.exit(1);
             }
+            System.out.println("Invalid or repeated option: " + arg);
             outputHelp();
-            return;
+            System.exit(1);
         }
 
         // check source directory
         if (baseSrcDir == null) {
             System.out.println("Source directory must be specified using -srcdir: " + baseSrcDir);
-            return;
+            System.exit(1);
         }
         if (baseSrcDir.isDirectory() == false) {
             System.out.println("Source does not exist or is not a directory: " + baseSrcDir);
-            return;
+            System.exit(1);
         }
         dstDir = (dstDir != null ? dstDir : baseSrcDir);
 
@@ -171,12 +232,12 @@ final class TzdbZoneRulesCompiler {
             File srcDir = new File(baseSrcDir, version);
             if (srcDir.isDirectory() == false) {
                 System.out.println("Version does not represent a valid source directory : " + srcDir);
-                return;
+                System.exit(1);
             }
             srcDirs.add(srcDir);
         } else {
             File[] dirs = baseSrcDir.listFiles();
-            for (File dir : dirs) {
+            for (File dir : (dirs != null ? dirs : new File[0])) {
                 if (dir.isDirectory() && dir.getName().matches("[12][0-9][0-9][0-9][A-Za-z0-9._-]+")) {
                     srcDirs.add(dir);
                 }
@@ -184,19 +245,23 @@ final class TzdbZoneRulesCompiler {
         }
         if (srcDirs.isEmpty()) {
             System.out.println("Source directory contains no valid source folders: " + baseSrcDir);
-            return;
+            System.exit(1);
         }
 
         // check destination directory
         if (dstDir.exists() == false && dstDir.mkdirs() == false) {
             System.out.println("Destination directory could not be created: " + dstDir);
-            return;
+            System.exit(1);
         }
         if (dstDir.isDirectory() == false) {
             System.out.println("Destination is not a directory: " + dstDir);
-            return;
+            System.exit(1);
         }
-        process(srcDirs, srcFileNames, dstDir, verbose);
+        if (datDir != null && datDir.exists() == false && datDir.mkdirs() == false) {
+            System.out.println("Data file directory could not be created: " + datDir);
+            System.exit(1);
+        }
+        process(srcDirs, srcFileNames, dstDir, datDir, format, include, exclude, fromYear, verbose);
         System.exit(0);
     }
 
@@ -209,6 +274,11 @@ final class TzdbZoneRulesCompiler {
         System.out.println("   -srcdir <directory>   Where to find source directories (required)");
         System.out.println("   -dstdir <directory>   Where to output generated files (default srcdir)");
         System.out.println("   -version <version>    Specify the version, such as 2009a (optional)");
+        System.out.println("   -format <1|2>         The format of TZDB.dat, 2 is compact (default 2)");
+        System.out.println("   -datdir <directory>   Where to output the combined TZDB.dat file (optional)");
+        System.out.println("   -include <regex>      Only output regions matching the regex (optional)");
+        System.out.println("   -exclude <regex>      Do not output regions matching the regex (optional)");
+        System.out.println("   -fromyear <year>      Discard the history of transitions before the year (optional)");
         System.out.println("   -help                 Print this usage message");
         System.out.println("   -verbose              Output verbose information during compilation");
         System.out.println(" There must be one directory for each version in srcdir");
@@ -217,14 +287,19 @@ final class TzdbZoneRulesCompiler {
         System.out.println(" Directories must match the regex [12][0-9][0-9][0-9][A-Za-z0-9._-]+");
         System.out.println(" There will be one jar file for each version and one combined jar in dstdir");
         System.out.println(" If the version is specified, only that version is processed");
+        System.out.println(" Regions that are excluded, or not included, are omitted from all files");
+        System.out.println(" History before the year is replaced by the offsets in force at the start of the year");
     }
 
     /**
      * Process to create the jar files.
      */
-    private static void process(List<File> srcDirs, List<String> srcFileNames, File dstDir, boolean verbose) {
+    private static void process(List<File> srcDirs, List<String> srcFileNames, File dstDir, File datDir,
+            int format, Pattern include, Pattern exclude, int fromYear, boolean verbose) {
         // build actual jar files
-        Map<Object, Object> deduplicateMap = new HashMap<Object, Object>();
+        ConcurrentMap<Object, Object> deduplicateMap = new ConcurrentHashMap<Object, Object>();
+        Map<String, ZoneRules> builtZoneCache = new ConcurrentHashMap<String, ZoneRules>();
+        ExecutorService executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
         Map<String, SortedMap<String, ZoneRules>> allBuiltZones = new TreeMap<String, SortedMap<String, ZoneRules>>();
         Set<String> allRegionIds = new TreeSet<String>();
         Set<ZoneRules> allRules = new HashSet<ZoneRules>();
@@ -252,10 +327,12 @@ final class TzdbZoneRulesCompiler {
             String loopVersion = srcDir.getName();
             TzdbZoneRulesCompiler compiler = new TzdbZoneRulesCompiler(loopVersion, srcFiles, leapSecondsFile, verbose);
             compiler.setDeduplicateMap(deduplicateMap);
+            compiler.setBuiltZoneCache(builtZoneCache);
+            compiler.setExecutor(executor);
             try {
                 // compile
                 compiler.compile();
-                SortedMap<String, ZoneRules> builtZones = compiler.getZones();
+                SortedMap<String, ZoneRules> builtZones = subset(compiler.getZones(), include, exclude, fromYear);
                 SortedMap<LocalDate, Byte> parsedLeapSeconds = compiler.getLeapSeconds();
 
                 // output version-specific file
@@ -263,7 +340,7 @@ final class TzdbZoneRulesCompiler {
                 if (verbose) {
                     System.out.println("Outputting file: " + dstFile);
                 }
-                outputFile(dstFile, loopVersion, builtZones, parsedLeapSeconds);
+                outputFile(dstFile, loopVersion, builtZones, parsedLeapSeconds, format);
 
                 // create totals
                 allBuiltZones.put(loopVersion, builtZones);
@@ -284,35 +361,84 @@ final class TzdbZoneRulesCompiler {
                 System.exit(1);
             }
         }
+        executor.shutdown();
+        if (allRegionIds.isEmpty()) {
+            // fail a build using the compiler rather than output an empty file
+            System.out.println("No regions were output, check the source filenames and -include/-exclude");
+            System.exit(1);
+        }
 
         // output merged file
         File dstFile = new File(dstDir, "threeten-TZDB-all.jar");
         if (verbose) {
             System.out.println("Outputting combined file: " + dstFile);
         }
-        outputFile(dstFile, allBuiltZones, allRegionIds, allRules, bestLeapSeconds);
+        outputFile(dstFile, allBuiltZones, allRegionIds, allRules, bestLeapSeconds, format);
+
+        // output merged data file
+        if (datDir != null) {
+            File datFile = new File(datDir, "TZDB.dat");
+            if (verbose) {
+                System.out.println("Outputting combined data file: " + datFile);
+            }
+            outputDatFile(datFile, allBuiltZones, allRegionIds, allRules, format);
+        }
+    }
+
+    /**
+     * Trims the built zones to a subset of the regions and history.
+     * <p>
+     * Region IDs must match the include pattern and must not match the exclude pattern.
+     * The history before the start of the year, in the earliest offset, is replaced by
+     * the offsets in force at that instant, so the rules are unchanged for any
+     * local date-time in or after the year.
+     *
+     * @param builtZones  the built zones, not null
+     * @param include  the pattern of region IDs to include, null to include all
+     * @param exclude  the pattern of region IDs to exclude, null to exclude none
+     * @param fromYear  the year to retain history from, {@code Year.MIN_VALUE} for all history
+     * @return the trimmed zones, not null
+     */
+    static SortedMap<String, ZoneRules> subset(
+            SortedMap<String, ZoneRules> builtZones, Pattern include, Pattern exclude, int fromYear) {
+        long fromEpochSecond = LocalDateTime.of(fromYear, 1, 1, 0, 0).toEpochSecond(ZoneOffset.MAX);
+        SortedMap<String, ZoneRules> subset = new TreeMap<String, ZoneRules>();
+        for (Map.Entry<String, ZoneRules> entry : builtZones.entrySet()) {
+            String regionId = entry.getKey();
+            if ((include != null && include.matcher(regionId).matches() == false) ||
+                    (exclude != null && exclude.matcher(regionId).matches())) {
+                continue;
+            }
+            ZoneRules rules = entry.getValue();
+            if (fromYear != Year.MIN_VALUE && rules instanceof StandardZoneRules) {
+                rules = ((StandardZoneRules) rules).withHistoryFrom(fromEpochSecond);
+            }
+            subset.put(regionId, rules);
+        }
+        return subset;
     }
 
     /**
      * Outputs the file.
      */
-    private static void outputFile(File dstFile, String version, SortedMap<String, ZoneRules> builtZones, SortedMap<LocalDate, Byte> leapSeconds) {
+    private static void outputFile(File dstFile, String version, SortedMap<String, ZoneRules> builtZones,
+            SortedMap<LocalDate, Byte> leapSeconds, int format) {
         Map<String, SortedMap<String, ZoneRules>> loopAllBuiltZones = new TreeMap<String, SortedMap<String, ZoneRules>>();
         loopAllBuiltZones.put(version, builtZones);
         Set<String> loopAllRegionIds = new TreeSet<String>(builtZones.keySet());
         Set<ZoneRules> loopAllRules = new HashSet<ZoneRules>(builtZones.values());
-        outputFile(dstFile, loopAllBuiltZones, loopAllRegionIds, loopAllRules, leapSeconds);
+        outputFile(dstFile, loopAllBuiltZones, loopAllRegionIds, loopAllRules, leapSeconds, format);
     }
 
     /**
      * Outputs the file.
      */
     private static void outputFile(File dstFile, Map<String, SortedMap<String, ZoneRules>> allBuiltZones,
-            Set<String> allRegionIds, Set<ZoneRules> allRules, SortedMap<LocalDate, Byte> leapSeconds) {
+            Set<String> allRegionIds, Set<ZoneRules> allRules, SortedMap<LocalDate, Byte> leapSeconds, int format) {
         JarOutputStream jos = null;
         try {
             jos = new JarOutputStream(new FileOutputStream(dstFile));
-            outputTZEntry(jos, allBuiltZones, allRegionIds, allRules);
+            outputTZEntry(jos, allBuiltZones, allRegionIds, allRules, format);
             outputLeapSecondEntry(jos, leapSeconds);
         } catch (Exception ex) {
             System.out.println("Failed: " + ex.toString());
@@ -329,57 +455,40 @@ final class TzdbZoneRulesCompiler {
         }
     }
 
+    /**
+     * Outputs the timezone data file.
+     */
+    private static void outputDatFile(File dstFile, Map<String, SortedMap<String, ZoneRules>> allBuiltZones,
+            Set<String> allRegionIds, Set<ZoneRules> allRules, int format) {
+        DataOutputStream out = null;
+        try {
+            out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(dstFile)));
+            outputTzdb(out, allBuiltZones, allRegionIds, allRules, format);
+        } catch (Exception ex) {
+            System.out.println("Failed: " + ex.toString());
+            ex.printStackTrace();
+            System.exit(1);
+        } finally {
+            if (out != null) {
+                try {
+                    out.close();
+                } catch (Exception ex) {
+                    // Ignored
+                }
+            }
+        }
+    }
+
     /**
      * Outputs the timezone entry in the JAR file.
      */
     private static void outputTZEntry(
             JarOutputStream jos, Map<String, SortedMap<String, ZoneRules>> allBuiltZones,
-            Set<String> allRegionIds, Set<ZoneRules> allRules) {
-        // this format is not publicly specified
+            Set<String> allRegionIds, Set<ZoneRules> allRules, int format) {
         try {
             jos.putNextEntry(new ZipEntry("org/threeten/bp/TZDB.dat"));
             DataOutputStream out = new DataOutputStream(jos);
-
-            // file version
-            out.writeByte(1);
-            // group
-            out.writeUTF("TZDB");
-            // versions
-            String[] versionArray = allBuiltZones.keySet().toArray(new String[allBuiltZones.size()]);
-            out.writeShort(versionArray.length);
-            for (String version : versionArray) {
-                out.writeUTF(version);
-            }
-            // regions
-            String[] regionArray = allRegionIds.toArray(new String[allRegionIds.size()]);
-            out.writeShort(regionArray.length);
-            for (String regionId : regionArray) {
-                out.writeUTF(regionId);
-            }
-            // rules
-            List<ZoneRules> rulesList = new ArrayList<ZoneRules>(allRules);
-            out.writeShort(rulesList.size());
-            ByteArrayOutputStream baos = new ByteArrayOutputStream(1024);
-            for (ZoneRules rules : rulesList) {
-                baos.reset();
-                DataOutputStream dataos = new DataOutputStream(baos);
-                Ser.write(rules, dataos);
-                dataos.close();
-                byte[] bytes = baos.toByteArray();
-                out.writeShort(bytes.length);
-                out.write(bytes);
-            }
-            // link version-region-rules
-            for (String version : allBuiltZones.keySet()) {
-                out.writeShort(allBuiltZones.get(version).size());
-                for (Map.Entry<String, ZoneRules> entry : allBuiltZones.get(version).entrySet()) {
-                     int regionIndex = Arrays.binarySearch(regionArray, entry.getKey());
-                     int rulesIndex = rulesList.indexOf(entry.getValue());
-                     out.writeShort(regionIndex);
-                     out.writeShort(rulesIndex);
-                }
-            }
-
+            outputTzdb(out, allBuiltZones, allRegionIds, allRules, format);
             out.flush();
             jos.closeEntry();
         } catch (Exception ex) {
@@ -389,6 +498,95 @@ final class TzdbZoneRulesCompiler {
         }
     }
 
+    /**
+     * Outputs the timezone data.
+     * <p>
+     * Format 1 stores each rules using {@link Ser}.
+     * Format 2 adds a dictionary of offsets after the regions, and stores each
+     * rules in the compact form of {@link StandardZoneRules#writeCompact}.
+     *
+     * @param out  the output stream, not null
+     * @param allBuiltZones  the rules keyed by version then region, not null
+     * @param allRegionIds  all the region IDs, not null
+     * @param allRules  all the distinct rules, not null
+     * @param format  the file format, 1 or 2
+     * @throws IOException if an error occurs
+     */
+    static void outputTzdb(
+            DataOutputStream out, Map<String, SortedMap<String, ZoneRules>> allBuiltZones,
+            Set<String> allRegionIds, Set<ZoneRules> allRules, int format) throws IOException {
+        // this format is not publicly specified
+        // file version
+        out.writeByte(format);
+        // group
+        out.writeUTF("TZDB");
+        // versions
+        String[] versionArray = allBuiltZones.keySet().toArray(new String[allBuiltZones.size()]);
+        out.writeShort(versionArray.length);
+        for (String version : versionArray) {
+            out.writeUTF(version);
+        }
+        // regions
+        String[] regionArray = allRegionIds.toArray(new String[allRegionIds.size()]);
+        out.writeShort(regionArray.length);
+        for (String regionId : regionArray) {
+            out.writeUTF(regionId);
+        }
+        // offsets
+        List<ZoneRules> rulesList = new ArrayList<ZoneRules>(allRules);
+        Map<ZoneOffset, Integer> offsetIndices = new HashMap<ZoneOffset, Integer>();
+        if (format == FORMAT_COMPACT) {
+            // most frequent first, so that common offsets have a one byte index
+            List<ZoneOffset> allOffsets = new ArrayList<ZoneOffset>();
+            for (ZoneRules rules : rulesList) {
+                ((StandardZoneRules) rules).addOffsets(allOffsets);
+            }
+            final Map<ZoneOffset, Integer> counts = new HashMap<ZoneOffset, Integer>();
+            for (ZoneOffset offset : allOffsets) {
+                Integer count = counts.get(offset);
+                counts.put(offset, count == null ? 1 : count + 1);
+            }
+            List<ZoneOffset> offsets = new ArrayList<ZoneOffset>(new TreeSet<ZoneOffset>(counts.keySet()));
+            Collections.sort(offsets, new Comparator<ZoneOffset>() {
+                @Override
+                public int compare(ZoneOffset offset1, ZoneOffset offset2) {
+                    return counts.get(offset2) - counts.get(offset1);
+                }
+            });
+            out.writeShort(offsets.size());
+            for (ZoneOffset offset : offsets) {
+                offsetIndices.put(offset, offsetIndices.size());
+                Ser.writeOffset(offset, out);
+            }
+        }
+        // rules
+        out.writeShort(rulesList.size());
+        ByteArrayOutputStream baos = new ByteArrayOutputStream(1024);
+        for (ZoneRules rules : rulesList) {
+            baos.reset();
+            DataOutputStream dataos = new DataOutputStream(baos);
+            if (format == FORMAT_COMPACT) {
+                ((StandardZoneRules) rules).writeCompact(dataos, offsetIndices);
+            } else {
+                Ser.write(rules, dataos);
+            }
+            dataos.close();
+            byte[] bytes = baos.toByteArray();
+            out.writeShort(bytes.length);
+            out.write(bytes);
+        }
+        // link version-region-rules
+        for (String version : allBuiltZones.keySet()) {
+            out.writeShort(allBuiltZones.get(version).size());
+            for (Map.Entry<String, ZoneRules> entry : allBuiltZones.get(version).entrySet()) {
+                 int regionIndex = Arrays.binarySearch(regionArray, entry.getKey());
+                 int rulesIndex = rulesList.indexOf(entry.getValue());
+                 out.writeShort(regionIndex);
+                 out.writeShort(rulesIndex);
+            }
+        }
+    }
+
     /**
      * Outputs the leap second entries in the JAR file.
      */
@@ -433,8 +631,16 @@ final class TzdbZoneRulesCompiler {
     private final Map<String, String> links = new HashMap<String, String>();
     /** The built zones. */
     private final SortedMap<String, ZoneRules> builtZones = new TreeMap<String, ZoneRules>();
-    /** A map to deduplicate object instances. */
-    private Map<Object, Object> deduplicateMap = new HashMap<Object, Object>();
+    /** The normalized source of each TZDB rule set. */
+    private final Map<String, StringBuilder> ruleSources = new HashMap<String, StringBuilder>();
+    /** The normalized source of each TZDB zone. */
+    private final Map<String, StringBuilder> zoneSources = new HashMap<String, StringBuilder>();
+    /** A map to deduplicate object instances, shared by concurrent tasks. */
+    private ConcurrentMap<Object, Object> deduplicateMap = new ConcurrentHashMap<Object, Object>();
+    /** The zones already built, keyed by a hash of their source, null to always build. */
+    private Map<String, ZoneRules> builtZoneCache;
+    /** The executor to parse and build with, null to use the calling thread. */
+    private ExecutorService executor;
     /** Sorted collection of LeapSecondRules. */
     private final SortedMap<LocalDate, Byte> leapSeconds = new TreeMap<LocalDate, Byte>();
 
@@ -508,10 +714,33 @@ final class TzdbZoneRulesCompiler {
      *
      * @param deduplicateMap  the map to deduplicate items
      */
-    void setDeduplicateMap(Map<Object, Object> deduplicateMap) {
+    void setDeduplicateMap(ConcurrentMap<Object, Object> deduplicateMap) {
         this.deduplicateMap = deduplicateMap;
     }
 
+    /**
+     * Sets the cache of built zones.
+     * <p>
+     * Zones are keyed by a hash of the source lines that define them, including
+     * the rules they refer to, ignoring comments and spacing.
+     * Sharing the cache between versions avoids building unchanged zones again.
+     * The map must be thread-safe if an executor is used.
+     *
+     * @param builtZoneCache  the cache of built zones, null to always build
+     */
+    void setBuiltZoneCache(Map<String, ZoneRules> builtZoneCache) {
+        this.builtZoneCache = builtZoneCache;
+    }
+
+    /**
+     * Sets the executor used to parse files and build zones concurrently.
+     *
+     * @param executor  the executor, null to use the calling thread
+     */
+    void setExecutor(ExecutorService executor) {
+        this.executor = executor;
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Parses the source files.
@@ -519,10 +748,65 @@ final class TzdbZoneRulesCompiler {
      * @throws Exception if an error occurs
      */
     private void parseFiles() throws Exception {
-        for (File file : sourceFiles) {
-            printVerbose("Parsing file: " + file);
-            parseFile(file);
+        List<Callable<TZDBFile>> tasks = new ArrayList<Callable<TZDBFile>>();
+        for (final File file : sourceFiles) {
+            tasks.add(new Callable<TZDBFile>() {
+                @Override
+                public TZDBFile call() throws Exception {
+                    printVerbose("Parsing file: " + file);
+                    return parseFile(file);
+                }
+            });
+        }
+        // merge in file order, so the result does not depend on the executor
+        for (TZDBFile parsed : invokeAll(tasks)) {
+            for (Map.Entry<String, List<TZDBRule>> entry : parsed.rules.entrySet()) {
+                if (rules.containsKey(entry.getKey()) == false) {
+                    rules.put(entry.getKey(), new ArrayList<TZDBRule>());
+                    ruleSources.put(entry.getKey(), new StringBuilder());
+                }
+                rules.get(entry.getKey()).addAll(entry.getValue());
+                ruleSources.get(entry.getKey()).append(parsed.ruleSources.get(entry.getKey()));
+            }
+            zones.putAll(parsed.zones);
+            zoneSources.putAll(parsed.zoneSources);
+            links.putAll(parsed.links);
+        }
+        // rules are shared between zones, so adjust them before building concurrently
+        for (List<TZDBRule> ruleList : rules.values()) {
+            for (TZDBRule rule : ruleList) {
+                rule.adjustToFowards(2004);  // irrelevant, treat as leap year
+            }
+        }
+    }
+
+    /**
+     * Runs the tasks, using the executor if there is one.
+     *
+     * @param <T> the result type
+     * @param tasks  the tasks to run, not null
+     * @return the results, in the order of the tasks, not null
+     * @throws Exception if a task fails
+     */
+    private <T> List<T> invokeAll(List<Callable<T>> tasks) throws Exception {
+        List<T> results = new ArrayList<T>(tasks.size());
+        if (executor == null) {
+            for (Callable<T> task : tasks) {
+                results.add(task.call());
+            }
+            return results;
+        }
+        for (Future<T> future : executor.invokeAll(tasks)) {
+            try {
+                results.add(future.get());
+            } catch (ExecutionException ex) {
+                if (ex.getCause() instanceof Exception) {
+                    throw (Exception) ex.getCause();
+                }
+                throw ex;
+            }
         }
+        return results;
     }
 
     /**
@@ -621,15 +905,18 @@ final class TzdbZoneRulesCompiler {
      * Parses a source file.
      *
      * @param file  the file being read, not null
+     * @return the parsed file, not null
      * @throws Exception if an error occurs
      */
-    private void parseFile(File file) throws Exception {
+    private TZDBFile parseFile(File file) throws Exception {
+        TZDBFile parsed = new TZDBFile();
         int lineNumber = 1;
         String line = null;
         BufferedReader in = null;
         try {
             in = new BufferedReader(new FileReader(file));
             List<TZDBZone> openZone = null;
+            StringBuilder openZoneSource = null;
             for ( ; (line = in.readLine()) != null; lineNumber++) {
                 int index = line.indexOf('#');  // remove comments (doesn't handle # in quotes)
                 if (index >= 0) {
@@ -640,6 +927,7 @@ final class TzdbZoneRulesCompiler {
                 }
                 StringTokenizer st = new StringTokenizer(line, " \t");
                 if (openZone != null && Character.isWhitespace(line.charAt(0)) && st.hasMoreTokens()) {
+                    appendSource(openZoneSource, line, 0);
                     if (parseZoneLine(st, openZone)) {
                         openZone = null;
                     }
@@ -652,7 +940,11 @@ final class TzdbZoneRulesCompiler {
                                 throw new IllegalArgumentException("Invalid Zone line");
                             }
                             openZone = new ArrayList<TZDBZone>();
-                            zones.put(st.nextToken(), openZone);
+                            openZoneSource = new StringBuilder();
+                            String zoneId = st.nextToken();
+                            parsed.zones.put(zoneId, openZone);
+                            parsed.zoneSources.put(zoneId, openZoneSource);
+                            appendSource(openZoneSource, line, 2);
                             if (parseZoneLine(st, openZone)) {
                                 openZone = null;
                             }
@@ -663,7 +955,11 @@ final class TzdbZoneRulesCompiler {
                                     printVerbose("Invalid Rule line in file: " + file + ", line: " + line);
                                     throw new IllegalArgumentException("Invalid Rule line");
                                 }
-                                parseRuleLine(st);
+                                String name = parseRuleLine(st, parsed.rules);
+                                if (parsed.ruleSources.containsKey(name) == false) {
+                                    parsed.ruleSources.put(name, new StringBuilder());
+                                }
+                                appendSource(parsed.ruleSources.get(name), line, 2);
 
                             } else if (first.equals("Link")) {
                                 if (st.countTokens() < 2) {
@@ -672,7 +968,7 @@ final class TzdbZoneRulesCompiler {
                                 }
                                 String realId = st.nextToken();
                                 String aliasId = st.nextToken();
-                                links.put(aliasId, realId);
+                                parsed.links.put(aliasId, realId);
 
                             } else {
                                 throw new IllegalArgumentException("Unknown line");
@@ -692,14 +988,35 @@ final class TzdbZoneRulesCompiler {
                 }
             }
         }
+        return parsed;
+    }
+
+    /**
+     * Appends a line to the normalized source, ignoring spacing.
+     *
+     * @param buf  the source to append to, not null
+     * @param line  the line without comments, not null
+     * @param skipTokens  the number of leading tokens to skip
+     */
+    private static void appendSource(StringBuilder buf, String line, int skipTokens) {
+        StringTokenizer st = new StringTokenizer(line, " \t");
+        for (int i = 0; i < skipTokens && st.hasMoreTokens(); i++) {
+            st.nextToken();
+        }
+        while (st.hasMoreTokens()) {
+            buf.append(st.nextToken()).append(' ');
+        }
+        buf.append('\n');
     }
 
     /**
      * Parses a Rule line.
      *
      * @param st  the tokenizer, not null
+     * @param rules  the rules to add to, not null
+     * @return the rule name, not null
      */
-    private void parseRuleLine(StringTokenizer st) {
+    private String parseRuleLine(StringTokenizer st, Map<String, List<TZDBRule>> rules) {
         TZDBRule rule = new TZDBRule();
         String name = st.nextToken();
         if (rules.containsKey(name) == false) {
@@ -715,6 +1032,7 @@ final class TzdbZoneRulesCompiler {
         parseMonthDayTime(st, rule);
         rule.savingsAmount = parsePeriod(st.nextToken());
         rule.text = parseOptional(st.nextToken());
+        return name;
     }
 
     /**
@@ -897,16 +1215,19 @@ final class TzdbZoneRulesCompiler {
      */
     private void buildZoneRules() throws Exception {
         // build zones
-        for (String zoneId : zones.keySet()) {
-            printVerbose("Building zone " + zoneId);
-            zoneId = deduplicate(zoneId);
-            List<TZDBZone> tzdbZones = zones.get(zoneId);
-            ZoneRulesBuilder bld = new ZoneRulesBuilder();
-            for (TZDBZone tzdbZone : tzdbZones) {
-                bld = tzdbZone.addToBuilder(bld, rules);
-            }
-            ZoneRules buildRules = bld.toRules(zoneId, deduplicateMap);
-            builtZones.put(zoneId, deduplicate(buildRules));
+        List<String> zoneIds = new ArrayList<String>(zones.keySet());
+        List<Callable<ZoneRules>> tasks = new ArrayList<Callable<ZoneRules>>();
+        for (final String zoneId : zoneIds) {
+            tasks.add(new Callable<ZoneRules>() {
+                @Override
+                public ZoneRules call() throws Exception {
+                    return buildZoneRules(zoneId);
+                }
+            });
+        }
+        List<ZoneRules> builtRules = invokeAll(tasks);
+        for (int i = 0; i < zoneIds.size(); i++) {
+            builtZones.put(deduplicate(zoneIds.get(i)), builtRules.get(i));
         }
 
         // build aliases
@@ -934,6 +1255,57 @@ final class TzdbZoneRulesCompiler {
         builtZones.remove("GMT-0");
     }
 
+    /**
+     * Builds the rules for a single zone, using the cache if possible.
+     *
+     * @param zoneId  the zone ID, not null
+     * @return the rules, not null
+     * @throws Exception if an error occurs
+     */
+    private ZoneRules buildZoneRules(String zoneId) throws Exception {
+        List<TZDBZone> tzdbZones = zones.get(zoneId);
+        String sourceHash = null;
+        if (builtZoneCache != null) {
+            sourceHash = sourceHash(zoneId, tzdbZones);
+            ZoneRules cached = builtZoneCache.get(sourceHash);
+            if (cached != null) {
+                printVerbose("Reusing zone " + zoneId);
+                return cached;
+            }
+        }
+        printVerbose("Building zone " + zoneId);
+        ZoneRulesBuilder bld = new ZoneRulesBuilder();
+        for (TZDBZone tzdbZone : tzdbZones) {
+            bld = tzdbZone.addToBuilder(bld, rules);
+        }
+        ZoneRules buildRules = deduplicate(bld.toRules(zoneId, deduplicateMap));
+        if (builtZoneCache != null) {
+            builtZoneCache.put(sourceHash, buildRules);
+        }
+        return buildRules;
+    }
+
+    /**
+     * Calculates a hash of the source of a zone, including the rules it refers to.
+     *
+     * @param zoneId  the zone ID, not null
+     * @param tzdbZones  the zone lines, not null
+     * @return the hash, not null
+     * @throws Exception if an error occurs
+     */
+    private String sourceHash(String zoneId, List<TZDBZone> tzdbZones) throws Exception {
+        StringBuilder buf = new StringBuilder(zoneSources.get(zoneId));
+        Set<String> ruleNames = new TreeSet<String>();
+        for (TZDBZone tzdbZone : tzdbZones) {
+            if (tzdbZone.savingsRule != null && ruleNames.add(tzdbZone.savingsRule)) {
+                buf.append("Rule ").append(tzdbZone.savingsRule).append('\n');
+                buf.append(ruleSources.get(tzdbZone.savingsRule));
+            }
+        }
+        byte[] hash = MessageDigest.getInstance("SHA-1").digest(buf.toString().getBytes("UTF-8"));
+        return new BigInteger(1, hash).toString(16);
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Deduplicates an object instance.
@@ -943,10 +1315,8 @@ final class TzdbZoneRulesCompiler {
      * @return the deduplicated object
      */
     <T> T deduplicate(T object) {
-        if (deduplicateMap.containsKey(object) == false) {
-            deduplicateMap.put(object, object);
-        }
-        return (T) deduplicateMap.get(object);
+        Object existing = deduplicateMap.putIfAbsent(object, object);
+        return (T) (existing != null ? existing : object);
     }
 
     //-----------------------------------------------------------------------
@@ -961,6 +1331,23 @@ final class TzdbZoneRulesCompiler {
         }
     }
 
+    //-----------------------------------------------------------------------
+    /**
+     * Class representing the rules, zones and links parsed from one TZDB file.
+     */
+    final class TZDBFile {
+        /** The TZDB rules. */
+        final Map<String, List<TZDBRule>> rules = new HashMap<String, List<TZDBRule>>();
+        /** The normalized source of each TZDB rule set. */
+        final Map<String, StringBuilder> ruleSources = new HashMap<String, StringBuilder>();
+        /** The TZDB zones. */
+        final Map<String, List<TZDBZone>> zones = new HashMap<String, List<TZDBZone>>();
+        /** The normalized source of each TZDB zone. */
+        final Map<String, StringBuilder> zoneSources = new HashMap<String, StringBuilder>();
+        /** The TZDB links. */
+        final Map<String, String> links = new HashMap<String, String>();
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Class representing a month-day-time in the TZDB file.
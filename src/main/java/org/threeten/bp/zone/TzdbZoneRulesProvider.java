@@ -31,32 +31,51 @@
  */
 package org.threeten.bp.zone;
 
+import java.io.BufferedInputStream;
 import java.io.ByteArrayInputStream;
 import java.io.DataInputStream;
+import java.io.File;
+import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.StreamCorruptedException;
 import java.net.URL;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Enumeration;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.NavigableMap;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentNavigableMap;
 import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.concurrent.CopyOnWriteArraySet;
 import java.util.concurrent.atomic.AtomicReferenceArray;
 
+import org.threeten.bp.ZoneOffset;
+
 import static org.threeten.bp.jdk7.Jdk7Methods.Objects_requireNonNull;
 
 /**
  * Loads time-zone rules for 'TZDB'.
  * <p>
  * This class is public for the service loader to access.
+ * <p>
+ * The rules are loaded from each {@code org/threeten/bp/TZDB.dat} file on the class path.
+ * In addition, if the system property {@code org.threeten.bp.zone.TzdbZoneRulesProvider.directory}
+ * is set, each {@code .dat} file in that directory is loaded, and the directory is watched by a
+ * background thread that checks for new or changed files every 60 seconds, or the number of
+ * seconds in the system property {@code org.threeten.bp.zone.TzdbZoneRulesProvider.pollSeconds}.
+ * The rules in a new file are fully decoded before they are used, and then replace any version
+ * with the same ID. Files should be written elsewhere and then moved into the directory.
+ * A file that cannot be read is skipped, without affecting the other files,
+ * and is retried at the next check.
+ * See {@link ZoneRulesProvider#refresh()} for how the new rules are picked up.
  *
  * <h3>Specification for implementors</h3>
- * This class is immutable and thread-safe.
+ * This class is thread-safe.
  */
 public final class TzdbZoneRulesProvider extends ZoneRulesProvider {
     // TODO: can this be private/hidden in any way?
@@ -75,6 +94,30 @@ public final class TzdbZoneRulesProvider extends ZoneRulesProvider {
      * Uses String to avoid equals() on URL.
      */
     private Set<String> loadedUrls = new CopyOnWriteArraySet<String>();
+    /**
+     * The modification stamp of each file that has been loaded from the directory.
+     */
+    private final Map<String, String> loadedFiles = new ConcurrentHashMap<String, String>();
+    /**
+     * The error for each file in the directory that could not be loaded at the last check.
+     */
+    private final Map<String, ZoneRulesException> failedFiles = new ConcurrentHashMap<String, ZoneRulesException>();
+    /**
+     * The directory of TZDB files to load, null if none.
+     */
+    private final File directory;
+    /**
+     * The interner sharing equal rules between regions and versions.
+     */
+    private final ZoneRulesInterner interner = new ZoneRulesInterner();
+    /**
+     * The system property naming a directory of TZDB files to load and watch.
+     */
+    static final String DIRECTORY_PROPERTY = "org.threeten.bp.zone.TzdbZoneRulesProvider.directory";
+    /**
+     * The system property for the number of seconds between checks of the directory.
+     */
+    static final String POLL_SECONDS_PROPERTY = "org.threeten.bp.zone.TzdbZoneRulesProvider.pollSeconds";
 
     /**
      * Creates an instance.
@@ -84,11 +127,53 @@ public final class TzdbZoneRulesProvider extends ZoneRulesProvider {
      */
     public TzdbZoneRulesProvider() {
         super();
-        if (load(ZoneRulesProvider.class.getClassLoader()) == false) {
+        String dir = getProperty(DIRECTORY_PROPERTY);
+        this.directory = (dir != null ? new File(dir) : null);
+        boolean loaded = load(ZoneRulesProvider.class.getClassLoader());
+        if (directory != null) {
+            loaded |= loadDirectory();
+            startWatcher(getPollSeconds());
+        }
+        if (loaded == false) {
             throw new ZoneRulesException("No time-zone rules found for 'TZDB'");
         }
     }
 
+    /**
+     * Creates an instance loading from the class path and a directory, without watching it.
+     *
+     * @param directory  the directory of TZDB files, not null
+     */
+    TzdbZoneRulesProvider(File directory) {
+        super();
+        this.directory = directory;
+        load(ZoneRulesProvider.class.getClassLoader());
+        loadDirectory();
+    }
+
+    private static long getPollSeconds() {
+        String pollSeconds = getProperty(POLL_SECONDS_PROPERTY);
+        if (pollSeconds != null) {
+            try {
+                long seconds = Long.parseLong(pollSeconds.trim());
+                if (seconds > 0) {
+                    return seconds;
+                }
+            } catch (NumberFormatException ex) {
+                // use the default
+            }
+        }
+        return 60;
+    }
+
+    private static String getProperty(String key) {
+        try {
+            return System.getProperty(key);
+        } catch (SecurityException ex) {
+            return null;
+        }
+    }
+
     //-----------------------------------------------------------------------
     @Override
     protected Set<String> provideZoneIds() {
@@ -98,11 +183,14 @@ public final class TzdbZoneRulesProvider extends ZoneRulesProvider {
     @Override
     protected ZoneRules provideRules(String zoneId) {
         Objects_requireNonNull(zoneId, "zoneId");
-        ZoneRules rules = versions.lastEntry().getValue().getRules(zoneId);
-        if (rules == null) {
-            throw new ZoneRulesException("Unknown time-zone ID: " + zoneId);
+        // the latest version may be a subset, so use the latest version with the region
+        for (Version version : versions.descendingMap().values()) {
+            ZoneRules rules = version.getRules(zoneId);
+            if (rules != null) {
+                return rules;
+            }
         }
-        return rules;
+        throw new ZoneRulesException("Unknown time-zone ID: " + zoneId);
     }
 
     @Override
@@ -117,7 +205,122 @@ public final class TzdbZoneRulesProvider extends ZoneRulesProvider {
         return map;
     }
 
+    @Override
+    protected synchronized boolean provideRefresh() {
+        boolean updated = load(ZoneRulesProvider.class.getClassLoader());
+        if (directory != null) {
+            updated |= loadDirectory();
+        }
+        return updated;
+    }
+
     //-------------------------------------------------------------------------
+    /**
+     * Starts a daemon thread that refreshes the rules when the directory changes.
+     *
+     * @param pollSeconds  the number of seconds between checks of the directory
+     */
+    private void startWatcher(final long pollSeconds) {
+        Thread thread = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    while (true) {
+                        Thread.sleep(pollSeconds * 1000);
+                        try {
+                            ZoneRulesProvider.refresh();
+                        } catch (RuntimeException ex) {
+                            // retry at the next check, such as for a partially written file
+                        }
+                    }
+                } catch (InterruptedException ex) {
+                    // stop watching
+                }
+            }
+        }, "TzdbZoneRulesProvider-Watcher");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Gets the files in the directory that could not be loaded at the last check.
+     *
+     * @return the error keyed by absolute path, not null
+     */
+    Map<String, ZoneRulesException> getFailedFiles() {
+        return Collections.unmodifiableMap(failedFiles);
+    }
+
+    /**
+     * Loads the files in the directory that are new or have changed.
+     * <p>
+     * The rules in each file are fully decoded before being added,
+     * so that they are not decoded on first use.
+     * A file that cannot be loaded is recorded in {@link #getFailedFiles()}
+     * and retried at the next check, while the other files are still loaded.
+     *
+     * @return true if updated
+     */
+    private boolean loadDirectory() {
+        File[] files;
+        try {
+            files = directory.listFiles();
+        } catch (SecurityException ex) {
+            files = null;
+        }
+        if (files == null) {
+            return false;
+        }
+        Arrays.sort(files);
+        boolean updated = false;
+        Set<String> paths = new HashSet<String>();
+        for (File file : files) {
+            if (file.isFile() == false || file.getName().endsWith(".dat") == false) {
+                continue;
+            }
+            String path = file.getAbsolutePath();
+            paths.add(path);
+            String stamp = file.lastModified() + ":" + file.length();
+            if (stamp.equals(loadedFiles.get(path))) {
+                continue;
+            }
+            InputStream in = null;
+            try {
+                long start = System.nanoTime();
+                in = new BufferedInputStream(new FileInputStream(file));
+                Iterable<Version> loadedVersions = load(in);
+                ZoneRulesListener listener = ZoneRulesListeners.listener;
+                if (listener != null) {
+                    listener.rulesLoaded(path, System.nanoTime() - start);
+                }
+                // decode every version before adding any, so a bad file adds nothing
+                for (Version loadedVersion : loadedVersions) {
+                    loadedVersion.preload();
+                }
+                for (Version loadedVersion : loadedVersions) {
+                    versions.put(loadedVersion.versionId, loadedVersion);
+                    regionIds.addAll(Arrays.asList(loadedVersion.regionArray));
+                }
+            } catch (Exception ex) {
+                failedFiles.put(path, new ZoneRulesException("Unable to load TZDB time-zone rules: " + file, ex));
+                continue;
+            } finally {
+                if (in != null) {
+                    try {
+                        in.close();
+                    } catch (Exception ex) {
+                        // Ignored
+                    }
+                }
+            }
+            failedFiles.remove(path);
+            loadedFiles.put(path, stamp);
+            updated = true;
+        }
+        failedFiles.keySet().retainAll(paths);
+        return updated;
+    }
+
     /**
      * Loads the rules.
      *
@@ -133,11 +336,17 @@ public final class TzdbZoneRulesProvider extends ZoneRulesProvider {
             while (en.hasMoreElements()) {
                 url = en.nextElement();
                 if (loadedUrls.add(url.toExternalForm())) {
+                    long start = System.nanoTime();
                     Iterable<Version> loadedVersions = load(url);
+                    ZoneRulesListener listener = ZoneRulesListeners.listener;
+                    if (listener != null) {
+                        listener.rulesLoaded(url.toExternalForm(), System.nanoTime() - start);
+                    }
                     for (Version loadedVersion : loadedVersions) {
                         if (versions.putIfAbsent(loadedVersion.versionId, loadedVersion) != null) {
                             throw new ZoneRulesException("Data already loaded for TZDB time-zone rules version: " + loadedVersion.versionId);
                         }
+                        regionIds.addAll(Arrays.asList(loadedVersion.regionArray));
                     }
                     updated = true;
                 }
@@ -158,50 +367,7 @@ public final class TzdbZoneRulesProvider extends ZoneRulesProvider {
         InputStream in = null;
         try {
             in = url.openStream();
-            DataInputStream dis = new DataInputStream(in);
-            if (dis.readByte() != 1) {
-                throw new StreamCorruptedException("File format not recognised");
-            }
-            // group
-            String groupId = dis.readUTF();
-            if ("TZDB".equals(groupId) == false) {
-                throw new StreamCorruptedException("File format not recognised");
-            }
-            // versions
-            int versionCount = dis.readShort();
-            String[] versionArray = new String[versionCount];
-            for (int i = 0; i < versionCount; i++) {
-                versionArray[i] = dis.readUTF();
-            }
-            // regions
-            int regionCount = dis.readShort();
-            String[] regionArray = new String[regionCount];
-            for (int i = 0; i < regionCount; i++) {
-                regionArray[i] = dis.readUTF();
-            }
-            regionIds.addAll(Arrays.asList(regionArray));
-            // rules
-            int ruleCount = dis.readShort();
-            Object[] ruleArray = new Object[ruleCount];
-            for (int i = 0; i < ruleCount; i++) {
-                byte[] bytes = new byte[dis.readShort()];
-                dis.readFully(bytes);
-                ruleArray[i] = bytes;
-            }
-            AtomicReferenceArray<Object> ruleData = new AtomicReferenceArray<Object>(ruleArray);
-            // link version-region-rules
-            Set<Version> versionSet = new HashSet<Version>(versionCount);
-            for (int i = 0; i < versionCount; i++) {
-                int versionRegionCount = dis.readShort();
-                String[] versionRegionArray = new String[versionRegionCount];
-                short[] versionRulesArray = new short[versionRegionCount];
-                for (int j = 0; j < versionRegionCount; j++) {
-                    versionRegionArray[j] = regionArray[dis.readShort()];
-                    versionRulesArray[j] = dis.readShort();
-                }
-                versionSet.add(new Version(versionArray[i], versionRegionArray, versionRulesArray, ruleData));
-            }
-            return versionSet;
+            return load(new BufferedInputStream(in));
         } finally {
             if (in != null) {
                 try {
@@ -213,6 +379,68 @@ public final class TzdbZoneRulesProvider extends ZoneRulesProvider {
         }
     }
 
+    /**
+     * Loads the rules from a stream in either the original or the compact format.
+     *
+     * @param in  the stream to load, not null
+     * @throws Exception if an error occurs
+     */
+    Iterable<Version> load(InputStream in) throws ClassNotFoundException, IOException {
+        DataInputStream dis = new DataInputStream(in);
+        int format = dis.readByte();
+        if (format != 1 && format != 2) {
+            throw new StreamCorruptedException("File format not recognised");
+        }
+        // group
+        String groupId = dis.readUTF();
+        if ("TZDB".equals(groupId) == false) {
+            throw new StreamCorruptedException("File format not recognised");
+        }
+        // versions
+        int versionCount = dis.readShort();
+        String[] versionArray = new String[versionCount];
+        for (int i = 0; i < versionCount; i++) {
+            versionArray[i] = dis.readUTF();
+        }
+        // regions
+        int regionCount = dis.readShort();
+        String[] regionArray = new String[regionCount];
+        for (int i = 0; i < regionCount; i++) {
+            regionArray[i] = dis.readUTF();
+        }
+        // offsets
+        ZoneOffset[] offsetArray = null;
+        if (format == 2) {
+            int offsetCount = dis.readShort();
+            offsetArray = new ZoneOffset[offsetCount];
+            for (int i = 0; i < offsetCount; i++) {
+                offsetArray[i] = Ser.readOffset(dis);
+            }
+        }
+        // rules
+        int ruleCount = dis.readShort();
+        Object[] ruleArray = new Object[ruleCount];
+        for (int i = 0; i < ruleCount; i++) {
+            byte[] bytes = new byte[dis.readShort()];
+            dis.readFully(bytes);
+            ruleArray[i] = bytes;
+        }
+        AtomicReferenceArray<Object> ruleData = new AtomicReferenceArray<Object>(ruleArray);
+        // link version-region-rules
+        Set<Version> versionSet = new HashSet<Version>(versionCount);
+        for (int i = 0; i < versionCount; i++) {
+            int versionRegionCount = dis.readShort();
+            String[] versionRegionArray = new String[versionRegionCount];
+            short[] versionRulesArray = new short[versionRegionCount];
+            for (int j = 0; j < versionRegionCount; j++) {
+                versionRegionArray[j] = regionArray[dis.readShort()];
+                versionRulesArray[j] = dis.readShort();
+            }
+            versionSet.add(new Version(versionArray[i], versionRegionArray, versionRulesArray, ruleData, offsetArray, interner));
+        }
+        return versionSet;
+    }
+
     @Override
     public String toString() {
         return "TZDB";
@@ -227,33 +455,50 @@ public final class TzdbZoneRulesProvider extends ZoneRulesProvider {
         private final String[] regionArray;
         private final short[] ruleIndices;
         private final AtomicReferenceArray<Object> ruleData;
+        private final ZoneOffset[] offsets;
+        private final ZoneRulesInterner interner;
 
-        Version(String versionId, String[] regionIds, short[] ruleIndices, AtomicReferenceArray<Object> ruleData) {
+        Version(String versionId, String[] regionIds, short[] ruleIndices,
+                AtomicReferenceArray<Object> ruleData, ZoneOffset[] offsets, ZoneRulesInterner interner) {
             this.ruleData = ruleData;
+            this.offsets = offsets;
+            this.interner = interner;
             this.versionId = versionId;
             this.regionArray = regionIds;
             this.ruleIndices = ruleIndices;
         }
 
+        void preload() {
+            for (String regionId : regionArray) {
+                getRules(regionId);
+            }
+        }
+
         ZoneRules getRules(String regionId) {
             int regionIndex = Arrays.binarySearch(regionArray, regionId);
             if (regionIndex < 0) {
                 return null;
             }
             try {
-                return createRule(ruleIndices[regionIndex]);
+                return createRule(ruleIndices[regionIndex], regionId);
             } catch (Exception ex) {
                 throw new ZoneRulesException("Invalid binary time-zone data: TZDB:" + regionId + ", version: " + versionId, ex);
             }
         }
 
-        ZoneRules createRule(short index) throws Exception {
+        ZoneRules createRule(short index, String regionId) throws Exception {
             Object obj = ruleData.get(index);
             if (obj instanceof byte[]) {
+                long start = System.nanoTime();
                 byte[] bytes = (byte[]) obj;
                 DataInputStream dis = new DataInputStream(new ByteArrayInputStream(bytes));
-                obj = Ser.read(dis);
+                ZoneRules rules = (offsets != null ? StandardZoneRules.readCompact(dis, offsets) : (ZoneRules) Ser.read(dis));
+                obj = interner.intern(rules);
                 ruleData.set(index, obj);
+                ZoneRulesListener listener = ZoneRulesListeners.listener;
+                if (listener != null) {
+                    listener.rulesDecoded(regionId, System.nanoTime() - start);
+                }
             }
             return (ZoneRules) obj;
         }
@@ -0,0 +1,334 @@
+/*
+ * Copyright (c) 2007-2013, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.bp.zone;
+
+import org.threeten.bp.Instant;
+import org.threeten.bp.ZoneOffset;
+
+/**
+ * A lazy cursor over the transitions of a set of rules within a range of instants.
+ * <p>
+ * A cursor is obtained from {@link ZoneRules#transitionCursor(Instant, Instant)}.
+ * It covers the transitions at or after the start instant and before the end instant,
+ * and can be moved forwards and backwards through them.
+ * Unlike {@link ZoneRules#getTransitions()}, transitions defined by the
+ * {@linkplain ZoneRules#getTransitionRules() transition rules} are generated as
+ * the cursor moves, so arbitrarily large ranges can be scanned in constant memory.
+ * <p>
+ * The cursor starts positioned before the first transition in range.
+ * Calling {@link #next()} moves to the first transition, while calling {@link #afterLast()}
+ * followed by {@link #previous()} moves to the last transition.
+ * When positioned on a transition, the epoch-second and offsets are available
+ * without creating a {@link ZoneOffsetTransition}.
+ *
+ * <h3>Specification for implementors</h3>
+ * This class is mutable and not thread-safe.
+ */
+public abstract class ZoneOffsetTransitionCursor {
+
+    /**
+     * The first epoch-second in range, inclusive.
+     */
+    final long startEpochSecond;
+    /**
+     * The last epoch-second in range, exclusive.
+     */
+    final long endEpochSecond;
+    /**
+     * Whether the cursor is positioned on a transition.
+     */
+    boolean positioned;
+    /**
+     * The epoch-second of the current transition.
+     */
+    long epochSecond;
+    /**
+     * The offset before the current transition.
+     */
+    ZoneOffset offsetBefore;
+    /**
+     * The offset after the current transition.
+     */
+    ZoneOffset offsetAfter;
+
+    /**
+     * Constructor.
+     *
+     * @param start  the start of the range, inclusive, not null
+     * @param end  the end of the range, exclusive, not null
+     */
+    ZoneOffsetTransitionCursor(Instant start, Instant end) {
+        // transitions are on whole seconds, so round any fraction up
+        this.startEpochSecond = start.getEpochSecond() + (start.getNano() > 0 ? 1 : 0);
+        this.endEpochSecond = end.getEpochSecond() + (end.getNano() > 0 ? 1 : 0);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Moves the cursor to the next transition in range.
+     * <p>
+     * If there is no next transition in range, the cursor is left positioned
+     * after the last transition and false is returned.
+     *
+     * @return true if the cursor is now positioned on a transition
+     */
+    public abstract boolean next();
+
+    /**
+     * Moves the cursor to the previous transition in range.
+     * <p>
+     * If there is no previous transition in range, the cursor is left positioned
+     * before the first transition and false is returned.
+     *
+     * @return true if the cursor is now positioned on a transition
+     */
+    public abstract boolean previous();
+
+    /**
+     * Moves the cursor to before the first transition in range.
+     * <p>
+     * A subsequent call to {@link #next()} will move to the first transition.
+     */
+    public abstract void beforeFirst();
+
+    /**
+     * Moves the cursor to after the last transition in range.
+     * <p>
+     * A subsequent call to {@link #previous()} will move to the last transition.
+     */
+    public abstract void afterLast();
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the start of the range as an epoch-second, inclusive.
+     * <p>
+     * Any fraction of a second in the start instant is rounded up.
+     *
+     * @return the first epoch-second in range
+     */
+    public long getStartEpochSecond() {
+        return startEpochSecond;
+    }
+
+    /**
+     * Gets the end of the range as an epoch-second, exclusive.
+     * <p>
+     * Any fraction of a second in the end instant is rounded up.
+     *
+     * @return the epoch-second after the last in range
+     */
+    public long getEndEpochSecond() {
+        return endEpochSecond;
+    }
+
+    /**
+     * Checks if the cursor is positioned on a transition.
+     *
+     * @return true if the accessors may be called
+     */
+    public boolean isPositioned() {
+        return positioned;
+    }
+
+    /**
+     * Gets the epoch-second of the current transition.
+     *
+     * @return the epoch-second of the current transition
+     * @throws IllegalStateException if the cursor is not positioned on a transition
+     */
+    public long getEpochSecond() {
+        checkPositioned();
+        return epochSecond;
+    }
+
+    /**
+     * Gets the offset before the current transition.
+     *
+     * @return the offset before the current transition, not null
+     * @throws IllegalStateException if the cursor is not positioned on a transition
+     */
+    public ZoneOffset getOffsetBefore() {
+        checkPositioned();
+        return offsetBefore;
+    }
+
+    /**
+     * Gets the offset after the current transition.
+     *
+     * @return the offset after the current transition, not null
+     * @throws IllegalStateException if the cursor is not positioned on a transition
+     */
+    public ZoneOffset getOffsetAfter() {
+        checkPositioned();
+        return offsetAfter;
+    }
+
+    /**
+     * Checks if the current transition is a gap.
+     *
+     * @return true if the offset after is greater than the offset before
+     * @throws IllegalStateException if the cursor is not positioned on a transition
+     */
+    public boolean isGap() {
+        checkPositioned();
+        return offsetAfter.getTotalSeconds() > offsetBefore.getTotalSeconds();
+    }
+
+    /**
+     * Creates a transition object for the current transition.
+     *
+     * @return the current transition, not null
+     * @throws IllegalStateException if the cursor is not positioned on a transition
+     */
+    public ZoneOffsetTransition toTransition() {
+        checkPositioned();
+        return new ZoneOffsetTransition(epochSecond, offsetBefore, offsetAfter);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Positions the cursor on a transition.
+     *
+     * @param epochSecond  the epoch-second of the transition
+     * @param offsetBefore  the offset before the transition, not null
+     * @param offsetAfter  the offset after the transition, not null
+     */
+    void position(long epochSecond, ZoneOffset offsetBefore, ZoneOffset offsetAfter) {
+        this.positioned = true;
+        this.epochSecond = epochSecond;
+        this.offsetBefore = offsetBefore;
+        this.offsetAfter = offsetAfter;
+    }
+
+    /**
+     * Clears the current transition.
+     */
+    void unposition() {
+        this.positioned = false;
+        this.offsetBefore = null;
+        this.offsetAfter = null;
+    }
+
+    private void checkPositioned() {
+        if (positioned == false) {
+            throw new IllegalStateException("Cursor is not positioned on a transition");
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Cursor that delegates to {@link ZoneRules#nextTransition(Instant)}
+     * and {@link ZoneRules#previousTransition(Instant)}.
+     */
+    static final class Generic extends ZoneOffsetTransitionCursor {
+        /** State before the first transition. */
+        private static final int BEFORE = 0;
+        /** State on a transition. */
+        private static final int ON = 1;
+        /** State after the last transition. */
+        private static final int AFTER = 2;
+        /** The rules. */
+        private final ZoneRules rules;
+        /** The current state. */
+        private int state = BEFORE;
+
+        Generic(ZoneRules rules, Instant start, Instant end) {
+            super(start, end);
+            this.rules = rules;
+        }
+
+        @Override
+        public boolean next() {
+            ZoneOffsetTransition trans;
+            switch (state) {
+                case BEFORE:
+                    if (startEpochSecond > Instant.MIN.getEpochSecond()) {
+                        trans = rules.nextTransition(Instant.ofEpochSecond(startEpochSecond - 1));
+                    } else {
+                        trans = rules.nextTransition(Instant.MIN);
+                    }
+                    break;
+                case ON:
+                    trans = rules.nextTransition(Instant.ofEpochSecond(epochSecond));
+                    break;
+                default:
+                    return false;
+            }
+            if (trans == null || trans.toEpochSecond() >= endEpochSecond) {
+                afterLast();
+                return false;
+            }
+            state = ON;
+            position(trans.toEpochSecond(), trans.getOffsetBefore(), trans.getOffsetAfter());
+            return true;
+        }
+
+        @Override
+        public boolean previous() {
+            ZoneOffsetTransition trans;
+            switch (state) {
+                case AFTER:
+                    if (endEpochSecond <= Instant.MAX.getEpochSecond()) {
+                        trans = rules.previousTransition(Instant.ofEpochSecond(endEpochSecond));
+                    } else {
+                        trans = rules.previousTransition(Instant.MAX);
+                    }
+                    break;
+                case ON:
+                    trans = rules.previousTransition(Instant.ofEpochSecond(epochSecond));
+                    break;
+                default:
+                    return false;
+            }
+            if (trans == null || trans.toEpochSecond() < startEpochSecond) {
+                beforeFirst();
+                return false;
+            }
+            state = ON;
+            position(trans.toEpochSecond(), trans.getOffsetBefore(), trans.getOffsetAfter());
+            return true;
+        }
+
+        @Override
+        public void beforeFirst() {
+            state = BEFORE;
+            unposition();
+        }
+
+        @Override
+        public void afterLast() {
+            state = AFTER;
+            unposition();
+        }
+    }
+
+}
@@ -31,6 +31,7 @@
  */
 package org.threeten.bp.zone;
 
+import static org.threeten.bp.temporal.ChronoField.YEAR;
 import static org.threeten.bp.temporal.TemporalAdjusters.nextOrSame;
 import static org.threeten.bp.temporal.TemporalAdjusters.previousOrSame;
 
@@ -39,6 +40,7 @@ import java.io.DataOutput;
 import java.io.IOException;
 import java.io.Serializable;
 
+import org.threeten.bp.DateTimeException;
 import org.threeten.bp.DayOfWeek;
 import org.threeten.bp.LocalDate;
 import org.threeten.bp.LocalDateTime;
@@ -46,6 +48,7 @@ import org.threeten.bp.LocalTime;
 import org.threeten.bp.Month;
 import org.threeten.bp.ZoneOffset;
 import org.threeten.bp.chrono.IsoChronology;
+import org.threeten.bp.jdk8.Jdk8Methods;
 
 import static org.threeten.bp.jdk7.Jdk7Methods.Objects_requireNonNull;
 
@@ -71,6 +74,14 @@ public final class ZoneOffsetTransitionRule implements Serializable {
      * Serialization version.
      */
     private static final long serialVersionUID = 6889046316657758795L;
+    /**
+     * The number of days from year zero to year 1970.
+     */
+    private static final long DAYS_0000_TO_1970 = 719528L;
+    /**
+     * Seconds per day.
+     */
+    private static final int SECONDS_PER_DAY = 86400;
 
     /**
      * The month of the month-day of the first day of the cutover week.
@@ -418,6 +429,74 @@ public final class ZoneOffsetTransitionRule implements Serializable {
         return new ZoneOffsetTransition(transition, offsetBefore, offsetAfter);
     }
 
+    /**
+     * Calculates the epoch-second of the transition for the specified year.
+     * <p>
+     * This returns the same value as {@code createTransition(year).toEpochSecond()},
+     * calculating it arithmetically without creating any objects.
+     * <p>
+     * Calculations are performed using the ISO-8601 chronology.
+     *
+     * @param year  the year to calculate the transition for
+     * @return the epoch-second of the transition
+     * @throws DateTimeException if the year is invalid
+     */
+    public long transitionEpochSecond(int year) {
+        YEAR.checkValidValue(year);
+        boolean leap = IsoChronology.INSTANCE.isLeapYear(year);
+        long monthStart = yearStartEpochDay(year) + month.firstDayOfYear(leap) - 1;
+        long epochDay;
+        if (dom < 0) {
+            epochDay = monthStart + month.length(leap) + dom;
+            if (dow != null) {
+                epochDay -= Jdk8Methods.floorMod(dayOfWeek(epochDay) - dow.getValue(), 7);
+            }
+        } else {
+            epochDay = monthStart + dom - 1;
+            if (dow != null) {
+                epochDay += Jdk8Methods.floorMod(dow.getValue() - dayOfWeek(epochDay), 7);
+            }
+        }
+        if (timeEndOfDay) {
+            epochDay++;
+        }
+        long localSecond = epochDay * SECONDS_PER_DAY + time.toSecondOfDay();
+        switch (timeDefinition) {
+            case UTC:
+                return localSecond;
+            case STANDARD:
+                return localSecond - standardOffset.getTotalSeconds();
+            default:  // WALL
+                return localSecond - offsetBefore.getTotalSeconds();
+        }
+    }
+
+    /**
+     * Calculates the epoch-day of the first day of the specified ISO year.
+     *
+     * @param year  the year
+     * @return the epoch-day of the first day of the year
+     */
+    static long yearStartEpochDay(long year) {
+        long total = 365 * year;
+        if (year >= 0) {
+            total += (year + 3) / 4 - (year + 99) / 100 + (year + 399) / 400;
+        } else {
+            total -= year / -4 - year / -100 + year / -400;
+        }
+        return total - DAYS_0000_TO_1970;
+    }
+
+    /**
+     * Calculates the ISO day-of-week of an epoch-day.
+     *
+     * @param epochDay  the epoch-day
+     * @return the day-of-week, from 1 (Monday) to 7 (Sunday)
+     */
+    private static int dayOfWeek(long epochDay) {
+        return Jdk8Methods.floorMod(epochDay + 3, 7) + 1;
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Checks if this object equals another.
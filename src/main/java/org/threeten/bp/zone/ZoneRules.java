@@ -133,6 +133,20 @@ public abstract class ZoneRules {
      */
     public abstract ZoneOffset getOffset(Instant instant);
 
+    /**
+     * Gets the offset applicable at the specified epoch-second in these rules.
+     * <p>
+     * This is equivalent to {@link #getOffset(Instant)} for an instant with
+     * the specified epoch-second, but avoids creating an {@code Instant}
+     * where the rules support it.
+     *
+     * @param epochSecond  the epoch-second to find the offset for
+     * @return the offset, not null
+     */
+    public ZoneOffset getOffset(long epochSecond) {
+        return getOffset(Instant.ofEpochSecond(epochSecond));
+    }
+
     /**
      * Gets a suitable offset for the specified local date-time in these rules.
      * <p>
@@ -335,6 +349,26 @@ public abstract class ZoneRules {
      */
     public abstract ZoneOffsetTransition previousTransition(Instant instant);
 
+    /**
+     * Obtains a cursor over the transitions within a range of instants.
+     * <p>
+     * The cursor covers transitions at or after the start instant and before the end instant.
+     * Transitions are located lazily as the cursor is moved, which allows large ranges,
+     * including those extending far into the future, to be scanned without building a list.
+     * <p>
+     * The default implementation delegates to {@link #nextTransition(Instant)} and
+     * {@link #previousTransition(Instant)}.
+     *
+     * @param startInclusive  the start of the range, inclusive, not null
+     * @param endExclusive  the end of the range, exclusive, not null
+     * @return a new cursor positioned before the first transition in range, not null
+     */
+    public ZoneOffsetTransitionCursor transitionCursor(Instant startInclusive, Instant endExclusive) {
+        Objects_requireNonNull(startInclusive, "startInclusive");
+        Objects_requireNonNull(endExclusive, "endExclusive");
+        return new ZoneOffsetTransitionCursor.Generic(this, startInclusive, endExclusive);
+    }
+
     /**
      * Gets the complete list of fully defined transitions.
      * <p>
@@ -426,6 +460,11 @@ public abstract class ZoneRules {
             return offset;
         }
 
+        @Override
+        public ZoneOffset getOffset(long epochSecond) {
+            return offset;
+        }
+
         @Override
         public ZoneOffset getOffset(LocalDateTime localDateTime) {
             return offset;
@@ -37,9 +37,9 @@ import static org.threeten.bp.temporal.TemporalAdjusters.previousOrSame;
 
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.threeten.bp.DateTimeException;
 import org.threeten.bp.DayOfWeek;
@@ -79,7 +79,7 @@ class ZoneRulesBuilder {
     /**
      * A map for deduplicating the output.
      */
-    private Map<Object, Object> deduplicateMap;
+    private ConcurrentMap<Object, Object> deduplicateMap;
 
     //-----------------------------------------------------------------------
     /**
@@ -297,7 +297,7 @@ class ZoneRulesBuilder {
      * @throws IllegalStateException if there is only one rule defined as being forever for any given window
      */
     public ZoneRules toRules(String zoneId) {
-        return toRules(zoneId, new HashMap<Object, Object>());
+        return toRules(zoneId, new ConcurrentHashMap<Object, Object>());
     }
 
     /**
@@ -307,12 +307,13 @@ class ZoneRulesBuilder {
      * Further rules should not be added to this builder once this method is called.
      *
      * @param zoneId  the time-zone ID, not null
-     * @param deduplicateMap  a map for deduplicating the values, not null
+     * @param deduplicateMap  a map for deduplicating the values, which may be shared
+     *  by builders on other threads, not null
      * @return the zone rules, not null
      * @throws IllegalStateException if no windows have been added
      * @throws IllegalStateException if there is only one rule defined as being forever for any given window
      */
-    ZoneRules toRules(String zoneId, Map<Object, Object> deduplicateMap) {
+    ZoneRules toRules(String zoneId, ConcurrentMap<Object, Object> deduplicateMap) {
         Objects_requireNonNull(zoneId, "zoneId");
         this.deduplicateMap = deduplicateMap;
         if (windowList.isEmpty()) {
@@ -411,10 +412,8 @@ class ZoneRulesBuilder {
      * @return the deduplicated object
      */
     <T> T deduplicate(T object) {
-        if (deduplicateMap.containsKey(object) == false) {
-            deduplicateMap.put(object, object);
-        }
-        return (T) deduplicateMap.get(object);
+        Object existing = deduplicateMap.putIfAbsent(object, object);
+        return (T) (existing != null ? existing : object);
     }
 
     //-----------------------------------------------------------------------
@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2007-2013, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.bp.zone;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Interns decoded time-zone rules so that equal rules share a single instance.
+ * <p>
+ * Many regions have identical rules, as do the same region in different versions.
+ * Interning the rules, their transition rules and their arrays saves memory and
+ * allows the per-rules transition cache to be shared by all the regions.
+ *
+ * <h3>Specification for implementors</h3>
+ * This class is thread-safe.
+ */
+final class ZoneRulesInterner {
+
+    /**
+     * The pool of interned objects, keyed by themselves or by an {@code ArrayKey}.
+     */
+    private final ConcurrentMap<Object, Object> pool = new ConcurrentHashMap<Object, Object>();
+
+    /**
+     * Interns the rules, returning an equal instance that is shared.
+     *
+     * @param rules  the rules to intern, not null
+     * @return the interned rules, not null
+     */
+    ZoneRules intern(ZoneRules rules) {
+        Object existing = pool.get(rules);
+        if (existing != null) {
+            return (ZoneRules) existing;
+        }
+        if (rules instanceof StandardZoneRules) {
+            rules = ((StandardZoneRules) rules).intern(this);
+        }
+        return putIfAbsent(rules, rules);
+    }
+
+    /**
+     * Interns the transition rule, returning an equal instance that is shared.
+     *
+     * @param rule  the rule to intern, not null
+     * @return the interned rule, not null
+     */
+    ZoneOffsetTransitionRule intern(ZoneOffsetTransitionRule rule) {
+        return putIfAbsent(rule, rule);
+    }
+
+    /**
+     * Interns the array, returning an equal array that is shared.
+     * The array must not be altered after interning.
+     *
+     * @param array  the array to intern, not null
+     * @return the interned array, not null
+     */
+    long[] intern(long[] array) {
+        return putIfAbsent(new ArrayKey(array), array);
+    }
+
+    /**
+     * Interns the array, returning an equal array that is shared.
+     * The array must not be altered after interning.
+     *
+     * @param <T>  the type of the array elements
+     * @param array  the array to intern, not null
+     * @return the interned array, not null
+     */
+    <T> T[] intern(T[] array) {
+        return putIfAbsent(new ArrayKey(array), array);
+    }
+
+    /**
+     * Gets the number of interned objects.
+     *
+     * @return the number of objects in the pool
+     */
+    int size() {
+        return pool.size();
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T putIfAbsent(Object key, T value) {
+        Object existing = pool.putIfAbsent(key, value);
+        return (existing != null ? (T) existing : value);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Key comparing arrays by content.
+     */
+    private static final class ArrayKey {
+        private final Object array;
+
+        private ArrayKey(Object array) {
+            this.array = array;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (obj instanceof ArrayKey) {
+                // the class must match, as empty arrays of all types are otherwise equal
+                Object other = ((ArrayKey) obj).array;
+                return array.getClass() == other.getClass() &&
+                        Arrays.deepEquals(new Object[] {array}, new Object[] {other});
+            }
+            return false;
+        }
+
+        @Override
+        public int hashCode() {
+            return Arrays.deepHashCode(new Object[] {array});
+        }
+    }
+
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2007-2013, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.bp.zone;
+
+/**
+ * A listener notified as time-zone rules are loaded, decoded and used.
+ * <p>
+ * A listener is installed using {@link ZoneRulesListeners#setListener(ZoneRulesListener)}.
+ * When no listener is installed, the only cost is a check for the listener.
+ * <p>
+ * Some methods are called very frequently, such as those for the transition cache.
+ * Implementations should be quick and must not obtain time-zone rules themselves.
+ *
+ * <h3>Specification for implementors</h3>
+ * This interface must be implemented with care to ensure other classes operate correctly.
+ * All implementations must be thread-safe.
+ */
+public interface ZoneRulesListener {
+
+    /**
+     * Called when a file of rules has been loaded by a provider.
+     *
+     * @param location  the location of the file, such as a URL, not null
+     * @param nanos  the time taken to load the file, in nanoseconds
+     */
+    void rulesLoaded(String location, long nanos);
+
+    /**
+     * Called when the rules for a region have been decoded by a provider.
+     * <p>
+     * Rules shared by several regions are only decoded once, and are
+     * reported against the region that caused them to be decoded.
+     *
+     * @param regionId  the region ID, not null
+     * @param nanos  the time taken to decode the rules, in nanoseconds
+     */
+    void rulesDecoded(String regionId, long nanos);
+
+    /**
+     * Called when rules are looked up by zone ID.
+     * <p>
+     * This includes the lookup made when creating a region-based {@code ZoneId}.
+     * Lookups of unknown zone IDs, which throw an exception, are not reported.
+     *
+     * @param zoneId  the zone ID, not null
+     */
+    void rulesLookedUp(String zoneId);
+
+    /**
+     * Called when the transitions for a year were found in the cache of the rules.
+     *
+     * @param year  the year
+     */
+    void transitionCacheHit(int year);
+
+    /**
+     * Called when the transitions for a year were not found in the cache of the rules.
+     *
+     * @param year  the year
+     */
+    void transitionCacheMiss(int year);
+
+}
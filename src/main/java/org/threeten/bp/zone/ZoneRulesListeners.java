@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2007-2013, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.bp.zone;
+
+/**
+ * Holds the single {@link ZoneRulesListener} notified as rules are loaded, decoded and used.
+ * <p>
+ * No listener is installed by default. This class does not depend on JMX, so it is
+ * available on all platforms; see {@link ZoneRulesMetrics} for a listener that
+ * records the notifications and can be registered as an MBean.
+ *
+ * <h3>Specification for implementors</h3>
+ * This is a thread-safe utility class.
+ */
+public final class ZoneRulesListeners {
+
+    /**
+     * The active listener, null if none.
+     */
+    static volatile ZoneRulesListener listener;
+
+    /**
+     * Restricted constructor.
+     */
+    private ZoneRulesListeners() {
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Installs a listener, replacing any existing listener.
+     *
+     * @param listener  the listener, null to remove the listener
+     */
+    public static void setListener(ZoneRulesListener listener) {
+        ZoneRulesListeners.listener = listener;
+    }
+
+    /**
+     * Gets the installed listener.
+     *
+     * @return the listener, null if none
+     */
+    public static ZoneRulesListener getListener() {
+        return listener;
+    }
+
+}
@@ -0,0 +1,256 @@
+/*
+ * Copyright (c) 2007-2013, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.bp.zone;
+
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * Opt-in metrics on the loading, decoding and use of time-zone rules.
+ * <p>
+ * An instance of this class is a {@link ZoneRulesListener} that records the notifications.
+ * {@link #enable()} installs a new instance using {@link ZoneRulesListeners} and registers
+ * it with the platform
+ * MBean server under the name {@code org.threeten.bp:type=ZoneRulesMetrics}.
+ * Recording adds shared counter updates to each lookup of rules and each use of
+ * the transition cache, and should not be left enabled where time-zones are used
+ * heavily from many threads.
+ *
+ * <h3>Specification for implementors</h3>
+ * This class is thread-safe.
+ */
+public final class ZoneRulesMetrics implements ZoneRulesListener, ZoneRulesMetricsMXBean {
+
+    /**
+     * The object name used to register the MBean.
+     */
+    public static final String OBJECT_NAME = "org.threeten.bp:type=ZoneRulesMetrics";
+    /**
+     * The load time by location.
+     */
+    private final ConcurrentMap<String, AtomicLong> loadNanos = new ConcurrentHashMap<String, AtomicLong>();
+    /**
+     * The decode time by region.
+     */
+    private final ConcurrentMap<String, AtomicLong> decodeNanos = new ConcurrentHashMap<String, AtomicLong>();
+    /**
+     * The lookup count by zone.
+     */
+    private final ConcurrentMap<String, AtomicLong> lookups = new ConcurrentHashMap<String, AtomicLong>();
+    /**
+     * The number of decodes.
+     */
+    private final AtomicLong decodeCount = new AtomicLong();
+    /**
+     * The number of transition cache hits.
+     */
+    private final AtomicLong hits = new AtomicLong();
+    /**
+     * The number of transition cache misses.
+     */
+    private final AtomicLong misses = new AtomicLong();
+
+    //-----------------------------------------------------------------------
+    /**
+     * Installs a new instance as the listener, and registers it as an MBean.
+     * <p>
+     * Any existing listener is replaced, and any existing MBean is unregistered.
+     *
+     * @return the installed metrics, not null
+     * @throws IllegalStateException if the MBean cannot be registered
+     */
+    public static synchronized ZoneRulesMetrics enable() {
+        ZoneRulesMetrics metrics = new ZoneRulesMetrics();
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName name = new ObjectName(OBJECT_NAME);
+            if (server.isRegistered(name)) {
+                server.unregisterMBean(name);
+            }
+            server.registerMBean(metrics, name);
+        } catch (JMException ex) {
+            throw new IllegalStateException("Unable to register MBean: " + OBJECT_NAME, ex);
+        }
+        ZoneRulesListeners.listener = metrics;
+        return metrics;
+    }
+
+    /**
+     * Removes the listener, and unregisters the MBean.
+     *
+     * @throws IllegalStateException if the MBean cannot be unregistered
+     */
+    public static synchronized void disable() {
+        ZoneRulesListeners.listener = null;
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName name = new ObjectName(OBJECT_NAME);
+            if (server.isRegistered(name)) {
+                server.unregisterMBean(name);
+            }
+        } catch (JMException ex) {
+            throw new IllegalStateException("Unable to unregister MBean: " + OBJECT_NAME, ex);
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Creates an instance that is not installed.
+     * <p>
+     * Use {@link ZoneRulesListeners#setListener(ZoneRulesListener)} to install the instance without
+     * registering it as an MBean.
+     */
+    public ZoneRulesMetrics() {
+    }
+
+    //-----------------------------------------------------------------------
+    @Override
+    public void rulesLoaded(String location, long nanos) {
+        add(loadNanos, location, nanos);
+    }
+
+    @Override
+    public void rulesDecoded(String regionId, long nanos) {
+        decodeCount.incrementAndGet();
+        add(decodeNanos, regionId, nanos);
+    }
+
+    @Override
+    public void rulesLookedUp(String zoneId) {
+        add(lookups, zoneId, 1);
+    }
+
+    @Override
+    public void transitionCacheHit(int year) {
+        hits.incrementAndGet();
+    }
+
+    @Override
+    public void transitionCacheMiss(int year) {
+        misses.incrementAndGet();
+    }
+
+    private static void add(ConcurrentMap<String, AtomicLong> map, String key, long amount) {
+        AtomicLong value = map.get(key);
+        if (value == null) {
+            AtomicLong created = new AtomicLong();
+            value = map.putIfAbsent(key, created);
+            if (value == null) {
+                value = created;
+            }
+        }
+        value.addAndGet(amount);
+    }
+
+    //-----------------------------------------------------------------------
+    @Override
+    public Map<String, Long> getLoadNanos() {
+        return snapshot(loadNanos);
+    }
+
+    @Override
+    public long getDecodeCount() {
+        return decodeCount.get();
+    }
+
+    @Override
+    public long getDecodeNanos() {
+        return total(decodeNanos);
+    }
+
+    @Override
+    public Map<String, Long> getDecodeNanosByRegion() {
+        return snapshot(decodeNanos);
+    }
+
+    @Override
+    public long getLookupCount() {
+        return total(lookups);
+    }
+
+    @Override
+    public Map<String, Long> getLookupCountByZone() {
+        return snapshot(lookups);
+    }
+
+    @Override
+    public long getTransitionCacheHits() {
+        return hits.get();
+    }
+
+    @Override
+    public long getTransitionCacheMisses() {
+        return misses.get();
+    }
+
+    @Override
+    public void reset() {
+        loadNanos.clear();
+        decodeNanos.clear();
+        lookups.clear();
+        decodeCount.set(0);
+        hits.set(0);
+        misses.set(0);
+    }
+
+    private static Map<String, Long> snapshot(ConcurrentMap<String, AtomicLong> map) {
+        Map<String, Long> result = new TreeMap<String, Long>();
+        for (Map.Entry<String, AtomicLong> entry : map.entrySet()) {
+            result.put(entry.getKey(), entry.getValue().get());
+        }
+        return result;
+    }
+
+    private static long total(ConcurrentMap<String, AtomicLong> map) {
+        long total = 0;
+        for (AtomicLong value : map.values()) {
+            total += value.get();
+        }
+        return total;
+    }
+
+    //-----------------------------------------------------------------------
+    @Override
+    public String toString() {
+        return "ZoneRulesMetrics[lookups=" + getLookupCount() + ",decodes=" + getDecodeCount() +
+                ",hits=" + getTransitionCacheHits() + ",misses=" + getTransitionCacheMisses() + "]";
+    }
+
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2007-2013, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.bp.zone;
+
+import java.util.Map;
+
+/**
+ * The management interface of {@link ZoneRulesMetrics}.
+ * <p>
+ * This is registered with the platform MBean server by {@link ZoneRulesMetrics#enable()}.
+ */
+public interface ZoneRulesMetricsMXBean {
+
+    /**
+     * Gets the time taken to load each file of rules.
+     *
+     * @return the load time in nanoseconds keyed by location, not null
+     */
+    Map<String, Long> getLoadNanos();
+
+    /**
+     * Gets the number of times that rules have been decoded.
+     *
+     * @return the decode count
+     */
+    long getDecodeCount();
+
+    /**
+     * Gets the total time taken to decode rules.
+     *
+     * @return the total decode time in nanoseconds
+     */
+    long getDecodeNanos();
+
+    /**
+     * Gets the time taken to decode the rules of each region.
+     *
+     * @return the decode time in nanoseconds keyed by region ID, not null
+     */
+    Map<String, Long> getDecodeNanosByRegion();
+
+    /**
+     * Gets the number of times that rules have been looked up by zone ID.
+     *
+     * @return the lookup count
+     */
+    long getLookupCount();
+
+    /**
+     * Gets the number of times that the rules of each zone ID have been looked up.
+     *
+     * @return the lookup count keyed by zone ID, not null
+     */
+    Map<String, Long> getLookupCountByZone();
+
+    /**
+     * Gets the number of times the transitions for a year were found in a cache.
+     *
+     * @return the hit count
+     */
+    long getTransitionCacheHits();
+
+    /**
+     * Gets the number of times the transitions for a year were not found in a cache.
+     *
+     * @return the miss count
+     */
+    long getTransitionCacheMisses();
+
+    /**
+     * Resets all the metrics to zero.
+     */
+    void reset();
+
+}
@@ -32,19 +32,24 @@
 package org.threeten.bp.zone;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.NavigableMap;
 import java.util.ServiceConfigurationError;
 import java.util.ServiceLoader;
 import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.threeten.bp.DateTimeException;
+import org.threeten.bp.Duration;
 import org.threeten.bp.ZoneId;
 import org.threeten.bp.ZonedDateTime;
 
@@ -73,7 +78,9 @@ import static org.threeten.bp.jdk7.Jdk7Methods.Objects_requireNonNull;
  * <p>
  * Many systems would like to update time-zone rules dynamically without stopping the JVM.
  * When examined in detail, this is a complex problem.
- * Providers may choose to handle dynamic updates, however the default provider does not.
+ * Providers may choose to handle dynamic updates via {@link #refresh()}.
+ * The default provider loads new TZDB files added to the class path, and can also load
+ * and watch a directory of TZDB files, see {@link TzdbZoneRulesProvider}.
  */
 public abstract class ZoneRulesProvider {
 
@@ -83,8 +90,13 @@ public abstract class ZoneRulesProvider {
     private static final CopyOnWriteArrayList<ZoneRulesProvider> PROVIDERS = new CopyOnWriteArrayList<ZoneRulesProvider>();
     /**
      * The lookup from zone region ID to provider.
+     * The map is never modified once published, changes replace the whole map.
      */
-    private static final ConcurrentMap<String, ZoneRulesProvider> ZONES = new ConcurrentHashMap<String, ZoneRulesProvider>(512, 0.75f, 2);
+    private static volatile Map<String, ZoneRulesProvider> zones = new HashMap<String, ZoneRulesProvider>();
+    /**
+     * The number of refreshes that have changed the rules.
+     */
+    private static volatile int refreshCount;
     static {
         ServiceLoader<ZoneRulesProvider> sl = ServiceLoader.load(ZoneRulesProvider.class, ZoneRulesProvider.class.getClassLoader());
         List<ZoneRulesProvider> loaded = new ArrayList<ZoneRulesProvider>();
@@ -100,6 +112,7 @@ public abstract class ZoneRulesProvider {
                 throw ex;
             }
             registerProvider0(provider);
+            loaded.add(provider);
         }
         // CopyOnWriteList could be slow if lots of providers and each added individually
         PROVIDERS.addAll(loaded);
@@ -114,7 +127,7 @@ public abstract class ZoneRulesProvider {
      * @return a modifiable copy of the set of zone IDs, not null
      */
     public static Set<String> getAvailableZoneIds() {
-        return new HashSet<String>(ZONES.keySet());
+        return new HashSet<String>(zones.keySet());
     }
 
     /**
@@ -131,7 +144,13 @@ public abstract class ZoneRulesProvider {
      */
     public static ZoneRules getRules(String zoneId) {
         Objects_requireNonNull(zoneId, "zoneId");
-        return getProvider(zoneId).provideRules(zoneId);
+        ZoneRulesProvider provider = getProvider(zoneId);
+        // notified only once the ID is known, so unknown IDs are not counted
+        ZoneRulesListener listener = ZoneRulesListeners.listener;
+        if (listener != null) {
+            listener.rulesLookedUp(zoneId);
+        }
+        return provider.provideRules(zoneId);
     }
 
     /**
@@ -171,9 +190,10 @@ public abstract class ZoneRulesProvider {
      * @throws ZoneRulesException if the zone ID is unknown
      */
     private static ZoneRulesProvider getProvider(String zoneId) {
-        ZoneRulesProvider provider = ZONES.get(zoneId);
+        Map<String, ZoneRulesProvider> map = zones;
+        ZoneRulesProvider provider = map.get(zoneId);
         if (provider == null) {
-            if (ZONES.isEmpty()) {
+            if (map.isEmpty()) {
                 throw new ZoneRulesException("No time-zone data files registered");
             }
             throw new ZoneRulesException("Unknown time-zone ID: " + zoneId);
@@ -181,6 +201,73 @@ public abstract class ZoneRulesProvider {
         return provider;
     }
 
+    //-------------------------------------------------------------------------
+    /**
+     * Preloads the rules for the specified zone IDs.
+     * <p>
+     * Providers may decode rules lazily, on first access to each zone ID.
+     * This method obtains the rules for each zone ID, allowing an application
+     * to perform that work before it is needed, such as during startup.
+     *
+     * @param zoneIds  the zone region IDs as used by {@code ZoneId}, not null
+     * @return the time taken to load the rules, not null
+     * @throws ZoneRulesException if a zone ID is unknown or its rules cannot be loaded
+     */
+    public static Duration preload(Collection<String> zoneIds) {
+        Objects_requireNonNull(zoneIds, "zoneIds");
+        long start = System.nanoTime();
+        for (String zoneId : zoneIds) {
+            getRules(zoneId);
+        }
+        return Duration.ofNanos(System.nanoTime() - start);
+    }
+
+    /**
+     * Preloads the rules for all available zone IDs in parallel.
+     * <p>
+     * This submits a task to the executor for each available zone ID,
+     * and waits for all the tasks to complete. A {@code ForkJoinPool} or
+     * fixed size thread pool is suitable. If any zone fails to load, the
+     * remaining tasks still run and the first failure is thrown.
+     *
+     * @param executor  the executor to load the rules with, not null
+     * @return the time taken to load the rules, not null
+     * @throws ZoneRulesException if the rules for a zone ID cannot be loaded,
+     *  or if the thread is interrupted while waiting
+     */
+    public static Duration preloadAll(Executor executor) {
+        Objects_requireNonNull(executor, "executor");
+        long start = System.nanoTime();
+        Set<String> zoneIds = getAvailableZoneIds();
+        final CountDownLatch latch = new CountDownLatch(zoneIds.size());
+        final AtomicReference<RuntimeException> failure = new AtomicReference<RuntimeException>();
+        for (final String zoneId : zoneIds) {
+            executor.execute(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        getRules(zoneId);
+                    } catch (RuntimeException ex) {
+                        failure.compareAndSet(null, ex);
+                    } finally {
+                        latch.countDown();
+                    }
+                }
+            });
+        }
+        try {
+            latch.await();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new ZoneRulesException("Interrupted while preloading time-zone rules", ex);
+        }
+        RuntimeException ex = failure.get();
+        if (ex != null) {
+            throw ex;
+        }
+        return Duration.ofNanos(System.nanoTime() - start);
+    }
+
     //-------------------------------------------------------------------------
     /**
      * Registers a zone rules provider.
@@ -205,20 +292,25 @@ public abstract class ZoneRulesProvider {
 
     /**
      * Registers the provider.
+     * <p>
+     * The zone IDs are checked and bound before any are published,
+     * so a failed registration leaves the lookup unchanged.
      *
      * @param provider  the provider to register, not null
      * @throws ZoneRulesException if unable to complete the registration
      */
-    private static void registerProvider0(ZoneRulesProvider provider) {
+    private static synchronized void registerProvider0(ZoneRulesProvider provider) {
+        Map<String, ZoneRulesProvider> map = new HashMap<String, ZoneRulesProvider>(zones);
         for (String zoneId : provider.provideZoneIds()) {
             Objects_requireNonNull(zoneId, "zoneId");
-            ZoneRulesProvider old = ZONES.putIfAbsent(zoneId, provider.provideBind(zoneId));
-            if (old != null) {
+            if (map.containsKey(zoneId)) {
                 throw new ZoneRulesException(
                     "Unable to register zone as one already registered with that ID: " + zoneId +
                     ", currently loading from provider: " + provider);
             }
+            map.put(zoneId, provider.provideBind(zoneId));
         }
+        zones = map;
     }
 
     //-------------------------------------------------------------------------
@@ -230,18 +322,93 @@ public abstract class ZoneRulesProvider {
      * After calling this method, the offset stored in any {@link ZonedDateTime}
      * may be invalid for the zone ID.
      * <p>
-     * Dynamic behavior is entirely optional and most providers, including the
-     * default provider, do not support it.
+     * Dynamic behavior is entirely optional and most providers do not support it.
+     * <p>
+     * The zone IDs of each provider that was updated are bound again, so that the
+     * latest rules are returned by {@link #getRules(String)}. Any {@code ZoneId}
+     * created before the refresh also obtains the latest rules.
+     * <p>
+     * The new bindings of all updated providers are built first and then published
+     * together, so a concurrent lookup sees either the rules before the refresh for
+     * every zone ID, or the rules after it for every zone ID. A provider that fails
+     * to refresh, or that supplies a zone ID bound to another provider, is skipped,
+     * the other providers are still published, and the first error is then thrown.
      *
      * @return true if the rules were updated
      * @throws ZoneRulesException if an error occurs during the refresh
      */
-    public static boolean refresh() {
-        boolean changed = false;
+    public static synchronized boolean refresh() {
+        Map<String, ZoneRulesProvider> map = null;
+        RuntimeException failure = null;
         for (ZoneRulesProvider provider : PROVIDERS) {
-            changed |= provider.provideRefresh();
+            try {
+                if (provider.provideRefresh()) {
+                    Map<String, ZoneRulesProvider> bound = rebindProvider(map != null ? map : zones, provider);
+                    if (map == null) {
+                        map = new HashMap<String, ZoneRulesProvider>(zones);
+                    }
+                    map.putAll(bound);
+                }
+            } catch (RuntimeException ex) {
+                if (failure == null) {
+                    failure = ex;
+                }
+            }
+        }
+        if (map != null) {
+            zones = map;
+            refreshCount++;
         }
-        return changed;
+        if (failure != null) {
+            throw failure;
+        }
+        return map != null;
+    }
+
+    /**
+     * Binds the zone IDs of a provider again after it has been refreshed.
+     * <p>
+     * Every zone ID is checked before the new bindings are returned,
+     * so that nothing is published if any zone ID conflicts.
+     *
+     * @param current  the current lookup, not null
+     * @param provider  the provider to bind, not null
+     * @return the new bindings of the provider, not null
+     * @throws ZoneRulesException if a region is registered with another provider
+     */
+    private static Map<String, ZoneRulesProvider> rebindProvider(
+            Map<String, ZoneRulesProvider> current, ZoneRulesProvider provider) {
+        Set<String> zoneIds = provider.provideZoneIds();
+        for (String zoneId : zoneIds) {
+            Objects_requireNonNull(zoneId, "zoneId");
+            ZoneRulesProvider old = current.get(zoneId);
+            if (old instanceof BoundProvider) {
+                old = ((BoundProvider) old).provider;
+            }
+            if (old != null && old != provider) {
+                throw new ZoneRulesException(
+                    "Unable to register zone as one already registered with that ID: " + zoneId +
+                    ", currently loading from provider: " + provider);
+            }
+        }
+        Map<String, ZoneRulesProvider> bound = new HashMap<String, ZoneRulesProvider>();
+        for (String zoneId : zoneIds) {
+            bound.put(zoneId, provider.provideBind(zoneId));
+        }
+        return bound;
+    }
+
+    /**
+     * Gets the number of times that {@link #refresh()} has changed the rules.
+     * <p>
+     * This allows rules obtained before a refresh to be detected.
+     * In particular, it is used by {@code ZoneId} to avoid using cached rules
+     * that may have been replaced.
+     *
+     * @return the number of refreshes that changed the rules
+     */
+    public static int getRefreshCount() {
+        return refreshCount;
     }
 
     //-----------------------------------------------------------------------
@@ -126,7 +126,10 @@ public class Performance {
         List<LocalDate> ld = setupLocalDate();
         queryListLocalDate(ld);
         formatListLocalDate(ld);
+        sortArrayLocalDate(ld);
+        sortRadixLocalDate(ld);
         sortListLocalDate(ld);
+        epochDayLocalDate(ld);
 
         List<LocalTime> lt = setupTime();
         queryListTime(lt);
@@ -226,6 +229,37 @@ public class Performance {
         return list;
     }
 
+    private static void epochDayLocalDate(List<LocalDate> list) {
+        long total = 0;
+        long start = System.nanoTime();
+        for (LocalDate date : list) {
+            long epochDay = date.toEpochDay();
+            total += LocalDate.ofEpochDay(epochDay + 1).getDayOfMonth();
+            total += epochDay;
+        }
+        long end = System.nanoTime();
+        System.out.println("LocalD:    EpochD: " + NF.format(end - start) + " ns" + " " + total);
+        result("LocalD-E", end - start);
+    }
+
+    private static void sortArrayLocalDate(List<LocalDate> list) {
+        LocalDateArray array = LocalDateArray.of(list);
+        long start = System.nanoTime();
+        array.sort();
+        long end = System.nanoTime();
+        System.out.println("LocalD:    SortA:  " + NF.format(end - start) + " ns " + array.get(0));
+        result("LocalD-SA", end - start);
+    }
+
+    private static void sortRadixLocalDate(List<LocalDate> list) {
+        List<LocalDate> copy = new ArrayList<LocalDate>(list);
+        long start = System.nanoTime();
+        TemporalRadixSort.sortDates(copy);
+        long end = System.nanoTime();
+        System.out.println("LocalD:    SortR:  " + NF.format(end - start) + " ns " + copy.get(0));
+        result("LocalD-SR", end - start);
+    }
+
     private static void sortListLocalDate(List<LocalDate> list) {
         long start = System.nanoTime();
         Collections.sort(list);
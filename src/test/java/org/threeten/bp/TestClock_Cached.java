@@ -0,0 +1,183 @@
+/*
+ * Copyright (c) 2007-2013, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.bp;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+import org.testng.annotations.Test;
+
+/**
+ * Test cached clock.
+ */
+@Test
+public class TestClock_Cached extends AbstractTest {
+
+    private static final ZoneId MOSCOW = ZoneId.of("Europe/Moscow");
+    private static final ZoneId PARIS = ZoneId.of("Europe/Paris");
+    private static final Instant INSTANT = LocalDateTime.of(2008, 6, 30, 11, 30, 10, 500).toInstant(ZoneOffset.ofHours(2));
+
+    //-----------------------------------------------------------------------
+    public void test_instant_advances() throws InterruptedException {
+        Clock test = Clock.cached(Duration.ofMillis(1));
+        assertEquals(test.getZone(), ZoneOffset.UTC);
+        Instant first = test.instant();
+        for (int i = 0; i < 1000; i++) {
+            Thread.sleep(5);
+            if (test.instant().isAfter(first)) {
+                return;  // success
+            }
+        }
+        fail();
+    }
+
+    public void test_instant_nearSystem() {
+        Clock test = Clock.cached(Duration.ofMillis(1));
+        long diff = System.currentTimeMillis() - test.millis();
+        assertTrue(diff >= 0 && diff < 1000, "Difference " + diff);
+    }
+
+    public void test_instant_cached() {
+        Clock test = Clock.cached(Clock.fixed(INSTANT, PARIS), Duration.ofHours(1));
+        assertEquals(test.getZone(), PARIS);
+        assertSame(test.instant(), test.instant());
+        assertEquals(test.instant(), INSTANT);
+        assertEquals(test.millis(), INSTANT.toEpochMilli());
+    }
+
+    public void test_composes() {
+        Clock test = Clock.cached(Clock.fixed(INSTANT, PARIS), Duration.ofHours(1));
+        assertEquals(Clock.offset(test, Duration.ofHours(1)).instant(), INSTANT.plusSeconds(3600));
+        assertEquals(Clock.tick(test, Duration.ofSeconds(1)).instant(), INSTANT.minusNanos(500));
+        assertEquals(LocalDateTime.now(test), LocalDateTime.of(2008, 6, 30, 11, 30, 10, 500));
+    }
+
+    public void test_daemonThread_interrupt() throws InterruptedException {
+        Clock.CachedClock test = (Clock.CachedClock) Clock.cached(Duration.ofMillis(1));
+        Thread thread = test.ticker.thread;
+        assertTrue(thread.isDaemon());
+        assertTrue(thread.isAlive());
+        thread.interrupt();
+        thread.join(10000);
+        assertFalse(thread.isAlive());
+        Instant instant = test.instant();
+        Thread.sleep(10);
+        assertSame(test.instant(), instant);
+    }
+
+    public void test_stopCached() throws InterruptedException {
+        Clock.CachedClock test = (Clock.CachedClock) Clock.cached(Duration.ofMillis(1));
+        Thread thread = test.ticker.thread;
+        Clock.stopCached(test.withZone(PARIS));
+        thread.join(10000);
+        assertFalse(thread.isAlive());
+        Instant instant = test.instant();
+        Thread.sleep(10);
+        assertSame(test.instant(), instant);
+        Clock.stopCached(test);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void test_stopCached_notCached() {
+        Clock.stopCached(Clock.systemUTC());
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void test_stopCached_null() {
+        Clock.stopCached(null);
+    }
+
+    //-------------------------------------------------------------------------
+    public void test_withZone() {
+        Clock test = Clock.cached(Clock.fixed(INSTANT, PARIS), Duration.ofHours(1));
+        Clock changed = test.withZone(MOSCOW);
+        assertEquals(test.getZone(), PARIS);
+        assertEquals(changed.getZone(), MOSCOW);
+        assertSame(changed.instant(), test.instant());
+        assertEquals(changed.withZone(PARIS), test);
+    }
+
+    public void test_withZone_same() {
+        Clock test = Clock.cached(Duration.ofHours(1));
+        assertSame(test.withZone(ZoneOffset.UTC), test);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void test_withZone_null() {
+        Clock.cached(Duration.ofHours(1)).withZone(null);
+    }
+
+    //-------------------------------------------------------------------------
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void test_cached_zero() {
+        Clock.cached(Duration.ZERO);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void test_cached_negative() {
+        Clock.cached(Duration.ofMillis(-1));
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void test_cached_tooLarge() {
+        Clock.cached(Duration.ofSeconds(Long.MAX_VALUE));
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void test_cached_nullDuration() {
+        Clock.cached(null);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void test_cached_nullClock() {
+        Clock.cached(null, Duration.ofHours(1));
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_equals() {
+        Clock a = Clock.cached(Clock.fixed(INSTANT, PARIS), Duration.ofHours(1));
+        Clock b = Clock.cached(Clock.fixed(INSTANT, PARIS), Duration.ofHours(1));
+        assertTrue(a.equals(a));
+        assertEquals(a.hashCode(), a.withZone(MOSCOW).withZone(PARIS).hashCode());
+        assertFalse(a.equals(b));
+        assertFalse(a.equals(null));
+    }
+
+    public void test_toString() {
+        Clock test = Clock.cached(Clock.fixed(INSTANT, PARIS), Duration.ofHours(1));
+        assertEquals(test.toString(), "CachedClock[FixedClock[2008-06-30T09:30:10.000000500Z,Europe/Paris],PT1H]");
+    }
+
+}
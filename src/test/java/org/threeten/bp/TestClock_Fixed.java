@@ -71,6 +71,23 @@ public class TestClock_Fixed extends AbstractTest {
         Clock.fixed(INSTANT, null);
     }
 
+    //-------------------------------------------------------------------------
+    public void test_primitiveAccessors() {
+        Clock test = Clock.fixed(INSTANT, PARIS);
+        assertEquals(test.epochSecond(), INSTANT.getEpochSecond());
+        assertEquals(test.nanoOfSecond(), 500);
+        assertEquals(test.epochDay(), LocalDate.of(2008, 6, 30).toEpochDay());
+        assertEquals(test.secondOfDay(), LocalTime.of(11, 30, 10).toSecondOfDay());
+    }
+
+    public void test_primitiveAccessors_offsetZone() {
+        Clock test = Clock.fixed(Instant.ofEpochSecond(-1, 5), ZoneOffset.ofHours(-1));
+        assertEquals(test.epochSecond(), -1);
+        assertEquals(test.nanoOfSecond(), 5);
+        assertEquals(test.epochDay(), -1);
+        assertEquals(test.secondOfDay(), 86400 - 3601);
+    }
+
     //-------------------------------------------------------------------------
     public void test_withZone() {
         Clock test = Clock.fixed(INSTANT, PARIS);
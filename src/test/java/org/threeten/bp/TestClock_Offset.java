@@ -77,6 +77,21 @@ public class TestClock_Offset extends AbstractTest {
         Clock.offset(Clock.systemUTC(), null);
     }
 
+    //-------------------------------------------------------------------------
+    public void test_primitiveAccessors() {
+        Clock test = Clock.offset(Clock.fixed(INSTANT, PARIS), Duration.ofHours(13));
+        assertEquals(test.epochSecond(), INSTANT.getEpochSecond() + 13 * 3600);
+        assertEquals(test.nanoOfSecond(), 500);
+        assertEquals(test.epochDay(), LocalDate.of(2008, 7, 1).toEpochDay());
+        assertEquals(test.secondOfDay(), LocalTime.of(0, 30, 10).toSecondOfDay());
+    }
+
+    public void test_primitiveAccessors_nanoOffset() {
+        Clock test = Clock.offset(Clock.fixed(INSTANT, PARIS), Duration.ofNanos(-501));
+        assertEquals(test.epochSecond(), INSTANT.getEpochSecond() - 1);
+        assertEquals(test.nanoOfSecond(), 999999999);
+    }
+
     //-------------------------------------------------------------------------
     public void test_withZone() {
         Clock test = Clock.offset(Clock.system(PARIS), OFFSET);
@@ -0,0 +1,215 @@
+/*
+ * Copyright (c) 2007-2013, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.bp;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+
+import org.testng.annotations.Test;
+
+/**
+ * Test nano-time based system clock.
+ */
+@Test
+public class TestClock_Precise extends AbstractTest {
+
+    private static final ZoneId MOSCOW = ZoneId.of("Europe/Moscow");
+    private static final ZoneId PARIS = ZoneId.of("Europe/Paris");
+    private static final long MILLIS_2012 = 1341059440000L;
+
+    //-----------------------------------------------------------------------
+    public void test_isSerializable() throws IOException, ClassNotFoundException {
+        Clock test = Clock.systemPrecise(PARIS);
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        ObjectOutputStream oos = new ObjectOutputStream(baos);
+        oos.writeObject(test);
+        oos.close();
+        ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(baos.toByteArray()));
+        assertEquals(ois.readObject(), test);
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_instant() {
+        Clock system = Clock.systemPrecise(ZoneOffset.UTC);
+        assertEquals(system.getZone(), ZoneOffset.UTC);
+        for (int i = 0; i < 10000; i++) {
+            // assume can eventually get these within 10 milliseconds
+            Instant instant = system.instant();
+            long systemMillis = System.currentTimeMillis();
+            if (Math.abs(systemMillis - instant.toEpochMilli()) < 10) {
+                return;  // success
+            }
+        }
+        fail();
+    }
+
+    public void test_millis() {
+        Clock system = Clock.systemPrecise(ZoneOffset.UTC);
+        for (int i = 0; i < 10000; i++) {
+            // assume can eventually get these within 10 milliseconds
+            long instant = system.millis();
+            long systemMillis = System.currentTimeMillis();
+            if (Math.abs(systemMillis - instant) < 10) {
+                return;  // success
+            }
+        }
+        fail();
+    }
+
+    public void test_instant_neverDecreases() {
+        Clock system = Clock.systemPrecise(ZoneOffset.UTC);
+        Instant previous = system.instant();
+        for (int i = 0; i < 100000; i++) {
+            Instant instant = system.instant();
+            assertFalse(instant.isBefore(previous));
+            previous = instant;
+        }
+    }
+
+    //-------------------------------------------------------------------------
+    public void test_resync_noErrorWithinMillisecond() {
+        MockSource source = new MockSource();
+        Clock test = new Clock.NanoClock(ZoneOffset.UTC, source);
+        assertEquals(test.instant(), Instant.ofEpochMilli(MILLIS_2012));
+        source.nanoTime += 1500000L;
+        assertEquals(test.instant(), Instant.ofEpochMilli(MILLIS_2012).plusNanos(1500000L));
+        source.nanoTime += Clock.NanoTimeSource.RESYNC_NANOS;
+        source.millis += 1001;
+        assertEquals(test.instant(), Instant.ofEpochMilli(MILLIS_2012).plusNanos(1001500000L));
+    }
+
+    public void test_resync_slewForward() {
+        MockSource source = new MockSource();
+        Clock test = new Clock.NanoClock(ZoneOffset.UTC, source);
+        source.nanoTime += Clock.NanoTimeSource.RESYNC_NANOS;
+        source.millis += 1005;  // system time is 4ms ahead of the window
+        assertEquals(test.instant(), Instant.ofEpochMilli(MILLIS_2012 + 1001));
+        source.nanoTime += Clock.NanoTimeSource.RESYNC_NANOS;
+        source.millis += 1000;
+        assertEquals(test.instant(), Instant.ofEpochMilli(MILLIS_2012 + 2002));
+    }
+
+    public void test_resync_slewBackward() {
+        MockSource source = new MockSource();
+        Clock test = new Clock.NanoClock(ZoneOffset.UTC, source);
+        source.nanoTime += Clock.NanoTimeSource.RESYNC_NANOS;
+        source.millis -= 1000;  // system time is set back
+        Instant instant = test.instant();
+        assertEquals(instant, Instant.ofEpochMilli(MILLIS_2012 + 999));
+        source.nanoTime += Clock.NanoTimeSource.RESYNC_NANOS;
+        assertEquals(test.instant(), Instant.ofEpochMilli(MILLIS_2012 + 1998));
+    }
+
+    public void test_resync_stepForward() {
+        MockSource source = new MockSource();
+        Clock test = new Clock.NanoClock(ZoneOffset.UTC, source);
+        source.nanoTime += Clock.NanoTimeSource.RESYNC_NANOS;
+        source.millis += 3600000;
+        assertEquals(test.instant(), Instant.ofEpochMilli(MILLIS_2012 + 3600000));
+    }
+
+    public void test_neverDecreases_whenNanoTimeDoes() {
+        MockSource source = new MockSource();
+        Clock test = new Clock.NanoClock(ZoneOffset.UTC, source);
+        source.nanoTime += 5000;
+        Instant instant = test.instant();
+        source.nanoTime -= 4000;
+        assertEquals(test.instant(), instant);
+    }
+
+    //-------------------------------------------------------------------------
+    public void test_withZone() {
+        Clock test = Clock.systemPrecise(PARIS);
+        Clock changed = test.withZone(MOSCOW);
+        assertEquals(test.getZone(), PARIS);
+        assertEquals(changed.getZone(), MOSCOW);
+        assertEquals(changed, Clock.systemPrecise(MOSCOW));
+    }
+
+    public void test_withZone_same() {
+        Clock test = Clock.systemPrecise(PARIS);
+        assertSame(test.withZone(PARIS), test);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void test_withZone_null() {
+        Clock.systemPrecise(PARIS).withZone(null);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void test_systemPrecise_null() {
+        Clock.systemPrecise(null);
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_equals() {
+        Clock a = Clock.systemPrecise(PARIS);
+        Clock b = Clock.systemPrecise(PARIS);
+        assertTrue(a.equals(b));
+        assertEquals(a.hashCode(), b.hashCode());
+        assertFalse(a.equals(Clock.systemPrecise(MOSCOW)));
+        assertFalse(a.equals(Clock.system(PARIS)));
+        assertFalse(a.equals(null));
+    }
+
+    public void test_toString() {
+        assertEquals(Clock.systemPrecise(PARIS).toString(), "NanoClock[Europe/Paris]");
+    }
+
+    //-----------------------------------------------------------------------
+    static class MockSource extends Clock.NanoTimeSource {
+        long millis = MILLIS_2012;
+        long nanoTime = 1234567890L;
+
+        MockSource() {
+            super(MILLIS_2012, 1234567890L);
+        }
+        @Override
+        long systemMillis() {
+            return millis;
+        }
+        @Override
+        long systemNanoTime() {
+            return nanoTime;
+        }
+    }
+
+}
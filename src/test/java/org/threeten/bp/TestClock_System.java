@@ -84,6 +84,32 @@ public class TestClock_System extends AbstractTest {
         fail();
     }
 
+    public void test_epochSecond() {
+        Clock system = Clock.systemUTC();
+        for (int i = 0; i < 10000; i++) {
+            // assume can eventually get these within 10 milliseconds
+            long millis = system.epochSecond() * 1000 + system.nanoOfSecond() / 1000000;
+            long systemMillis = System.currentTimeMillis();
+            if (systemMillis - millis >= 0 && systemMillis - millis < 10) {
+                return;  // success
+            }
+        }
+        fail();
+    }
+
+    public void test_epochDay() {
+        Clock system = Clock.system(PARIS);
+        for (int i = 0; i < 10000; i++) {
+            // assume can eventually get these within the same second
+            LocalDateTime now = LocalDateTime.now(system);
+            if (system.epochDay() == now.toLocalDate().toEpochDay() &&
+                    system.secondOfDay() == now.toLocalTime().toSecondOfDay()) {
+                return;  // success
+            }
+        }
+        fail();
+    }
+
     //-------------------------------------------------------------------------
     public void test_systemUTC() {
         Clock test = Clock.systemUTC();
@@ -162,6 +162,30 @@ public class TestClock_Tick extends AbstractTest {
         Clock.tickMinutes(null);
     }
 
+    //-------------------------------------------------------------------------
+    public void test_primitiveAccessors_seconds() {
+        Clock test = Clock.tick(Clock.fixed(ZDT.withSecond(11).toInstant(), PARIS), Duration.ofSeconds(2));
+        assertEquals(test.epochSecond(), ZDT.withSecond(10).toEpochSecond());
+        assertEquals(test.nanoOfSecond(), 0);
+        assertEquals(test.secondOfDay(), LocalTime.of(11, 30, 10).toSecondOfDay());
+        assertEquals(test.epochDay(), ZDT.toLocalDate().toEpochDay());
+    }
+
+    public void test_primitiveAccessors_subSecond() {
+        Clock test = Clock.tick(Clock.fixed(ZDT.withNano(250006789).toInstant(), PARIS), Duration.ofMillis(250));
+        assertEquals(test.epochSecond(), ZDT.toEpochSecond());
+        assertEquals(test.nanoOfSecond(), 250000000);
+        test = Clock.tick(Clock.fixed(ZDT.withNano(250006789).toInstant(), PARIS), Duration.ofNanos(20));
+        assertEquals(test.nanoOfSecond(), 250006780);
+    }
+
+    public void test_primitiveAccessors_notDivisible() {
+        Clock test = Clock.tick(Clock.fixed(ZDT.withNano(600000000).toInstant(), PARIS), Duration.ofMillis(1500));
+        Instant expected = test.instant();
+        assertEquals(test.epochSecond(), expected.getEpochSecond());
+        assertEquals(test.nanoOfSecond(), expected.getNano());
+    }
+
     //-------------------------------------------------------------------------
     public void test_withZone() {
         Clock test = Clock.tick(Clock.system(PARIS), Duration.ofMillis(500));
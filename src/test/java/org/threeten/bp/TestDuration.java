@@ -47,7 +47,11 @@ import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
 import java.util.Locale;
+import java.util.Random;
 
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
@@ -1834,6 +1838,103 @@ public class TestDuration extends AbstractTest {
         assertEquals(test.dividedBy(Long.MAX_VALUE), Duration.ofSeconds(1));
     }
 
+    @Test
+    public void dividedBy_min() {
+        assertEquals(Duration.ofSeconds(Long.MIN_VALUE).dividedBy(Long.MIN_VALUE), Duration.ofSeconds(1));
+        assertEquals(Duration.ofSeconds(Long.MAX_VALUE, 999999999).dividedBy(Long.MIN_VALUE), Duration.ofNanos(-999999999));
+        assertEquals(Duration.ofSeconds(Long.MIN_VALUE).dividedBy(3), Duration.ofSeconds(-3074457345618258602L, -666666666));
+    }
+
+    @Test(expectedExceptions=ArithmeticException.class)
+    public void dividedBy_min_negated() {
+        Duration.ofSeconds(Long.MIN_VALUE).dividedBy(-1);
+    }
+
+    //-----------------------------------------------------------------------
+    // multipliedBy() and dividedBy() against an exact reference
+    //-----------------------------------------------------------------------
+    @Test
+    public void multipliedBy_edges() {
+        assertEquals(Duration.ofNanos(-1600000000).multipliedBy(5L << 60), Duration.ofSeconds(Long.MIN_VALUE));
+        assertEquals(Duration.ofSeconds(0, 500000000).multipliedBy(Long.MIN_VALUE), Duration.ofSeconds(Long.MIN_VALUE / 2));
+        assertEquals(Duration.ofSeconds(-1, 999999999).multipliedBy(Long.MIN_VALUE), Duration.ofNanos(Long.MIN_VALUE).negated());
+        assertEquals(Duration.ofSeconds(-1, 1).multipliedBy(-1), Duration.ofSeconds(0, 999999999));
+    }
+
+    @Test(expectedExceptions=ArithmeticException.class)
+    public void multipliedBy_tooBig_nanosCarry() {
+        Duration.ofNanos(-1600000001).multipliedBy(5L << 60);
+    }
+
+    @Test
+    public void multipliedBy_dividedBy_matchesBigDecimal() {
+        long[] values = {0, 1, -1, 2, -2, 3, 7, -13, 999999999, 1000000000, 1000000001, -1000000000,
+                123456789012L, -987654321098L, Integer.MAX_VALUE, Integer.MIN_VALUE,
+                Long.MAX_VALUE / 3, Long.MIN_VALUE / 7, Long.MAX_VALUE, Long.MIN_VALUE};
+        Duration[] durations = {Duration.ZERO, Duration.ofNanos(1), Duration.ofNanos(-1),
+                Duration.ofSeconds(1, 500000000), Duration.ofSeconds(-7, 3), Duration.ofSeconds(12345, 678901234),
+                Duration.ofSeconds(-98765, 43210987), Duration.ofSeconds(Long.MAX_VALUE, 999999999),
+                Duration.ofSeconds(Long.MIN_VALUE), Duration.ofSeconds(Long.MIN_VALUE, 1),
+                Duration.ofSeconds(Long.MAX_VALUE / 1000, 1), Duration.ofSeconds(Long.MIN_VALUE / 999, 999999999)};
+        Random random = new Random(20261018L);
+        for (int i = 0; i < 200; i++) {
+            Duration random1 = Duration.ofSeconds(random.nextLong() >> random.nextInt(64), random.nextInt(1000000000));
+            long random2 = random.nextLong() >> random.nextInt(64);
+            assertMultiplyDivide(random1, random2);
+            for (long value : values) {
+                assertMultiplyDivide(random1, value);
+            }
+            for (Duration duration : durations) {
+                assertMultiplyDivide(duration, random2);
+            }
+        }
+        for (Duration duration : durations) {
+            for (long value : values) {
+                assertMultiplyDivide(duration, value);
+            }
+        }
+    }
+
+    private static void assertMultiplyDivide(Duration duration, long value) {
+        BigDecimal exact = BigDecimal.valueOf(duration.getSeconds())
+                .add(BigDecimal.valueOf(duration.getNano(), 9));
+        BigDecimal factor = BigDecimal.valueOf(value);
+        assertEquals(multiplyOrNull(duration, value), toDuration(exact.multiply(factor)), duration + " * " + value);
+        if (value != 0) {
+            BigDecimal quotient = exact.divide(factor, 9, RoundingMode.DOWN);
+            assertEquals(divideOrNull(duration, value), toDuration(quotient), duration + " / " + value);
+        }
+    }
+
+    private static Duration multiplyOrNull(Duration duration, long value) {
+        try {
+            return duration.multipliedBy(value);
+        } catch (ArithmeticException ex) {
+            return null;
+        }
+    }
+
+    private static Duration divideOrNull(Duration duration, long value) {
+        try {
+            return duration.dividedBy(value);
+        } catch (ArithmeticException ex) {
+            return null;
+        }
+    }
+
+    private static Duration toDuration(BigDecimal seconds) {
+        BigInteger[] divRem = seconds.movePointRight(9).toBigIntegerExact()
+                .divideAndRemainder(BigInteger.valueOf(1000000000));
+        if (divRem[1].signum() < 0) {
+            divRem[0] = divRem[0].subtract(BigInteger.ONE);
+            divRem[1] = divRem[1].add(BigInteger.valueOf(1000000000));
+        }
+        if (divRem[0].bitLength() > 63) {
+            return null;
+        }
+        return Duration.ofSeconds(divRem[0].longValue(), divRem[1].longValue());
+    }
+
     //-----------------------------------------------------------------------
     // negated()
     //-----------------------------------------------------------------------
@@ -1916,6 +2017,93 @@ public class TestDuration extends AbstractTest {
         test.toMillis();
     }
 
+    //-----------------------------------------------------------------------
+    // saturatedNanos()
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_saturatedNanos() {
+        assertEquals(Duration.ofSeconds(321, 123456789).saturatedNanos(), 321123456789L);
+        assertEquals(Duration.ofSeconds(-321, 123456789).saturatedNanos(), -320876543211L);
+        assertEquals(Duration.ofNanos(Long.MAX_VALUE).saturatedNanos(), Long.MAX_VALUE);
+        assertEquals(Duration.ofNanos(Long.MIN_VALUE).saturatedNanos(), Long.MIN_VALUE);
+        assertEquals(Duration.ofNanos(Long.MAX_VALUE).plusNanos(1).saturatedNanos(), Long.MAX_VALUE);
+        assertEquals(Duration.ofNanos(Long.MIN_VALUE).minusNanos(1).saturatedNanos(), Long.MIN_VALUE);
+        assertEquals(Duration.ofSeconds(Long.MAX_VALUE, 999999999).saturatedNanos(), Long.MAX_VALUE);
+        assertEquals(Duration.ofSeconds(Long.MIN_VALUE).saturatedNanos(), Long.MIN_VALUE);
+    }
+
+    //-----------------------------------------------------------------------
+    // nanosBetween(), microsBetween(), millisBetween()
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_nanosBetween() {
+        Instant start = Instant.ofEpochSecond(10, 999999999);
+        Instant end = Instant.ofEpochSecond(12, 1);
+        assertEquals(Duration.nanosBetween(start, end), 1000000002L);
+        assertEquals(Duration.nanosBetween(end, start), -1000000002L);
+        assertEquals(Duration.microsBetween(start, end), 1000000L);
+        assertEquals(Duration.microsBetween(end, start), -1000001L);
+        assertEquals(Duration.millisBetween(start, end), 1000L);
+        assertEquals(Duration.millisBetween(end, start), -1001L);
+        assertEquals(Duration.nanosBetween(start, start), 0L);
+    }
+
+    @Test
+    public void test_between_saturates() {
+        assertEquals(Duration.nanosBetween(Instant.MIN, Instant.MAX), Long.MAX_VALUE);
+        assertEquals(Duration.nanosBetween(Instant.MAX, Instant.MIN), Long.MIN_VALUE);
+        assertEquals(Duration.microsBetween(Instant.MIN, Instant.MAX), Long.MAX_VALUE);
+        assertEquals(Duration.microsBetween(Instant.MAX, Instant.MIN), Long.MIN_VALUE);
+        assertEquals(Duration.millisBetween(Instant.MIN, Instant.MAX), Long.MAX_VALUE);
+        assertEquals(Duration.millisBetween(Instant.MAX, Instant.MIN), Long.MIN_VALUE);
+    }
+
+    @Test
+    public void test_between_matchesDuration() {
+        Random random = new Random(39L);
+        Instant[] instants = {Instant.EPOCH, Instant.MIN, Instant.MAX, Instant.ofEpochSecond(0, 999999999),
+                Instant.ofEpochSecond(-1, 1), Instant.ofEpochSecond(9223372036L, 854775807),
+                Instant.ofEpochSecond(9223372036L, 854775808), Instant.ofEpochSecond(-9223372037L, 145224192),
+                Instant.ofEpochSecond(-9223372037L, 145224191), Instant.ofEpochSecond(9223372036854775L, 807000000),
+                Instant.ofEpochSecond(-9223372036854776L, 192000000), Instant.ofEpochSecond(-9223372036854776L, 191999999)};
+        for (int i = 0; i < 500; i++) {
+            Instant instant = Instant.ofEpochSecond(random.nextLong() >> (14 + random.nextInt(50)), random.nextInt(1000000000));
+            for (Instant other : instants) {
+                assertBetween(instant, other);
+                assertBetween(other, instant);
+            }
+        }
+        for (Instant start : instants) {
+            for (Instant end : instants) {
+                assertBetween(start, end);
+            }
+        }
+    }
+
+    private static void assertBetween(Instant start, Instant end) {
+        BigInteger nanos = BigInteger.valueOf(end.getEpochSecond()).subtract(BigInteger.valueOf(start.getEpochSecond()))
+                .multiply(BigInteger.valueOf(1000000000)).add(BigInteger.valueOf(end.getNano() - start.getNano()));
+        assertEquals(Duration.nanosBetween(start, end), clamp(nanos), start + " " + end);
+        assertEquals(Duration.microsBetween(start, end), clamp(floorDiv(nanos, 1000)), start + " " + end);
+        assertEquals(Duration.millisBetween(start, end), clamp(floorDiv(nanos, 1000000)), start + " " + end);
+        assertEquals(Duration.between(start, end).saturatedNanos(), clamp(nanos), start + " " + end);
+    }
+
+    private static BigInteger floorDiv(BigInteger value, long divisor) {
+        BigInteger[] divRem = value.divideAndRemainder(BigInteger.valueOf(divisor));
+        return (divRem[1].signum() < 0 ? divRem[0].subtract(BigInteger.ONE) : divRem[0]);
+    }
+
+    private static long clamp(BigInteger value) {
+        if (value.compareTo(BigInteger.valueOf(Long.MAX_VALUE)) > 0) {
+            return Long.MAX_VALUE;
+        }
+        if (value.compareTo(BigInteger.valueOf(Long.MIN_VALUE)) < 0) {
+            return Long.MIN_VALUE;
+        }
+        return value.longValue();
+    }
+
     //-----------------------------------------------------------------------
     // compareTo()
     //-----------------------------------------------------------------------
@@ -36,6 +36,7 @@ import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertNotNull;
 import static org.testng.Assert.assertSame;
 import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
 import static org.threeten.bp.temporal.ChronoField.ALIGNED_DAY_OF_WEEK_IN_MONTH;
 import static org.threeten.bp.temporal.ChronoField.ALIGNED_DAY_OF_WEEK_IN_YEAR;
 import static org.threeten.bp.temporal.ChronoField.ALIGNED_WEEK_OF_MONTH;
@@ -60,6 +61,7 @@ import java.lang.reflect.Modifier;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Random;
 
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.DataProvider;
@@ -473,6 +475,87 @@ public class TestLocalDate extends AbstractDateTimeTest {
         LocalDate.ofEpochDay(MIN_VALID_EPOCHDAYS - 1);
     }
 
+    //-----------------------------------------------------------------------
+    // ofEpochDay() and toEpochDay() against the previous algorithm
+    //-----------------------------------------------------------------------
+    // both algorithms repeat exactly for each 400 year cycle of 146097 days,
+    // thus checking whole cycles at each end of the range and around the epoch,
+    // together with a random sample, verifies the full range
+    @Test
+    public void test_epochDay_matchesReference() {
+        long min = -365243219162L;
+        long max = 365241780471L;
+        checkEpochDays(min, min + 2 * 146097);
+        checkEpochDays(-2 * 146097, 2 * 146097);
+        checkEpochDays(max - 2 * 146097, max + 1);
+        Random random = new Random(146097);
+        for (int i = 0; i < 1000000; i++) {
+            checkEpochDay(min + (long) (random.nextDouble() * (max - min)));
+        }
+    }
+
+    private void checkEpochDays(long start, long end) {
+        for (long epochDay = start; epochDay < end; epochDay++) {
+            checkEpochDay(epochDay);
+        }
+    }
+
+    private void checkEpochDay(long epochDay) {
+        long yearMonthDay = referenceYearMonthDay(epochDay);
+        int year = (int) (yearMonthDay >> 9);
+        int month = (int) (yearMonthDay >> 5) & 15;
+        int dom = (int) yearMonthDay & 31;
+        LocalDate date = LocalDate.ofEpochDay(epochDay);
+        if (date.getYear() != year || date.getMonthValue() != month || date.getDayOfMonth() != dom) {
+            fail("ofEpochDay(" + epochDay + ") was " + date + " but expected " + year + "/" + month + "/" + dom);
+        }
+        if (date.toEpochDay() != epochDay || referenceEpochDay(year, month, dom) != epochDay) {
+            fail("toEpochDay() for " + date + " was " + date.toEpochDay() + " but expected " + epochDay);
+        }
+    }
+
+    private static long referenceYearMonthDay(long epochDay) {
+        long zeroDay = epochDay + 719528;
+        zeroDay -= 60;
+        long adjust = 0;
+        if (zeroDay < 0) {
+            long adjustCycles = (zeroDay + 1) / 146097 - 1;
+            adjust = adjustCycles * 400;
+            zeroDay += -adjustCycles * 146097;
+        }
+        long yearEst = (400 * zeroDay + 591) / 146097;
+        long doyEst = zeroDay - (365 * yearEst + yearEst / 4 - yearEst / 100 + yearEst / 400);
+        if (doyEst < 0) {
+            yearEst--;
+            doyEst = zeroDay - (365 * yearEst + yearEst / 4 - yearEst / 100 + yearEst / 400);
+        }
+        yearEst += adjust;
+        int marchDoy0 = (int) doyEst;
+        int marchMonth0 = (marchDoy0 * 5 + 2) / 153;
+        int month = (marchMonth0 + 2) % 12 + 1;
+        int dom = marchDoy0 - (marchMonth0 * 306 + 5) / 10 + 1;
+        yearEst += marchMonth0 / 10;
+        return (yearEst << 9) | (month << 5) | dom;
+    }
+
+    private static long referenceEpochDay(long y, long m, int dom) {
+        long total = 365 * y;
+        if (y >= 0) {
+            total += (y + 3) / 4 - (y + 99) / 100 + (y + 399) / 400;
+        } else {
+            total -= y / -4 - y / -100 + y / -400;
+        }
+        total += ((367 * m - 362) / 12);
+        total += dom - 1;
+        if (m > 2) {
+            total--;
+            if (IsoChronology.INSTANCE.isLeapYear(y) == false) {
+                total--;
+            }
+        }
+        return total - 719528;
+    }
+
     //-----------------------------------------------------------------------
     // from()
     //-----------------------------------------------------------------------
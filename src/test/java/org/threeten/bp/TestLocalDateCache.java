@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2007-2013, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.bp;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+/**
+ * Test LocalDateCache.
+ */
+@Test
+public class TestLocalDateCache {
+
+    @AfterMethod
+    public void tearDown() {
+        LocalDateCache.disable();
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_disabledByDefault() {
+        assertFalse(LocalDateCache.isEnabled());
+        assertNotSame(LocalDate.of(2012, 6, 30), LocalDate.of(2012, 6, 30));
+        assertEquals(LocalDateCache.getHitCount(), 0);
+        assertEquals(LocalDateCache.getMissCount(), 0);
+    }
+
+    public void test_enabled_identical() {
+        LocalDateCache.enable(4096, true);
+        assertTrue(LocalDateCache.isEnabled());
+        LocalDate date = LocalDate.of(2012, 6, 30);
+        assertSame(LocalDate.of(2012, Month.JUNE, 30), date);
+        assertSame(LocalDate.ofEpochDay(date.toEpochDay()), date);
+        assertSame(LocalDate.of(2012, 6, 29).plusDays(1), date);
+        assertSame(LocalDate.ofYearDay(2012, 182), date);
+        assertSame(date.plusDays(1).minusDays(1), date);
+        assertEquals(LocalDateCache.getMissCount(), 3);
+        assertEquals(LocalDateCache.getHitCount(), 5);
+    }
+
+    public void test_enabled_slidingWindow() {
+        LocalDateCache.enable(100, false);
+        LocalDate start = LocalDate.of(2012, 1, 1);
+        LocalDate date = start;
+        for (int i = 0; i < 128; i++) {
+            date = date.plusDays(1);
+        }
+        // 128 days later shares the slot with the start, replacing it
+        LocalDate replaced = LocalDate.ofEpochDay(start.toEpochDay());
+        assertNotSame(replaced, start);
+        assertEquals(replaced, start);
+        assertSame(LocalDate.ofEpochDay(start.toEpochDay() + 1), start.plusDays(1));
+        assertEquals(LocalDateCache.getHitCount(), 0);
+    }
+
+    public void test_enabled_fullRange() {
+        LocalDateCache.enable(1, true);
+        assertSame(LocalDate.ofEpochDay(LocalDate.MIN.toEpochDay()), LocalDate.ofEpochDay(LocalDate.MIN.toEpochDay()));
+        assertEquals(LocalDate.ofEpochDay(LocalDate.MAX.toEpochDay()), LocalDate.MAX);
+        assertEquals(LocalDate.ofEpochDay(-1), LocalDate.of(1969, 12, 31));
+    }
+
+    public void test_enable_replaces() {
+        LocalDateCache.enable(16, true);
+        LocalDate date = LocalDate.of(2012, 6, 30);
+        LocalDateCache.enable(16, true);
+        assertNotSame(LocalDate.of(2012, 6, 30), date);
+        assertEquals(LocalDateCache.getMissCount(), 1);
+    }
+
+    public void test_disable() {
+        LocalDateCache.enable(16, true);
+        LocalDateCache.disable();
+        assertFalse(LocalDateCache.isEnabled());
+        assertNotSame(LocalDate.of(2012, 6, 30), LocalDate.of(2012, 6, 30));
+    }
+
+    @Test(expectedExceptions=IllegalArgumentException.class)
+    public void test_enable_zero() {
+        LocalDateCache.enable(0, false);
+    }
+
+    @Test(expectedExceptions=IllegalArgumentException.class)
+    public void test_enable_tooLarge() {
+        LocalDateCache.enable((1 << 24) + 1, false);
+    }
+
+}
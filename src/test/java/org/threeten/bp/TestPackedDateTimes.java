@@ -0,0 +1,231 @@
+/*
+ * Copyright (c) 2007-2013, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.bp;
+
+import static org.testng.Assert.assertEquals;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+/**
+ * Test PackedDateTimes.
+ */
+@Test
+public class TestPackedDateTimes {
+
+    //-----------------------------------------------------------------------
+    // LocalDate
+    //-----------------------------------------------------------------------
+    @DataProvider(name="dates")
+    Object[][] data_dates() {
+        return new Object[][] {
+            {LocalDate.of(-5877641, 6, 23)},
+            {LocalDate.of(-1, 12, 31)},
+            {LocalDate.of(0, 1, 1)},
+            {LocalDate.of(0, 2, 29)},
+            {LocalDate.of(1969, 12, 31)},
+            {LocalDate.of(1970, 1, 1)},
+            {LocalDate.of(2000, 2, 29)},
+            {LocalDate.of(2012, 6, 30)},
+            {LocalDate.of(5881580, 7, 11)},
+        };
+    }
+
+    @Test(dataProvider="dates")
+    public void test_localDate_roundTrip(LocalDate date) {
+        int packed = PackedDateTimes.packLocalDate(date);
+        assertEquals(packed, date.toEpochDay());
+        assertEquals(PackedDateTimes.packLocalDate(date.getYear(), date.getMonthValue(), date.getDayOfMonth()), packed);
+        assertEquals(PackedDateTimes.unpackLocalDate(packed), date);
+        assertEquals(PackedDateTimes.getYear(packed), date.getYear());
+        assertEquals(PackedDateTimes.getMonthValue(packed), date.getMonthValue());
+        assertEquals(PackedDateTimes.getDayOfMonth(packed), date.getDayOfMonth());
+        assertEquals(PackedDateTimes.getDayOfWeek(packed), date.getDayOfWeek().getValue());
+    }
+
+    public void test_localDate_sweep() {
+        LocalDate date = LocalDate.of(1896, 1, 1);
+        int packed = PackedDateTimes.packLocalDate(date);
+        for (int i = 0; i < 600; i++) {
+            int next = PackedDateTimes.datePlusDays(packed, 97);
+            LocalDate nextDate = date.plusDays(97);
+            assertEquals(PackedDateTimes.unpackLocalDate(next), nextDate);
+            assertEquals(Integer.signum(next - packed), Integer.signum(nextDate.compareTo(date)));
+            assertEquals(PackedDateTimes.getMonthValue(next), nextDate.getMonthValue());
+            assertEquals(PackedDateTimes.getDayOfMonth(next), nextDate.getDayOfMonth());
+            packed = next;
+            date = nextDate;
+        }
+    }
+
+    @Test(expectedExceptions=ArithmeticException.class)
+    public void test_localDate_plusDays_tooLarge() {
+        PackedDateTimes.datePlusDays(Integer.MAX_VALUE, 1);
+    }
+
+    @Test(expectedExceptions=ArithmeticException.class)
+    public void test_localDate_tooLarge() {
+        PackedDateTimes.packLocalDate(LocalDate.of(5881580, 7, 12));
+    }
+
+    @Test(expectedExceptions=ArithmeticException.class)
+    public void test_localDate_tooSmall() {
+        PackedDateTimes.packLocalDate(LocalDate.MIN);
+    }
+
+    @Test(expectedExceptions=DateTimeException.class)
+    public void test_localDate_invalid() {
+        PackedDateTimes.packLocalDate(2011, 2, 29);
+    }
+
+    //-----------------------------------------------------------------------
+    // LocalDateTime
+    //-----------------------------------------------------------------------
+    @DataProvider(name="dateTimes")
+    Object[][] data_dateTimes() {
+        return new Object[][] {
+            {LocalDateTime.of(1677, 9, 21, 0, 12, 43, 145224192), Long.MIN_VALUE},
+            {LocalDateTime.of(1969, 12, 31, 23, 59, 59, 999999999), -1L},
+            {LocalDateTime.of(1970, 1, 1, 0, 0), 0L},
+            {LocalDateTime.of(1970, 1, 1, 0, 0, 1, 1), 1000000001L},
+            {LocalDateTime.of(2012, 6, 30, 12, 30, 40, 987654321), 1341059440987654321L},
+            {LocalDateTime.of(2262, 4, 11, 23, 47, 16, 854775807), Long.MAX_VALUE},
+        };
+    }
+
+    @Test(dataProvider="dateTimes")
+    public void test_localDateTime_roundTrip(LocalDateTime dateTime, long expected) {
+        long packed = PackedDateTimes.packLocalDateTime(dateTime);
+        assertEquals(packed, expected);
+        assertEquals(PackedDateTimes.unpackLocalDateTime(packed), dateTime);
+        assertEquals(PackedDateTimes.unpackLocalDate(PackedDateTimes.getDate(packed)), dateTime.toLocalDate());
+        assertEquals(PackedDateTimes.getNanoOfDay(packed), dateTime.toLocalTime().toNanoOfDay());
+        assertEquals(PackedDateTimes.getHour(packed), dateTime.getHour());
+        assertEquals(PackedDateTimes.getMinute(packed), dateTime.getMinute());
+        assertEquals(PackedDateTimes.getSecond(packed), dateTime.getSecond());
+        assertEquals(PackedDateTimes.getNano(packed), dateTime.getNano());
+        assertEquals(PackedDateTimes.getEpochSecond(packed), dateTime.toEpochSecond(ZoneOffset.UTC));
+    }
+
+    public void test_localDateTime_plus() {
+        LocalDateTime base = LocalDateTime.of(2012, 2, 28, 23, 30, 5, 7);
+        long packed = PackedDateTimes.packLocalDateTime(base);
+        assertEquals(PackedDateTimes.unpackLocalDateTime(PackedDateTimes.dateTimePlusDays(packed, 2)), base.plusDays(2));
+        assertEquals(PackedDateTimes.unpackLocalDateTime(PackedDateTimes.plusSeconds(packed, -86401)), base.plusSeconds(-86401));
+        assertEquals(PackedDateTimes.unpackLocalDateTime(PackedDateTimes.plusNanos(packed, 999999999)), base.plusNanos(999999999));
+    }
+
+    @Test(expectedExceptions=ArithmeticException.class)
+    public void test_localDateTime_tooLarge() {
+        PackedDateTimes.packLocalDateTime(LocalDateTime.of(2262, 4, 11, 23, 47, 16, 854775808));
+    }
+
+    @Test(expectedExceptions=ArithmeticException.class)
+    public void test_localDateTime_tooSmall() {
+        PackedDateTimes.packLocalDateTime(LocalDateTime.of(1677, 9, 21, 0, 12, 43, 145224191));
+    }
+
+    @Test(expectedExceptions=ArithmeticException.class)
+    public void test_localDateTime_plusDays_overflow() {
+        PackedDateTimes.dateTimePlusDays(0, 106752);
+    }
+
+    //-----------------------------------------------------------------------
+    // Instant
+    //-----------------------------------------------------------------------
+    public void test_instant_roundTrip() {
+        Instant instant = Instant.ofEpochSecond(-1341059440L, 123456789);
+        long packed = PackedDateTimes.packInstant(instant);
+        assertEquals(packed, -1341059440L * 1000000000L + 123456789);
+        assertEquals(PackedDateTimes.unpackInstant(packed), instant);
+        assertEquals(PackedDateTimes.getEpochSecond(packed), instant.getEpochSecond());
+        assertEquals(PackedDateTimes.getNano(packed), instant.getNano());
+        assertEquals(PackedDateTimes.unpackInstant(PackedDateTimes.plusSeconds(packed, 10)), instant.plusSeconds(10));
+        assertEquals(PackedDateTimes.unpackInstant(Long.MIN_VALUE), Instant.ofEpochSecond(0, Long.MIN_VALUE));
+        assertEquals(PackedDateTimes.unpackInstant(Long.MAX_VALUE), Instant.ofEpochSecond(0, Long.MAX_VALUE));
+    }
+
+    @Test(expectedExceptions=ArithmeticException.class)
+    public void test_instant_tooLarge() {
+        PackedDateTimes.packInstant(Instant.ofEpochSecond(0, Long.MAX_VALUE).plusNanos(1));
+    }
+
+    public void test_compareInstant() {
+        Instant[] instants = {Instant.MIN, Instant.ofEpochSecond(-1, 999999999), Instant.EPOCH,
+            Instant.ofEpochSecond(0, 1), Instant.ofEpochSecond(1), Instant.MAX};
+        for (Instant a : instants) {
+            for (Instant b : instants) {
+                int cmp = PackedDateTimes.compareInstant(a.getEpochSecond(), a.getNano(), b.getEpochSecond(), b.getNano());
+                assertEquals(Integer.signum(cmp), Integer.signum(a.compareTo(b)));
+            }
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    // OffsetDateTime
+    //-----------------------------------------------------------------------
+    public void test_offsetDateTime_roundTrip() {
+        OffsetDateTime dateTime = OffsetDateTime.of(LocalDateTime.of(2012, 6, 30, 12, 30, 40, 5), ZoneOffset.ofHoursMinutes(-5, -30));
+        long packed = PackedDateTimes.packOffsetDateTime(dateTime);
+        short offset = PackedDateTimes.packOffset(dateTime.getOffset());
+        assertEquals(packed, PackedDateTimes.packInstant(dateTime.toInstant()));
+        assertEquals(offset, -330);
+        assertEquals(PackedDateTimes.unpackOffset(offset), dateTime.getOffset());
+        assertEquals(PackedDateTimes.unpackOffsetDateTime(packed, offset), dateTime);
+        assertEquals(PackedDateTimes.toLocalDateTime(packed, offset), PackedDateTimes.packLocalDateTime(dateTime.toLocalDateTime()));
+    }
+
+    public void test_compareOffsetDateTime() {
+        LocalDateTime ldt = LocalDateTime.of(2012, 6, 30, 12, 0);
+        OffsetDateTime[] dateTimes = {
+            OffsetDateTime.of(ldt, ZoneOffset.ofHours(2)),
+            OffsetDateTime.of(ldt.plusHours(1), ZoneOffset.ofHours(3)),
+            OffsetDateTime.of(ldt, ZoneOffset.ofHours(1)),
+            OffsetDateTime.of(ldt.plusNanos(1), ZoneOffset.ofHours(1)),
+            OffsetDateTime.of(ldt, ZoneOffset.UTC),
+        };
+        for (OffsetDateTime a : dateTimes) {
+            for (OffsetDateTime b : dateTimes) {
+                int cmp = PackedDateTimes.compareOffsetDateTime(
+                        PackedDateTimes.packOffsetDateTime(a), PackedDateTimes.packOffset(a.getOffset()),
+                        PackedDateTimes.packOffsetDateTime(b), PackedDateTimes.packOffset(b.getOffset()));
+                assertEquals(Integer.signum(cmp), Integer.signum(a.compareTo(b)));
+            }
+        }
+    }
+
+    @Test(expectedExceptions=DateTimeException.class)
+    public void test_packOffset_seconds() {
+        PackedDateTimes.packOffset(ZoneOffset.ofHoursMinutesSeconds(1, 0, 30));
+    }
+
+}
@@ -0,0 +1,215 @@
+/*
+ * Copyright (c) 2007-2013, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.bp;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+
+import org.testng.annotations.Test;
+
+/**
+ * Test LocalDateArray, InstantArray and LocalDateTimeArray.
+ */
+@Test
+public class TestTemporalArrays {
+
+    private static final LocalDate DATE_2012_06_30 = LocalDate.of(2012, 6, 30);
+
+    //-----------------------------------------------------------------------
+    public void test_localDate_addGet() {
+        LocalDateArray array = new LocalDateArray(0);
+        assertEquals(array.size(), 0);
+        for (int i = 0; i < 100; i++) {
+            array.add(DATE_2012_06_30.plusDays(i));
+        }
+        assertEquals(array.size(), 100);
+        assertEquals(array.get(0), DATE_2012_06_30);
+        assertEquals(array.get(99), DATE_2012_06_30.plusDays(99));
+        assertEquals(array.getPacked(1), DATE_2012_06_30.toEpochDay() + 1);
+        array.set(0, LocalDate.MIN);
+        assertEquals(array.get(0), LocalDate.MIN);
+        array.clear();
+        assertEquals(array.size(), 0);
+    }
+
+    public void test_localDate_fullRange() {
+        LocalDateArray array = LocalDateArray.of(LocalDate.MAX, LocalDate.MIN);
+        array.sort();
+        assertEquals(array.asList(), Arrays.asList(LocalDate.MIN, LocalDate.MAX));
+    }
+
+    public void test_localDate_sortSearchRange() {
+        List<LocalDate> dates = new ArrayList<LocalDate>();
+        Random random = new Random(2012);
+        for (int i = 0; i < 1000; i++) {
+            dates.add(DATE_2012_06_30.plusDays(random.nextInt(20000) - 10000));
+        }
+        LocalDateArray array = LocalDateArray.of(dates);
+        array.sort();
+        Collections.sort(dates);
+        assertEquals(array.asList(), dates);
+
+        LocalDate search = dates.get(500);
+        int index = array.binarySearch(search);
+        assertEquals(array.get(index), search);
+        LocalDate missing = DATE_2012_06_30.plusDays(20000);
+        assertEquals(array.binarySearch(missing), -1001);
+
+        LocalDate start = dates.get(100);
+        LocalDate end = dates.get(900);
+        List<LocalDate> expected = new ArrayList<LocalDate>();
+        for (LocalDate date : dates) {
+            if (date.isBefore(start) == false && date.isBefore(end)) {
+                expected.add(date);
+            }
+        }
+        assertEquals(array.range(start, end).asList(), expected);
+        assertEquals(array.range(end, start).size(), 0);
+    }
+
+    public void test_localDate_iterator() {
+        LocalDateArray array = LocalDateArray.of(DATE_2012_06_30, DATE_2012_06_30.plusDays(1));
+        Iterator<LocalDate> it = array.iterator();
+        assertTrue(it.hasNext());
+        assertEquals(it.next(), DATE_2012_06_30);
+        assertEquals(it.next(), DATE_2012_06_30.plusDays(1));
+        assertFalse(it.hasNext());
+    }
+
+    public void test_localDate_asList_set() {
+        LocalDateArray array = LocalDateArray.of(DATE_2012_06_30);
+        assertEquals(array.asList().set(0, LocalDate.MAX), DATE_2012_06_30);
+        assertEquals(array.get(0), LocalDate.MAX);
+    }
+
+    public void test_localDate_equalsHashCodeToString() {
+        LocalDateArray a = LocalDateArray.of(DATE_2012_06_30);
+        LocalDateArray b = new LocalDateArray();
+        b.add(DATE_2012_06_30);
+        assertEquals(a, b);
+        assertEquals(a.hashCode(), b.hashCode());
+        assertFalse(a.equals(LocalDateArray.of(LocalDate.MIN)));
+        assertFalse(a.equals(InstantArray.ofPacked(a.toPackedArray())));
+        assertEquals(a.toString(), "[2012-06-30]");
+    }
+
+    public void test_equalsHashCode_unusedCapacity() {
+        LocalDateArray a = new LocalDateArray(100);
+        a.add(DATE_2012_06_30);
+        a.add(LocalDate.MIN);
+        LocalDateArray b = LocalDateArray.of(DATE_2012_06_30, LocalDate.MIN);
+        assertEquals(a, b);
+        assertEquals(a.hashCode(), b.hashCode());
+        assertEquals(a.hashCode(), Arrays.hashCode(a.toPackedArray()));
+        a.add(LocalDate.MAX);
+        assertFalse(a.equals(b));
+        assertFalse(b.equals(a));
+    }
+
+    public void test_localDate_ofPacked() {
+        long[] packed = {1, 0};
+        LocalDateArray array = LocalDateArray.ofPacked(packed);
+        packed[0] = 5;
+        assertEquals(array.get(0), LocalDate.of(1970, 1, 2));
+        assertTrue(Arrays.equals(array.toPackedArray(), new long[] {1, 0}));
+    }
+
+    @Test(expectedExceptions=IndexOutOfBoundsException.class)
+    public void test_get_outOfBounds() {
+        LocalDateArray array = new LocalDateArray(20);
+        array.get(0);
+    }
+
+    @Test(expectedExceptions=NullPointerException.class)
+    public void test_add_null() {
+        new LocalDateArray().add(null);
+    }
+
+    @Test(expectedExceptions=IllegalArgumentException.class)
+    public void test_negativeCapacity() {
+        new LocalDateArray(-1);
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_instant() {
+        Instant base = Instant.ofEpochSecond(1341059440L, 5);
+        InstantArray array = InstantArray.of(base.plusNanos(2), base, base.minusSeconds(3), base.plusNanos(1));
+        array.sort();
+        assertEquals(array.asList(), Arrays.asList(base.minusSeconds(3), base, base.plusNanos(1), base.plusNanos(2)));
+        assertEquals(array.binarySearch(base.plusNanos(1)), 2);
+        assertEquals(array.range(base, base.plusNanos(2)).asList(), Arrays.asList(base, base.plusNanos(1)));
+    }
+
+    public void test_instant_queryOutOfRange() {
+        Instant base = Instant.ofEpochSecond(1341059440L, 5);
+        InstantArray array = InstantArray.of(base, base.plusSeconds(1));
+        assertEquals(array.range(Instant.MIN, base.plusSeconds(1)).asList(), Arrays.asList(base));
+        assertEquals(array.range(base.plusSeconds(1), Instant.MAX).asList(), Arrays.asList(base.plusSeconds(1)));
+        assertEquals(array.range(Instant.MIN, Instant.MAX), array);
+        assertEquals(array.range(Instant.MAX, Instant.MIN).size(), 0);
+        assertEquals(array.binarySearch(Instant.MIN), -1);
+        assertEquals(array.binarySearch(Instant.MAX), -3);
+    }
+
+    @Test(expectedExceptions=ArithmeticException.class)
+    public void test_instant_outOfRange() {
+        new InstantArray().add(Instant.MAX);
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_localDateTime() {
+        LocalDateTime base = LocalDateTime.of(2012, 6, 30, 23, 59, 59, 999999999);
+        LocalDateTimeArray array = LocalDateTimeArray.of(base.plusNanos(1), base, base.minusYears(100));
+        array.sort();
+        assertEquals(array.asList(), Arrays.asList(base.minusYears(100), base, base.plusNanos(1)));
+        assertEquals(array.binarySearch(base.minusNanos(1)), -2);
+        assertEquals(array.range(base.plusNanos(1), LocalDateTime.of(2200, 1, 1, 0, 0)).asList(), Arrays.asList(base.plusNanos(1)));
+    }
+
+    public void test_localDateTime_queryOutOfRange() {
+        LocalDateTime base = LocalDateTime.of(2012, 6, 30, 23, 59, 59, 999999999);
+        LocalDateTimeArray array = LocalDateTimeArray.of(base, base.plusNanos(1));
+        assertEquals(array.binarySearch(LocalDateTime.MIN), -1);
+        assertEquals(array.binarySearch(LocalDateTime.MAX), -3);
+        assertEquals(array.range(LocalDateTime.MIN, LocalDateTime.MAX), array);
+        assertEquals(array.range(LocalDateTime.of(1000, 1, 1, 0, 0), base).size(), 0);
+    }
+
+}
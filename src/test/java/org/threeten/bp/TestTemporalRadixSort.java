@@ -0,0 +1,224 @@
+/*
+ * Copyright (c) 2007-2013, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.bp;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Random;
+
+import org.testng.annotations.Test;
+import org.threeten.bp.chrono.ChronoLocalDate;
+import org.threeten.bp.chrono.HijrahChronology;
+
+/**
+ * Test TemporalRadixSort.
+ */
+@Test
+public class TestTemporalRadixSort {
+
+    private static final ZoneOffset OFFSET_PONE = ZoneOffset.ofHours(1);
+    private static final ZoneOffset OFFSET_MTWO = ZoneOffset.ofHours(-2);
+
+    //-----------------------------------------------------------------------
+    public void test_keys_unsignedOrder() {
+        assertUnsignedLess(TemporalRadixSort.key(LocalDate.MIN), TemporalRadixSort.key(LocalDate.of(1969, 12, 31)));
+        assertUnsignedLess(TemporalRadixSort.key(LocalDate.of(1969, 12, 31)), TemporalRadixSort.key(LocalDate.of(1970, 1, 1)));
+        assertUnsignedLess(TemporalRadixSort.key(LocalDate.of(1970, 1, 1)), TemporalRadixSort.key(LocalDate.MAX));
+        assertUnsignedLess(TemporalRadixSort.keyHigh(Instant.MIN), TemporalRadixSort.keyHigh(Instant.ofEpochSecond(-1)));
+        assertUnsignedLess(TemporalRadixSort.keyHigh(Instant.ofEpochSecond(-1)), TemporalRadixSort.keyHigh(Instant.EPOCH));
+        assertEquals(TemporalRadixSort.key(LocalTime.MAX), LocalTime.MAX.toNanoOfDay());
+        assertEquals(TemporalRadixSort.keyLow(Instant.ofEpochSecond(-1, 5)), 5L);
+    }
+
+    private static void assertUnsignedLess(long key1, long key2) {
+        assertEquals((key1 ^ Long.MIN_VALUE) < (key2 ^ Long.MIN_VALUE), true, key1 + " " + key2);
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_sortDates() {
+        Random random = new Random(40);
+        List<LocalDate> dates = new ArrayList<LocalDate>();
+        for (int i = 0; i < 2000; i++) {
+            dates.add(LocalDate.ofEpochDay(random.nextInt(2000000) - 1000000));
+        }
+        dates.add(LocalDate.MIN);
+        dates.add(LocalDate.MAX);
+        dates.add(LocalDate.ofEpochDay(0));
+        List<LocalDate> expected = new ArrayList<LocalDate>(dates);
+        Collections.sort(expected);
+        LocalDate[] array = dates.toArray(new LocalDate[dates.size()]);
+
+        TemporalRadixSort.sortDates(dates);
+        assertEquals(dates, expected);
+        TemporalRadixSort.sortDates(array);
+        assertEquals(Arrays.asList(array), expected);
+    }
+
+    public void test_sortDates_mixedChronology_stable() {
+        LocalDate date = LocalDate.of(2012, 6, 30);
+        ChronoLocalDate<?> hijrah = HijrahChronology.INSTANCE.date(date);
+        List<ChronoLocalDate<?>> dates = new LinkedList<ChronoLocalDate<?>>();
+        dates.add(hijrah);
+        dates.add(date.plusDays(1));
+        dates.add(date);
+        dates.add(date.minusDays(1));
+        TemporalRadixSort.sortDates(dates);
+        assertEquals(dates.get(0), date.minusDays(1));
+        assertSame(dates.get(1), hijrah);
+        assertEquals(dates.get(2), date);
+        assertEquals(dates.get(3), date.plusDays(1));
+    }
+
+    public void test_sortTimes() {
+        Random random = new Random(41);
+        List<LocalTime> times = new ArrayList<LocalTime>();
+        for (int i = 0; i < 2000; i++) {
+            times.add(LocalTime.ofNanoOfDay((random.nextLong() >>> 1) % LocalTime.NANOS_PER_DAY));
+        }
+        times.add(LocalTime.MIN);
+        times.add(LocalTime.MAX);
+        List<LocalTime> expected = new ArrayList<LocalTime>(times);
+        Collections.sort(expected);
+        TemporalRadixSort.sortTimes(times);
+        assertEquals(times, expected);
+    }
+
+    public void test_sortDateTimes() {
+        Random random = new Random(42);
+        List<LocalDateTime> dateTimes = new ArrayList<LocalDateTime>();
+        for (int i = 0; i < 2000; i++) {
+            LocalDate date = LocalDate.ofEpochDay(random.nextInt(2000) - 1000);
+            dateTimes.add(LocalDateTime.of(date, LocalTime.ofSecondOfDay(random.nextInt(86400))));
+        }
+        dateTimes.add(LocalDateTime.MIN);
+        dateTimes.add(LocalDateTime.MAX);
+        List<LocalDateTime> expected = new ArrayList<LocalDateTime>(dateTimes);
+        Collections.sort(expected);
+        LocalDateTime[] array = dateTimes.toArray(new LocalDateTime[dateTimes.size()]);
+
+        TemporalRadixSort.sortDateTimes(dateTimes);
+        assertEquals(dateTimes, expected);
+        TemporalRadixSort.sortDateTimes(array);
+        assertEquals(Arrays.asList(array), expected);
+    }
+
+    public void test_sortInstants() {
+        Random random = new Random(43);
+        List<Instant> instants = new ArrayList<Instant>();
+        for (int i = 0; i < 2000; i++) {
+            instants.add(Instant.ofEpochSecond(random.nextInt(200) - 100, random.nextInt(1000000000)));
+        }
+        instants.add(Instant.MIN);
+        instants.add(Instant.MAX);
+        List<Instant> expected = new ArrayList<Instant>(instants);
+        Collections.sort(expected);
+        TemporalRadixSort.sortInstants(instants);
+        assertEquals(instants, expected);
+    }
+
+    public void test_sortZonedAndOffsetDateTimes_instantOrder_stable() {
+        Random random = new Random(44);
+        List<ZonedDateTime> zoned = new ArrayList<ZonedDateTime>();
+        List<OffsetDateTime> offset = new ArrayList<OffsetDateTime>();
+        for (int i = 0; i < 2000; i++) {
+            Instant instant = Instant.ofEpochSecond(random.nextInt(100), random.nextInt(3) * 500000000);
+            ZoneOffset zone = (random.nextBoolean() ? OFFSET_PONE : OFFSET_MTWO);
+            zoned.add(ZonedDateTime.ofInstant(instant, zone));
+            offset.add(OffsetDateTime.ofInstant(instant, zone));
+        }
+        List<ZonedDateTime> expectedZoned = new ArrayList<ZonedDateTime>(zoned);
+        Collections.sort(expectedZoned, new Comparator<ZonedDateTime>() {
+            @Override
+            public int compare(ZonedDateTime dt1, ZonedDateTime dt2) {
+                return dt1.toInstant().compareTo(dt2.toInstant());
+            }
+        });
+        List<OffsetDateTime> expectedOffset = new ArrayList<OffsetDateTime>(offset);
+        Collections.sort(expectedOffset, new Comparator<OffsetDateTime>() {
+            @Override
+            public int compare(OffsetDateTime dt1, OffsetDateTime dt2) {
+                return dt1.toInstant().compareTo(dt2.toInstant());
+            }
+        });
+        TemporalRadixSort.sortZonedDateTimes(zoned);
+        assertEquals(zoned, expectedZoned);
+        TemporalRadixSort.sortOffsetDateTimes(offset);
+        assertEquals(offset, expectedOffset);
+    }
+
+    public void test_sort_empty() {
+        List<Instant> instants = new ArrayList<Instant>();
+        TemporalRadixSort.sortInstants(instants);
+        assertEquals(instants.size(), 0);
+        TemporalRadixSort.sortDates(new LocalDate[0]);
+    }
+
+    @Test(expectedExceptions=NullPointerException.class)
+    public void test_sort_nullElement() {
+        TemporalRadixSort.sortTimes(Arrays.asList(LocalTime.MIDNIGHT, null));
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_sort_packed() {
+        Random random = new Random(45);
+        long[] values = new long[10000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = random.nextLong() >> random.nextInt(64);
+        }
+        values[0] = Long.MIN_VALUE;
+        values[1] = Long.MAX_VALUE;
+        long[] expected = values.clone();
+        Arrays.sort(expected, 10, 9000);
+        TemporalRadixSort.sort(values, 10, 9000);
+        assertEquals(values, expected);
+    }
+
+    public void test_temporalArray_sortLarge() {
+        Random random = new Random(46);
+        List<Instant> instants = new ArrayList<Instant>();
+        for (int i = 0; i < 10000; i++) {
+            instants.add(Instant.ofEpochSecond(random.nextInt(1000000) - 500000, random.nextInt(1000000000)));
+        }
+        InstantArray array = InstantArray.of(instants);
+        array.sort();
+        Collections.sort(instants);
+        assertEquals(array.asList(), instants);
+    }
+
+}
@@ -0,0 +1,180 @@
+/*
+ * Copyright (c) 2007-2013, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.bp;
+
+import static org.testng.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+import org.threeten.bp.ZonedDateTimeResolver.GapStrategy;
+import org.threeten.bp.ZonedDateTimeResolver.OverlapStrategy;
+
+/**
+ * Test ZonedDateTimeResolver.
+ */
+@Test
+public class TestZonedDateTimeResolver {
+
+    private static final ZoneId LONDON = ZoneId.of("Europe/London");
+    // gap 2008-03-30T01:00 to 02:00, overlap 2008-10-26T01:00 to 02:00
+    private static final LocalDateTime GAP = LocalDateTime.of(2008, 3, 30, 1, 30, 0, 500);
+    private static final LocalDateTime OVERLAP = LocalDateTime.of(2008, 10, 26, 1, 30);
+
+    @DataProvider(name = "zones")
+    Object[][] data_zones() {
+        return new Object[][] {
+            {ZoneId.of("Europe/London"), LocalDateTime.of(1900, 1, 1, 0, 0), 97},
+            {ZoneId.of("Europe/London"), LocalDateTime.of(2006, 1, 1, 0, 0), 7},
+            {ZoneId.of("America/New_York"), LocalDateTime.of(2030, 1, 1, 0, 0), 11},
+            {ZoneId.of("Australia/Lord_Howe"), LocalDateTime.of(2010, 1, 1, 0, 0), 13},
+            {ZoneId.of("Pacific/Apia"), LocalDateTime.of(2010, 1, 1, 0, 0), 17},
+            {ZoneId.of("Asia/Kolkata"), LocalDateTime.of(1940, 1, 1, 0, 0), 59},
+            {ZoneId.of("UTC"), LocalDateTime.of(2010, 1, 1, 0, 0), 61},
+            {ZoneOffset.ofHours(5), LocalDateTime.of(2010, 1, 1, 0, 0), 61},
+        };
+    }
+
+    //-----------------------------------------------------------------------
+    @Test(dataProvider = "zones")
+    public void test_matchesOfLocal(ZoneId zone, LocalDateTime start, int stepMinutes) {
+        List<LocalDateTime> locals = sequence(start, stepMinutes);
+        List<ZonedDateTime> expected = new ArrayList<ZonedDateTime>();
+        for (LocalDateTime local : locals) {
+            expected.add(ZonedDateTime.ofLocal(local, zone, null));
+        }
+        ZonedDateTimeResolver resolver = ZonedDateTimeResolver.of(zone);
+        assertEquals(resolver.resolve(locals), expected);
+        assertEquals(resolver.resolve(LocalDateTimeArray.of(locals)), expected);
+    }
+
+    @Test(dataProvider = "zones")
+    public void test_epochSeconds(ZoneId zone, LocalDateTime start, int stepMinutes) {
+        List<LocalDateTime> locals = sequence(start, stepMinutes);
+        long[] localEpochSeconds = new long[locals.size()];
+        for (int i = 0; i < localEpochSeconds.length; i++) {
+            localEpochSeconds[i] = locals.get(i).toEpochSecond(ZoneOffset.UTC);
+        }
+        long[] epochSeconds = new long[localEpochSeconds.length];
+        int[] offsetSeconds = new int[localEpochSeconds.length];
+        ZonedDateTimeResolver.of(zone).resolve(localEpochSeconds, epochSeconds, offsetSeconds);
+        for (int i = 0; i < localEpochSeconds.length; i++) {
+            ZonedDateTime expected = ZonedDateTime.ofLocal(locals.get(i), zone, null);
+            assertEquals(epochSeconds[i], expected.toEpochSecond());
+            assertEquals(offsetSeconds[i], expected.getOffset().getTotalSeconds());
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_gap_shiftForward() {
+        ZonedDateTimeResolver resolver = ZonedDateTimeResolver.of(LONDON, GapStrategy.SHIFT_FORWARD, OverlapStrategy.REJECT);
+        ZonedDateTime resolved = resolver.resolve(Arrays.asList(GAP)).get(0);
+        assertEquals(resolved.toLocalDateTime(), GAP.plusHours(1));
+        assertEquals(resolved.getOffset(), ZoneOffset.ofHours(1));
+    }
+
+    public void test_gap_nextValidTime() {
+        ZonedDateTimeResolver resolver = ZonedDateTimeResolver.of(LONDON, GapStrategy.NEXT_VALID_TIME, OverlapStrategy.REJECT);
+        ZonedDateTime resolved = resolver.resolve(Arrays.asList(GAP)).get(0);
+        assertEquals(resolved.toLocalDateTime(), LocalDateTime.of(2008, 3, 30, 2, 0));
+        assertEquals(resolved.getOffset(), ZoneOffset.ofHours(1));
+        long[] epochSeconds = new long[1];
+        resolver.resolve(new long[] {GAP.toEpochSecond(ZoneOffset.UTC)}, epochSeconds, null);
+        assertEquals(epochSeconds[0], resolved.toEpochSecond());
+    }
+
+    @Test(expectedExceptions = DateTimeException.class)
+    public void test_gap_reject() {
+        ZonedDateTimeResolver resolver = ZonedDateTimeResolver.of(LONDON, GapStrategy.REJECT, OverlapStrategy.EARLIER_OFFSET);
+        resolver.resolve(Arrays.asList(OVERLAP.minusMonths(7), GAP));
+    }
+
+    public void test_overlap_earlierOffset() {
+        ZonedDateTimeResolver resolver = ZonedDateTimeResolver.of(LONDON, GapStrategy.REJECT, OverlapStrategy.EARLIER_OFFSET);
+        ZonedDateTime resolved = resolver.resolve(Arrays.asList(OVERLAP)).get(0);
+        assertEquals(resolved, ZonedDateTime.of(OVERLAP, LONDON).withEarlierOffsetAtOverlap());
+        assertEquals(resolved.getOffset(), ZoneOffset.ofHours(1));
+    }
+
+    public void test_overlap_laterOffset() {
+        ZonedDateTimeResolver resolver = ZonedDateTimeResolver.of(LONDON, GapStrategy.REJECT, OverlapStrategy.LATER_OFFSET);
+        ZonedDateTime resolved = resolver.resolve(Arrays.asList(OVERLAP)).get(0);
+        assertEquals(resolved, ZonedDateTime.of(OVERLAP, LONDON).withLaterOffsetAtOverlap());
+        int[] offsetSeconds = new int[1];
+        resolver.resolve(new long[] {OVERLAP.toEpochSecond(ZoneOffset.UTC)}, null, offsetSeconds);
+        assertEquals(offsetSeconds[0], 0);
+    }
+
+    @Test(expectedExceptions = DateTimeException.class)
+    public void test_overlap_reject() {
+        ZonedDateTimeResolver resolver = ZonedDateTimeResolver.of(LONDON, GapStrategy.SHIFT_FORWARD, OverlapStrategy.REJECT);
+        resolver.resolve(new long[] {OVERLAP.toEpochSecond(ZoneOffset.UTC)}, new long[1], null);
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_empty() {
+        ZonedDateTimeResolver resolver = ZonedDateTimeResolver.of(LONDON);
+        assertEquals(resolver.resolve(Collections.<LocalDateTime>emptyList()), Collections.emptyList());
+        assertEquals(resolver.resolve(new LocalDateTimeArray()), Collections.emptyList());
+        resolver.resolve(new long[0], null, null);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void test_notSorted() {
+        ZonedDateTimeResolver.of(LONDON).resolve(Arrays.asList(OVERLAP, GAP));
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void test_outputTooShort() {
+        ZonedDateTimeResolver.of(LONDON).resolve(new long[2], new long[1], null);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void test_nullZone() {
+        ZonedDateTimeResolver.of(null);
+    }
+
+    //-----------------------------------------------------------------------
+    private static List<LocalDateTime> sequence(LocalDateTime start, int stepMinutes) {
+        List<LocalDateTime> list = new ArrayList<LocalDateTime>();
+        LocalDateTime end = start.plusYears(3);
+        for (LocalDateTime local = start; local.isBefore(end); local = local.plusMinutes(stepMinutes).plusSeconds(1)) {
+            list.add(local);
+        }
+        return list;
+    }
+
+}
@@ -40,6 +40,7 @@ import java.io.IOException;
 import java.text.Format;
 import java.text.ParseException;
 import java.text.ParsePosition;
+import java.util.BitSet;
 import java.util.Locale;
 
 import org.testng.annotations.BeforeMethod;
@@ -331,6 +332,87 @@ public class TestDateTimeFormatter {
         test.parseUnresolved("ONE30", pos);
     }
 
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_parseToEpochDays() throws Exception {
+        CharSequence[] texts = {"2012-06-30", "1970-01-01", "2012-02-30", null, "+12345-01-01", "2012-06-30X", "-0001-12-31"};
+        long[] epochDays = new long[texts.length];
+        BitSet errors = DateTimeFormatter.ISO_LOCAL_DATE.parseToEpochDays(texts, epochDays);
+        assertEquals(epochDays[0], LocalDate.of(2012, 6, 30).toEpochDay());
+        assertEquals(epochDays[1], 0);
+        assertEquals(epochDays[4], LocalDate.of(12345, 1, 1).toEpochDay());
+        assertEquals(epochDays[6], LocalDate.of(-1, 12, 31).toEpochDay());
+        assertEquals(errors.toString(), "{2, 3, 5}");
+    }
+
+    @Test
+    public void test_parseToEpochDays_generalResolve() throws Exception {
+        CharSequence[] texts = {"2012-182", "2012-183", "2012-367"};
+        long[] epochDays = new long[texts.length];
+        BitSet errors = DateTimeFormatter.ISO_ORDINAL_DATE.parseToEpochDays(texts, epochDays);
+        assertEquals(epochDays[0], LocalDate.of(2012, 6, 30).toEpochDay());
+        assertEquals(epochDays[1], LocalDate.of(2012, 7, 1).toEpochDay());
+        assertEquals(errors.toString(), "{2}");
+    }
+
+    @Test
+    public void test_parseToEpochDays_matchesParse() throws Exception {
+        LocalDate date = LocalDate.of(-400, 1, 1);
+        CharSequence[] texts = new CharSequence[2000];
+        for (int i = 0; i < texts.length; i++) {
+            texts[i] = date.toString();
+            date = date.plusDays(397);
+        }
+        long[] epochDays = new long[texts.length];
+        BitSet errors = DateTimeFormatter.ISO_LOCAL_DATE.parseToEpochDays(texts, epochDays);
+        assertTrue(errors.isEmpty());
+        for (int i = 0; i < texts.length; i++) {
+            assertEquals(epochDays[i], LocalDate.parse(texts[i]).toEpochDay());
+        }
+    }
+
+    @Test(expectedExceptions=IllegalArgumentException.class)
+    public void test_parseToEpochDays_outputTooSmall() throws Exception {
+        DateTimeFormatter.ISO_LOCAL_DATE.parseToEpochDays(new CharSequence[2], new long[1]);
+    }
+
+    @Test
+    public void test_parseToEpochSeconds() throws Exception {
+        CharSequence[] texts = {"2012-06-30T12:30:40.5Z", "1970-01-01T00:00:00Z", "2012-06-30T25:30:40Z", "junk"};
+        long[] epochSecs = new long[texts.length];
+        int[] nanos = new int[texts.length];
+        BitSet errors = DateTimeFormatter.ISO_INSTANT.parseToEpochSeconds(texts, epochSecs, nanos);
+        assertEquals(epochSecs[0], 1341059440L);
+        assertEquals(nanos[0], 500000000);
+        assertEquals(epochSecs[1], 0);
+        assertEquals(nanos[1], 0);
+        assertEquals(errors.toString(), "{2, 3}");
+    }
+
+    @Test
+    public void test_parseToEpochSeconds_offsetAndZone() throws Exception {
+        CharSequence[] texts = {"2012-06-30T12:30:40+02:00", "2012-06-30T12:30+02:00", "2012-06-30T12:30:40.000000001-01:30",
+                "2012-06-30T12:30:40+02:00[Europe/Paris]", "2012-06-30T12:30:40"};
+        long[] epochSecs = new long[texts.length];
+        int[] nanos = new int[texts.length];
+        BitSet errors = DateTimeFormatter.ISO_DATE_TIME.parseToEpochSeconds(texts, epochSecs, nanos);
+        assertEquals(epochSecs[0], 1341052240L);
+        assertEquals(epochSecs[1], 1341052200L);
+        assertEquals(epochSecs[2], 1341064840L);
+        assertEquals(nanos[2], 1);
+        assertEquals(epochSecs[3], 1341052240L);
+        assertEquals(errors.toString(), "{4}");
+    }
+
+    @Test
+    public void test_parseToEpochSeconds_nullNanos() throws Exception {
+        CharSequence[] texts = {"2012-06-30T12:30:40.5Z"};
+        long[] epochSecs = new long[texts.length];
+        BitSet errors = DateTimeFormatter.ISO_INSTANT.parseToEpochSeconds(texts, epochSecs, null);
+        assertEquals(epochSecs[0], 1341059440L);
+        assertTrue(errors.isEmpty());
+    }
+
     //-----------------------------------------------------------------------
     //-----------------------------------------------------------------------
     @Test
@@ -38,6 +38,7 @@ import static org.threeten.bp.temporal.ChronoField.DAY_OF_MONTH;
 import static org.threeten.bp.temporal.ChronoField.DAY_OF_WEEK;
 import static org.threeten.bp.temporal.ChronoField.DAY_OF_YEAR;
 import static org.threeten.bp.temporal.ChronoField.HOUR_OF_DAY;
+import static org.threeten.bp.temporal.ChronoField.INSTANT_SECONDS;
 import static org.threeten.bp.temporal.ChronoField.MINUTE_OF_HOUR;
 import static org.threeten.bp.temporal.ChronoField.MONTH_OF_YEAR;
 import static org.threeten.bp.temporal.ChronoField.NANO_OF_SECOND;
@@ -55,8 +56,10 @@ import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 import org.threeten.bp.DateTimeException;
+import org.threeten.bp.Instant;
 import org.threeten.bp.LocalDate;
 import org.threeten.bp.LocalDateTime;
+import org.threeten.bp.OffsetDateTime;
 import org.threeten.bp.Year;
 import org.threeten.bp.YearMonth;
 import org.threeten.bp.ZoneId;
@@ -1020,6 +1023,106 @@ public class TestDateTimeFormatters {
         assertEquals(parsed.get(DAY_OF_WEEK), 5);
     }
 
+    //-----------------------------------------------------------------------
+    //-----------------------------------------------------------------------
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_print_isoInstant_matchesLocalDateTime() {
+        int[] nanos = {0, 1, 999, 1000, 999000, 1000000, 120000000, 999999999};
+        for (long secs = -62167219200L; secs < 253402300800L; secs += 86400L * 13 + 3613) {
+            for (int i = 0; i < nanos.length; i++) {
+                Instant instant = Instant.ofEpochSecond(secs, nanos[i]);
+                String expected = LocalDateTime.ofEpochSecond(secs, nanos[i], ZoneOffset.UTC) + "Z";
+                assertEquals(DateTimeFormatter.ISO_INSTANT.format(instant), expected);
+            }
+        }
+    }
+
+    @Test
+    public void test_print_isoInstant_boundaries() {
+        assertEquals(DateTimeFormatter.ISO_INSTANT.format(Instant.ofEpochSecond(-62167219200L)), "0000-01-01T00:00Z");
+        assertEquals(DateTimeFormatter.ISO_INSTANT.format(Instant.ofEpochSecond(-62162035201L)), "0000-02-29T23:59:59Z");
+        assertEquals(DateTimeFormatter.ISO_INSTANT.format(Instant.ofEpochSecond(951868799L)), "2000-02-29T23:59:59Z");
+        assertEquals(DateTimeFormatter.ISO_INSTANT.format(Instant.ofEpochSecond(253402300799L, 5000)), "9999-12-31T23:59:59.000005Z");
+        assertEquals(DateTimeFormatter.ISO_INSTANT.format(Instant.ofEpochSecond(253402300800L)), "+10000-01-01T00:00Z");
+    }
+
+    @Test
+    public void test_parse_isoInstant_roundTrip() {
+        int[] nanos = {0, 1, 999, 1000, 999000, 1000000, 120000000, 999999999};
+        for (long secs = -62167219200L; secs < 253402300800L; secs += 86400L * 13 + 3613) {
+            for (int i = 0; i < nanos.length; i++) {
+                Instant instant = Instant.ofEpochSecond(secs, nanos[i]);
+                assertEquals(DateTimeFormatter.ISO_INSTANT.parse(instant.toString(), Instant.class), instant);
+            }
+        }
+    }
+
+    @DataProvider(name="sample_isoInstant")
+    Object[][] provider_sample_isoInstant() {
+        return new Object[][]{
+                {"2012-06-30T12:30:40Z", 1341059440L, 0},
+                {"2012-06-30t12:30:40z", 1341059440L, 0},
+                {"2012-06-30T12:30Z", 1341059400L, 0},
+                {"2012-06-30T12:30:40.Z", 1341059440L, 0},
+                {"2012-06-30T12:30:40.5Z", 1341059440L, 500000000},
+                {"2012-06-30T12:30:40.123456789Z", 1341059440L, 123456789},
+                {"2000-02-29T00:00:00Z", 951782400L, 0},
+                {"0000-01-01T00:00:00Z", -62167219200L, 0},
+                {"9999-12-31T23:59:59.999999999Z", 253402300799L, 999999999},
+                {"+10000-01-01T00:00:00Z", 253402300800L, 0},
+                {"-0001-12-31T23:59:59Z", -62167219201L, 0},
+        };
+    }
+
+    @Test(dataProvider="sample_isoInstant")
+    public void test_parse_isoInstant(String text, long epochSecs, int nano) {
+        TemporalAccessor parsed = DateTimeFormatter.ISO_INSTANT.parseUnresolved(text, new ParsePosition(0));
+        assertEquals(parsed.getLong(INSTANT_SECONDS), epochSecs);
+        assertEquals(parsed.getLong(NANO_OF_SECOND), nano);
+    }
+
+    @Test
+    public void test_parse_isoInstant_position() {
+        ParsePosition pos = new ParsePosition(4);
+        TemporalAccessor parsed = DateTimeFormatter.ISO_INSTANT.parseUnresolved("XXXX2012-06-30T12:30:40Z;", pos);
+        assertEquals(parsed.getLong(INSTANT_SECONDS), 1341059440L);
+        assertEquals(pos.getIndex(), 24);
+        assertEquals(pos.getErrorIndex(), -1);
+    }
+
+    @Test
+    public void test_parse_isoInstant_position_extendedYear() {
+        ParsePosition pos = new ParsePosition(0);
+        TemporalAccessor parsed = DateTimeFormatter.ISO_INSTANT.parseUnresolved("+10000-01-01T00:00:00Z;", pos);
+        assertEquals(parsed.getLong(INSTANT_SECONDS), 253402300800L);
+        assertEquals(pos.getIndex(), 22);
+    }
+
+    @Test(expectedExceptions=DateTimeParseException.class)
+    public void test_parse_isoInstant_trailingText() {
+        DateTimeFormatter.ISO_INSTANT.parse("2012-06-30T12:30:40Z;");
+    }
+
+    @DataProvider(name="sample_isoInstant_invalid")
+    Object[][] provider_sample_isoInstant_invalid() {
+        return new Object[][]{
+                {"2012-06-30T12:30:60Z"},
+                {"2012-06-30T24:00:00Z"},
+                {"2012-02-30T12:30:40Z"},
+                {"2011-02-29T12:30:40Z"},
+                {"2012-13-01T12:30:40Z"},
+                {"2012-06-30T12:30:40.1234567890Z"},
+                {"2012-06-30T12:30:40"},
+                {"2012-06-30 12:30:40Z"},
+        };
+    }
+
+    @Test(dataProvider="sample_isoInstant_invalid", expectedExceptions=DateTimeParseException.class)
+    public void test_parse_isoInstant_invalid(String text) {
+        DateTimeFormatter.ISO_INSTANT.parse(text);
+    }
+
     //-----------------------------------------------------------------------
     //-----------------------------------------------------------------------
     //-----------------------------------------------------------------------
@@ -1051,6 +1154,134 @@ public class TestDateTimeFormatters {
         DateTimeFormatter.RFC_1123_DATE_TIME.format(test);
     }
 
+    @Test
+    public void test_print_rfc1123_matchesGeneral() {
+        DateTimeFormatter general = rfc1123General();
+        ZoneOffset[] offsets = {ZoneOffset.UTC, ZoneOffset.ofHours(2), ZoneOffset.ofHoursMinutes(-3, -30), ZoneOffset.ofTotalSeconds(30)};
+        for (long secs = -62167219200L + 86400; secs < 253402300800L - 86400; secs += 86400L * 11 + 3613) {
+            for (int i = 0; i < offsets.length; i++) {
+                OffsetDateTime odt = OffsetDateTime.ofInstant(Instant.ofEpochSecond(secs), offsets[i]);
+                assertEquals(DateTimeFormatter.RFC_1123_DATE_TIME.format(odt), general.format(odt));
+            }
+        }
+    }
+
+    @Test
+    public void test_rfc1123_toString() {
+        String str = DateTimeFormatter.RFC_1123_DATE_TIME.toString();
+        assertEquals(str, rfc1123General().toString());
+        assertTrue(str.startsWith("ParseCaseSensitive(false)"));
+        assertTrue(str.endsWith("Offset('GMT',+HHMM)"));
+    }
+
+    @Test
+    public void test_print_rfc1123_instantWithZone() {
+        DateTimeFormatter f = DateTimeFormatter.RFC_1123_DATE_TIME.withZone(ZoneOffset.UTC);
+        assertEquals(f.format(Instant.ofEpochSecond(1212491130L)), "Tue, 3 Jun 2008 11:05:30 GMT");
+        assertEquals(f.format(Instant.ofEpochSecond(0L)), "Thu, 1 Jan 1970 00:00:00 GMT");
+    }
+
+    @Test(expectedExceptions=DateTimeException.class)
+    public void test_print_rfc1123_yearTooLarge() {
+        DateTimeFormatter.RFC_1123_DATE_TIME.format(OffsetDateTime.of(LocalDateTime.of(10000, 1, 1, 0, 0), ZoneOffset.UTC));
+    }
+
+    @DataProvider(name="rfcParse")
+    Object[][] data_rfcParse() {
+        return new Object[][] {
+            {"Tue, 3 Jun 2008 11:05:30 GMT"},
+            {"Mon, 30 Jun 2008 11:05:30 GMT"},
+            {"Tue, 03 Jun 2008 11:05:30 GMT"},
+            {"3 Jun 2008 11:05:30 GMT"},
+            {"Tue, 3 Jun 2008 11:05 GMT"},
+            {"tue, 3 jun 2008 11:05:30 gmt"},
+            {"Tue, 3 Jun 2008 11:05:30 +0200"},
+            {"Mon, 30 Jun 2008 11:05:30 -0300"},
+            {"Mon, 30 Jun 2008 11:05:30 +020030"},
+            {"Wed, 3 Jun 2008 11:05:30 GMT"},
+            {"Tue, 31 Jun 2008 11:05:30 GMT"},
+            {"Tue, 3 Jun 2008 11:05:60 GMT"},
+            {"Tue, 3 Jun 2008 11:05:30"},
+            {"Tue, 3 Jun 2008 11:05:30 XYZ"},
+            {"Tue, 3 Jux 2008 11:05:30 GMT"},
+            {"Tux, 3 Jun 2008 11:05:30 GMT"},
+            {"Tue, 3 Jun 08 11:05:30 GMT"},
+        };
+    }
+
+    @Test(dataProvider="rfcParse")
+    public void test_parse_rfc1123_matchesGeneral(String text) {
+        DateTimeFormatter general = rfc1123General();
+        ParsePosition pos1 = new ParsePosition(0);
+        ParsePosition pos2 = new ParsePosition(0);
+        TemporalAccessor parsed1 = DateTimeFormatter.RFC_1123_DATE_TIME.parseUnresolved(text, pos1);
+        TemporalAccessor parsed2 = general.parseUnresolved(text, pos2);
+        assertEquals(pos1.getIndex(), pos2.getIndex());
+        assertEquals(pos1.getErrorIndex(), pos2.getErrorIndex());
+        assertEquals(parsed1 == null, parsed2 == null);
+        if (parsed1 != null) {
+            assertEquals(parsed1.toString(), parsed2.toString());
+        }
+        OffsetDateTime resolved1 = null;
+        OffsetDateTime resolved2 = null;
+        try {
+            resolved1 = DateTimeFormatter.RFC_1123_DATE_TIME.parse(text, OffsetDateTime.class);
+        } catch (DateTimeException ex) {
+            // compared below
+        }
+        try {
+            resolved2 = general.parse(text, OffsetDateTime.class);
+        } catch (DateTimeException ex) {
+            // compared below
+        }
+        assertEquals(resolved1, resolved2);
+    }
+
+    @Test
+    public void test_parse_rfc1123_position() {
+        ParsePosition pos = new ParsePosition(3);
+        TemporalAccessor parsed = DateTimeFormatter.RFC_1123_DATE_TIME.parseUnresolved("XX Tue, 3 Jun 2008 11:05:30 GMT;", pos);
+        assertEquals(pos.getIndex(), 31);
+        assertEquals(parsed.getLong(DAY_OF_MONTH), 3);
+        assertEquals(parsed.getLong(OFFSET_SECONDS), 0);
+    }
+
+    private static DateTimeFormatter rfc1123General() {
+        Map<Long, String> dow = new HashMap<Long, String>();
+        String[] dayNames = {"Mon", "Tue", "Wed", "Thu", "Fri", "Sat", "Sun"};
+        for (int i = 0; i < dayNames.length; i++) {
+            dow.put(i + 1L, dayNames[i]);
+        }
+        Map<Long, String> moy = new HashMap<Long, String>();
+        String[] monthNames = {"Jan", "Feb", "Mar", "Apr", "May", "Jun", "Jul", "Aug", "Sep", "Oct", "Nov", "Dec"};
+        for (int i = 0; i < monthNames.length; i++) {
+            moy.put(i + 1L, monthNames[i]);
+        }
+        return new DateTimeFormatterBuilder()
+            .parseCaseInsensitive()
+            .parseLenient()
+            .optionalStart()
+            .appendText(DAY_OF_WEEK, dow)
+            .appendLiteral(", ")
+            .optionalEnd()
+            .appendValue(DAY_OF_MONTH, 1, 2, SignStyle.NOT_NEGATIVE)
+            .appendLiteral(' ')
+            .appendText(MONTH_OF_YEAR, moy)
+            .appendLiteral(' ')
+            .appendValue(YEAR, 4)
+            .appendLiteral(' ')
+            .appendValue(HOUR_OF_DAY, 2)
+            .appendLiteral(':')
+            .appendValue(MINUTE_OF_HOUR, 2)
+            .optionalStart()
+            .appendLiteral(':')
+            .appendValue(SECOND_OF_MINUTE, 2)
+            .optionalEnd()
+            .appendLiteral(' ')
+            .appendOffset("+HHMM", "GMT")
+            .toFormatter();
+    }
+
     //-----------------------------------------------------------------------
     //-----------------------------------------------------------------------
     //-----------------------------------------------------------------------
@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2007-2013, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.bp.format;
+
+import static org.testng.Assert.assertEquals;
+
+import java.io.StringReader;
+import java.nio.CharBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.testng.annotations.Test;
+import org.threeten.bp.Instant;
+
+/**
+ * Test DateTimeScanner.
+ */
+@Test
+public class TestDateTimeScanner {
+
+    private static final String LOG =
+            "2012-06-30T12:30:40Z first line\n" +
+            "continued 2012-06-30T12:30:41Z\n" +
+            "\n" +
+            "2012-06-30T12:30:42.5Z third 2012-06-30T12:30:43Z\n" +
+            "2012-06-30T12:30:44Z";
+
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_lineStarts_reader() throws Exception {
+        Recorder recorder = new Recorder(-1);
+        long count = DateTimeScanner.ofLineStarts(DateTimeFormatter.ISO_INSTANT).scan(new StringReader(LOG), recorder);
+        assertEquals(count, 3);
+        assertEquals(recorder.found.toString(), "[0=2012-06-30T12:30:40Z, 64=2012-06-30T12:30:42.500Z, 114=2012-06-30T12:30:44Z]");
+    }
+
+    @Test
+    public void test_anyPosition_reader() throws Exception {
+        Recorder recorder = new Recorder(-1);
+        long count = DateTimeScanner.ofAnyPosition(DateTimeFormatter.ISO_INSTANT).scan(new StringReader(LOG), recorder);
+        assertEquals(count, 5);
+        assertEquals(recorder.found.toString(), "[0=2012-06-30T12:30:40Z, 42=2012-06-30T12:30:41Z, " +
+                "64=2012-06-30T12:30:42.500Z, 93=2012-06-30T12:30:43Z, 114=2012-06-30T12:30:44Z]");
+    }
+
+    @Test
+    public void test_anyPosition_charBuffer() throws Exception {
+        Recorder recorder = new Recorder(-1);
+        CharBuffer buffer = CharBuffer.wrap("xx" + LOG);
+        buffer.position(2);
+        long count = DateTimeScanner.ofAnyPosition(DateTimeFormatter.ISO_INSTANT).scan(buffer, recorder);
+        assertEquals(count, 5);
+        assertEquals(recorder.found.get(1), "42=2012-06-30T12:30:41Z");
+        assertEquals(buffer.position(), buffer.limit());
+    }
+
+    @Test
+    public void test_stop_charBuffer() throws Exception {
+        Recorder recorder = new Recorder(2);
+        CharBuffer buffer = CharBuffer.wrap(LOG);
+        long count = DateTimeScanner.ofAnyPosition(DateTimeFormatter.ISO_INSTANT).scan(buffer, recorder);
+        assertEquals(count, 2);
+        assertEquals(buffer.position(), 62);
+    }
+
+    @Test
+    public void test_offsetFormat() throws Exception {
+        Recorder recorder = new Recorder(-1);
+        String text = "a 2012-06-30T12:30:40+02:00 b 2012-06-30T12:30 c";
+        DateTimeScanner.ofAnyPosition(DateTimeFormatter.ISO_OFFSET_DATE_TIME).scan(CharBuffer.wrap(text), recorder);
+        assertEquals(recorder.found.toString(), "[2=2012-06-30T10:30:40Z]");
+    }
+
+    @Test
+    public void test_acrossWindows() throws Exception {
+        StringBuilder buf = new StringBuilder();
+        List<String> expected = new ArrayList<String>();
+        for (int i = 0; i < 2000; i++) {
+            Instant instant = Instant.ofEpochSecond(1341059440L + i * 7L);
+            expected.add(buf.length() + "=" + instant);
+            buf.append(instant).append(" line ").append(i).append(" padding padding\n");
+        }
+        Recorder recorder = new Recorder(-1);
+        long count = DateTimeScanner.ofLineStarts(DateTimeFormatter.ISO_INSTANT).scan(new StringReader(buf.toString()), recorder);
+        assertEquals(count, 2000);
+        assertEquals(recorder.found, expected);
+        recorder = new Recorder(-1);
+        count = DateTimeScanner.ofAnyPosition(DateTimeFormatter.ISO_INSTANT).scan(new StringReader(buf.toString()), recorder);
+        assertEquals(count, 2000);
+        assertEquals(recorder.found, expected);
+    }
+
+    @Test(expectedExceptions=NullPointerException.class)
+    public void test_nullFormatter() throws Exception {
+        DateTimeScanner.ofLineStarts(null);
+    }
+
+    //-----------------------------------------------------------------------
+    static class Recorder implements DateTimeScanner.Handler {
+        private final int max;
+        final List<String> found = new ArrayList<String>();
+
+        Recorder(int max) {
+            this.max = max;
+        }
+
+        @Override
+        public boolean found(long offset, long epochSecond, int nanoOfSecond) {
+            found.add(offset + "=" + Instant.ofEpochSecond(epochSecond, nanoOfSecond));
+            return found.size() != max;
+        }
+    }
+
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2007-2013, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.bp.format;
+
+import static org.testng.Assert.assertEquals;
+
+import org.testng.annotations.Test;
+import org.threeten.bp.LocalDate;
+import org.threeten.bp.Year;
+
+/**
+ * Test IsoDates.
+ */
+@Test
+public class TestIsoDates {
+
+    public void test_epochDay_matchesLocalDate() {
+        LocalDate date = LocalDate.of(-1200, 1, 1);
+        LocalDate end = LocalDate.of(2600, 1, 1);
+        for ( ; date.isBefore(end); date = date.plusDays(7)) {
+            assertEquals(IsoDates.epochDay(date.getYear(), date.getMonthValue(), date.getDayOfMonth()), date.toEpochDay());
+        }
+    }
+
+    public void test_epochDay_limits() {
+        assertEquals(IsoDates.epochDay(Year.MIN_VALUE, 1, 1), LocalDate.MIN.toEpochDay());
+        assertEquals(IsoDates.epochDay(Year.MAX_VALUE, 12, 31), LocalDate.MAX.toEpochDay());
+    }
+
+    public void test_packedDate_matchesLocalDate() {
+        LocalDate date = LocalDate.of(0, 1, 1);
+        LocalDate end = LocalDate.of(10000, 1, 1);
+        for ( ; date.isBefore(end); date = date.plusDays(5)) {
+            int packed = IsoDates.packedDate((int) (date.toEpochDay() + IsoDates.DAYS_0000_TO_1970));
+            assertEquals(packed >>> 9, date.getYear());
+            assertEquals((packed >>> 5) & 15, date.getMonthValue());
+            assertEquals(packed & 31, date.getDayOfMonth());
+        }
+    }
+
+    public void test_lengthOfMonth_matchesLocalDate() {
+        for (int year = -404; year <= 2404; year++) {
+            for (int month = 1; month <= 12; month++) {
+                assertEquals(IsoDates.lengthOfMonth(year, month), LocalDate.of(year, month, 1).lengthOfMonth());
+            }
+        }
+    }
+
+}
@@ -116,6 +116,11 @@ public class TestFixedZoneRules {
         assertEquals(test.getOffset((Instant) null), expectedOffset);
     }
 
+    @Test(dataProvider="rules")
+    public void test_getOffset_epochSecond(ZoneRules test, ZoneOffset expectedOffset) {
+        assertEquals(test.getOffset(INSTANT.getEpochSecond()), expectedOffset);
+    }
+
     @Test(dataProvider="rules")
     public void test_getOffset_LocalDateTime(ZoneRules test, ZoneOffset expectedOffset) {
         assertEquals(test.getOffset(LDT), expectedOffset);
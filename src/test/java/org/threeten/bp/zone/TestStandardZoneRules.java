@@ -34,6 +34,7 @@ package org.threeten.bp.zone;
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertSame;
 import static org.testng.Assert.assertTrue;
 
 import java.io.ByteArrayInputStream;
@@ -117,6 +118,66 @@ public class TestStandardZoneRules {
         assertEquals(test.isDaylightSavings(instant), false);
     }
 
+    public void test_getOffset_epochSecond() {
+        ZoneRules[] rules = {europeLondon(), europeParis(), americaNewYork(), asiaKathmandu()};
+        for (ZoneRules test : rules) {
+            for (long epochSecond = -5000000000L; epochSecond < 5000000000L; epochSecond += 3600 * 7 + 13) {
+                assertEquals(test.getOffset(epochSecond), test.getOffset(Instant.ofEpochSecond(epochSecond)));
+            }
+        }
+    }
+
+    public void test_getOffset_epochSecond_farFuture() {
+        int[] years = {2099, 2100, 2101, 2400, 3000, 10000, 123456, 99999999};
+        for (String zoneId : ZoneRulesProvider.getAvailableZoneIds()) {
+            ZoneRules test = ZoneRulesProvider.getRules(zoneId);
+            for (ZoneOffsetTransitionRule rule : test.getTransitionRules()) {
+                for (int year : years) {
+                    ZoneOffsetTransition trans = rule.createTransition(year);
+                    long epochSecond = trans.toEpochSecond();
+                    assertEquals(test.getOffset(epochSecond - 1), trans.getOffsetBefore(), zoneId + " " + trans);
+                    assertEquals(test.getOffset(epochSecond), trans.getOffsetAfter(), zoneId + " " + trans);
+                    assertEquals(test.getOffset(trans.getInstant()), trans.getOffsetAfter(), zoneId + " " + trans);
+                }
+            }
+        }
+    }
+
+    public void test_withHistoryFrom() {
+        long from = LocalDateTime.of(1990, 1, 1, 0, 0).toEpochSecond(ZoneOffset.MAX);
+        for (String zoneId : ZoneRulesProvider.getAvailableZoneIds()) {
+            StandardZoneRules base = (StandardZoneRules) ZoneRulesProvider.getRules(zoneId);
+            StandardZoneRules test = base.withHistoryFrom(from);
+            assertEquals(test.getTransitionRules(), base.getTransitionRules(), zoneId);
+            assertEquals(test.getTransitions().size() <= base.getTransitions().size(), true, zoneId);
+            for (long epochSec = from; epochSec < from + 60L * 366 * 86400; epochSec += 86400 * 7 + 3600) {
+                Instant instant = Instant.ofEpochSecond(epochSec);
+                assertEquals(test.getOffset(instant), base.getOffset(instant), zoneId + " " + instant);
+                assertEquals(test.getStandardOffset(instant), base.getStandardOffset(instant), zoneId + " " + instant);
+                if (base.isFixedOffset() == false) {
+                    assertEquals(test.nextTransition(instant), base.nextTransition(instant), zoneId + " " + instant);
+                }
+                LocalDateTime ldt = LocalDateTime.ofEpochSecond(epochSec, 0, ZoneOffset.UTC);
+                assertEquals(test.getValidOffsets(ldt), base.getValidOffsets(ldt), zoneId + " " + ldt);
+            }
+        }
+    }
+
+    public void test_withHistoryFrom_London() {
+        StandardZoneRules base = (StandardZoneRules) europeLondon();
+        long from = LocalDateTime.of(1990, 1, 1, 0, 0).toEpochSecond(ZoneOffset.MAX);
+        StandardZoneRules test = base.withHistoryFrom(from);
+        assertEquals(test.getTransitions().get(0).getDateTimeBefore(), LocalDateTime.of(1989, 10, 29, 2, 0));
+        assertEquals(test.getOffset(Instant.ofEpochSecond(0)), OFFSET_PONE);
+        assertEquals(test.getStandardOffset(Instant.ofEpochSecond(0)), OFFSET_ZERO);
+        assertSame(test.withHistoryFrom(from), test);
+    }
+
+    public void test_withHistoryFrom_unchanged() {
+        StandardZoneRules base = (StandardZoneRules) europeLondon();
+        assertSame(base.withHistoryFrom(Long.MIN_VALUE), base);
+    }
+
     public void test_London_getOffset() {
         ZoneRules test = europeLondon();
         assertEquals(test.getOffset(createInstant(2008, 1, 1, ZoneOffset.UTC)), OFFSET_ZERO);
@@ -32,19 +32,41 @@
 package org.threeten.bp.zone;
 
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
 import java.io.File;
+import java.io.FileOutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
 import java.util.StringTokenizer;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.regex.Pattern;
 
 import org.testng.annotations.Test;
 import org.threeten.bp.DayOfWeek;
+import org.threeten.bp.Instant;
 import org.threeten.bp.LocalDate;
+import org.threeten.bp.LocalDateTime;
 import org.threeten.bp.LocalTime;
 import org.threeten.bp.Month;
 import org.threeten.bp.Year;
+import org.threeten.bp.ZoneOffset;
 import org.threeten.bp.zone.TzdbZoneRulesCompiler.LeapSecondRule;
 import org.threeten.bp.zone.TzdbZoneRulesCompiler.TZDBMonthDayTime;
 import org.threeten.bp.zone.TzdbZoneRulesCompiler.TZDBRule;
@@ -457,4 +479,234 @@ public class TestTzdbZoneRulesCompiler {
         }
     }
 
+    //-----------------------------------------------------------------------
+    // outputTzdb()
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_outputTzdb_original() throws Exception {
+        assertOutputTzdb(TzdbZoneRulesCompiler.FORMAT_ORIGINAL);
+    }
+
+    @Test
+    public void test_outputTzdb_compact() throws Exception {
+        assertOutputTzdb(TzdbZoneRulesCompiler.FORMAT_COMPACT);
+    }
+
+    @Test
+    public void test_outputTzdb_compactSmaller() throws Exception {
+        assertEquals(outputTzdb(TzdbZoneRulesCompiler.FORMAT_COMPACT).length < outputTzdb(TzdbZoneRulesCompiler.FORMAT_ORIGINAL).length, true);
+    }
+
+    private void assertOutputTzdb(int format) throws Exception {
+        byte[] bytes = outputTzdb(format);
+        assertEquals(bytes[0], format);
+        Iterable<TzdbZoneRulesProvider.Version> versions = new TzdbZoneRulesProvider().load(new ByteArrayInputStream(bytes));
+        TzdbZoneRulesProvider.Version version = versions.iterator().next();
+        assertEquals(version.toString(), "TEST");
+        for (String regionId : ZoneRulesProvider.getAvailableZoneIds()) {
+            assertEquals(version.getRules(regionId), ZoneRulesProvider.getRules(regionId), regionId);
+        }
+    }
+
+    private byte[] outputTzdb(int format) throws Exception {
+        SortedMap<String, ZoneRules> builtZones = allZones();
+        Set<String> regionIds = new TreeSet<String>(builtZones.keySet());
+        Map<String, SortedMap<String, ZoneRules>> allBuiltZones = new TreeMap<String, SortedMap<String, ZoneRules>>();
+        allBuiltZones.put("TEST", builtZones);
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(baos);
+        TzdbZoneRulesCompiler.outputTzdb(out, allBuiltZones, regionIds, new HashSet<ZoneRules>(builtZones.values()), format);
+        out.close();
+        return baos.toByteArray();
+    }
+
+    //-----------------------------------------------------------------------
+    // compile()
+    //-----------------------------------------------------------------------
+    private static final String EU_RULES =
+        "Rule\tEU\t1977\t1980\t-\tApr\tSun>=1\t 1:00u\t1:00\tS\n" +
+        "Rule\tEU\t1977\tonly\t-\tSep\tlastSun\t 1:00u\t0\t-\n" +
+        "Rule\tEU\t1978\tonly\t-\tOct\t 1\t 1:00u\t0\t-\n" +
+        "Rule\tEU\t1979\t1995\t-\tSep\tlastSun\t 1:00u\t0\t-\n" +
+        "Rule\tEU\t1981\tmax\t-\tMar\tlastSun\t 1:00u\t1:00\tS\n" +
+        "Rule\tEU\t1996\tmax\t-\tOct\tlastSun\t 1:00u\t0\t-\n";
+    private static final String VERSION_A =
+        EU_RULES +
+        "Zone\tEurope/Paris\t0:09:21 -\tLMT\t1891 Mar 15  0:01\n" +
+        "\t\t\t1:00\tEU\tCE%sT\n" +
+        "Zone\tEurope/Berlin\t0:53:28 -\tLMT\t1893 Apr\n" +
+        "\t\t\t1:00\tEU\tCE%sT\n" +
+        "Link\tEurope/Berlin\tEurope/Busingen\n";
+    private static final String VERSION_B =
+        "# spacing and comments are ignored\n" +
+        EU_RULES +
+        "Zone\tEurope/Paris\t0:09:21 -\tLMT\t1892 Mar 15  0:01\n" +
+        "\t\t\t1:00\tEU\tCE%sT\n" +
+        "Zone Europe/Berlin 0:53:28 - LMT 1893 Apr  # comment\n" +
+        "                   1:00 EU CE%sT\n" +
+        "Link\tEurope/Berlin\tEurope/Busingen\n";
+
+    @Test
+    public void test_compile_concurrent() throws Exception {
+        TzdbZoneRulesCompiler serial = createCompiler("2013a", VERSION_A);
+        serial.compile();
+        TzdbZoneRulesCompiler concurrent = createCompiler("2013a", VERSION_A);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            concurrent.setExecutor(executor);
+            concurrent.compile();
+        } finally {
+            executor.shutdown();
+        }
+        assertEquals(concurrent.getZones(), serial.getZones());
+        assertEquals(concurrent.getZones().keySet(), new TreeSet<String>(Arrays.asList("Europe/Berlin", "Europe/Busingen", "Europe/Paris")));
+        assertSame(concurrent.getZones().get("Europe/Busingen"), concurrent.getZones().get("Europe/Berlin"));
+        ZoneRules paris = concurrent.getZones().get("Europe/Paris");
+        assertEquals(paris.getOffset(LocalDateTime.of(2013, 7, 1, 0, 0)), ZoneOffset.ofHours(2));
+        assertEquals(paris.getOffset(LocalDateTime.of(1890, 7, 1, 0, 0)), ZoneOffset.ofHoursMinutesSeconds(0, 9, 21));
+    }
+
+    @Test
+    public void test_compile_builtZoneCache() throws Exception {
+        Map<String, ZoneRules> cache = new ConcurrentHashMap<String, ZoneRules>();
+        TzdbZoneRulesCompiler versionA = createCompiler("2013a", VERSION_A);
+        versionA.setBuiltZoneCache(cache);
+        versionA.compile();
+        assertEquals(cache.size(), 2);
+        TzdbZoneRulesCompiler versionB = createCompiler("2013b", VERSION_B);
+        versionB.setBuiltZoneCache(cache);
+        versionB.compile();
+        assertEquals(cache.size(), 3);
+        assertSame(versionB.getZones().get("Europe/Berlin"), versionA.getZones().get("Europe/Berlin"));
+        assertEquals(versionB.getZones().get("Europe/Paris").equals(versionA.getZones().get("Europe/Paris")), false);
+
+        TzdbZoneRulesCompiler uncached = createCompiler("2013b", VERSION_B);
+        uncached.compile();
+        assertEquals(versionB.getZones(), uncached.getZones());
+    }
+
+    private TzdbZoneRulesCompiler createCompiler(String version, String source) throws Exception {
+        File dir = File.createTempFile("tzdb", version);
+        dir.delete();
+        dir.mkdir();
+        dir.deleteOnExit();
+        File europe = writeFile(new File(dir, "europe"), source);
+        File leapSeconds = writeFile(new File(dir, "leapseconds"), "Leap\t1972\tJun\t30\t23:59:60\t+\tS\n");
+        return new TzdbZoneRulesCompiler(version, Arrays.asList(europe), leapSeconds, false);
+    }
+
+    private File writeFile(File file, String content) throws Exception {
+        file.deleteOnExit();
+        Writer writer = new OutputStreamWriter(new FileOutputStream(file), "UTF-8");
+        try {
+            writer.write(content);
+        } finally {
+            writer.close();
+        }
+        return file;
+    }
+
+    //-----------------------------------------------------------------------
+    // subset()
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_subset_all() throws Exception {
+        SortedMap<String, ZoneRules> builtZones = allZones();
+        SortedMap<String, ZoneRules> test = TzdbZoneRulesCompiler.subset(builtZones, null, null, Year.MIN_VALUE);
+        assertEquals(test, builtZones);
+    }
+
+    @Test
+    public void test_subset_includeExclude() throws Exception {
+        SortedMap<String, ZoneRules> test = TzdbZoneRulesCompiler.subset(
+                allZones(), Pattern.compile("Europe/.*"), Pattern.compile("Europe/L.*"), Year.MIN_VALUE);
+        assertEquals(test.containsKey("Europe/Paris"), true);
+        assertEquals(test.containsKey("Europe/London"), false);
+        assertEquals(test.containsKey("America/New_York"), false);
+        for (String regionId : test.keySet()) {
+            assertEquals(regionId.startsWith("Europe/") && regionId.startsWith("Europe/L") == false, true, regionId);
+        }
+    }
+
+    @Test
+    public void test_subset_fromYear() throws Exception {
+        SortedMap<String, ZoneRules> builtZones = allZones();
+        SortedMap<String, ZoneRules> test = TzdbZoneRulesCompiler.subset(builtZones, null, null, 1990);
+        assertEquals(test.keySet(), builtZones.keySet());
+        Instant instant = LocalDateTime.of(1990, 1, 1, 0, 0).toInstant(ZoneOffset.MAX);
+        for (String regionId : test.keySet()) {
+            assertEquals(test.get(regionId).getOffset(instant), builtZones.get(regionId).getOffset(instant), regionId);
+        }
+        ZoneRules london = test.get("Europe/London");
+        assertEquals(london.previousTransition(instant).getDateTimeBefore(), LocalDateTime.of(1989, 10, 29, 2, 0));
+        assertEquals(london.previousTransition(london.previousTransition(instant).getInstant()), null);
+    }
+
+    @Test
+    public void test_subset_fromYear_smaller() throws Exception {
+        SortedMap<String, ZoneRules> builtZones = TzdbZoneRulesCompiler.subset(allZones(), Pattern.compile("Europe/.*"), null, 1990);
+        Set<String> regionIds = new TreeSet<String>(builtZones.keySet());
+        Map<String, SortedMap<String, ZoneRules>> allBuiltZones = new TreeMap<String, SortedMap<String, ZoneRules>>();
+        allBuiltZones.put("TEST", builtZones);
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(baos);
+        TzdbZoneRulesCompiler.outputTzdb(out, allBuiltZones, regionIds, new HashSet<ZoneRules>(builtZones.values()), TzdbZoneRulesCompiler.FORMAT_COMPACT);
+        out.close();
+        byte[] bytes = baos.toByteArray();
+        assertEquals(bytes.length < outputTzdb(TzdbZoneRulesCompiler.FORMAT_COMPACT).length / 4, true);
+        TzdbZoneRulesProvider.Version version = new TzdbZoneRulesProvider().load(new ByteArrayInputStream(bytes)).iterator().next();
+        assertEquals(version.getRules("Europe/Paris"), builtZones.get("Europe/Paris"));
+        assertEquals(version.getRules("America/New_York"), null);
+    }
+
+    private SortedMap<String, ZoneRules> allZones() {
+        SortedMap<String, ZoneRules> builtZones = new TreeMap<String, ZoneRules>();
+        for (String regionId : ZoneRulesProvider.getAvailableZoneIds()) {
+            builtZones.put(regionId, ZoneRulesProvider.getRules(regionId));
+        }
+        return builtZones;
+    }
+
+    //-----------------------------------------------------------------------
+    // Ser.writeEpochSecDeltas()
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_epochSecDeltas() throws Exception {
+        long[][] values = {
+            {},
+            {0},
+            {-1},
+            {Long.MIN_VALUE / 8, -3600, -900, -1, 0, 1, 900, 3600, Long.MAX_VALUE / 8},
+            {-2717668236L, -1633280400L, -1615140000L, -1601830800L, 9972000L, 25693200L},
+        };
+        for (long[] epochSecs : values) {
+            ByteArrayOutputStream baos = new ByteArrayOutputStream();
+            DataOutputStream out = new DataOutputStream(baos);
+            Ser.writeEpochSecDeltas(epochSecs, out);
+            out.close();
+            DataInputStream in = new DataInputStream(new ByteArrayInputStream(baos.toByteArray()));
+            assertEquals(Ser.readEpochSecDeltas(in), epochSecs);
+            assertEquals(in.read(), -1);
+        }
+    }
+
+    @Test(expectedExceptions=IllegalArgumentException.class)
+    public void test_epochSecDeltas_notAscending() throws Exception {
+        Ser.writeEpochSecDeltas(new long[] {3600, 0}, new DataOutputStream(new ByteArrayOutputStream()));
+    }
+
+    @Test
+    public void test_varLong() throws Exception {
+        long[] values = {0, 1, 127, 128, 16383, 16384, Integer.MAX_VALUE, Long.MAX_VALUE, -1, Long.MIN_VALUE};
+        for (long value : values) {
+            ByteArrayOutputStream baos = new ByteArrayOutputStream();
+            DataOutputStream out = new DataOutputStream(baos);
+            Ser.writeVarLong(value, out);
+            out.close();
+            DataInputStream in = new DataInputStream(new ByteArrayInputStream(baos.toByteArray()));
+            assertEquals(Ser.readVarLong(in), value);
+            assertEquals(in.read(), -1);
+        }
+    }
+
 }
@@ -0,0 +1,188 @@
+/*
+ * Copyright (c) 2007-2013, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.bp.zone;
+
+import static org.testng.Assert.assertEquals;
+
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import org.testng.annotations.Test;
+
+/**
+ * Test TzdbZoneRulesProvider.
+ */
+@Test
+public class TestTzdbZoneRulesProvider {
+
+    private static final ZoneRules LONDON = ZoneRulesProvider.getRules("Europe/London");
+    private static final ZoneRules PARIS = ZoneRulesProvider.getRules("Europe/Paris");
+    private static final ZoneRules NEW_YORK = ZoneRulesProvider.getRules("America/New_York");
+
+    //-----------------------------------------------------------------------
+    // directory
+    //-----------------------------------------------------------------------
+    public void test_directory_load() throws Exception {
+        File dir = createDirectory();
+        writeFile(new File(dir, "a.dat"), "2099a", "Europe/London", LONDON, "Europe/Paris", PARIS);
+        writeFile(new File(dir, "ignored.txt"), "2099z", "Europe/London", NEW_YORK, "Europe/Paris", NEW_YORK);
+        writeFile(new File(dir, "older.dat"), "2000a", "Europe/London", NEW_YORK, "Europe/Paris", NEW_YORK);
+        TzdbZoneRulesProvider test = new TzdbZoneRulesProvider(dir);
+        assertEquals(test.provideZoneIds(), ZoneRulesProvider.getAvailableZoneIds());
+        assertEquals(test.provideVersions("Europe/London").lastKey(), "2099a");
+        assertEquals(test.provideRules("Europe/London"), LONDON);
+        assertEquals(test.provideRules("Europe/Paris"), PARIS);
+        assertEquals(test.provideRefresh(), false);
+    }
+
+    public void test_directory_refresh_newFile() throws Exception {
+        File dir = createDirectory();
+        writeFile(new File(dir, "a.dat"), "2099a", "Europe/London", LONDON, "Europe/Paris", PARIS);
+        TzdbZoneRulesProvider test = new TzdbZoneRulesProvider(dir);
+
+        writeFile(new File(dir, "b.dat"), "2099b", "Europe/London", NEW_YORK, null, null);
+        assertEquals(test.provideRefresh(), true);
+        assertEquals(test.provideRules("Europe/London"), NEW_YORK);
+        // latest version without the region falls back to earlier version
+        assertEquals(test.provideRules("Europe/Paris"), PARIS);
+        NavigableMap<String, ZoneRules> versions = test.provideVersions("Europe/London");
+        assertEquals(versions.headMap("2099a").size(), 1);
+        assertEquals(versions.tailMap("2099a").keySet(), new TreeSet<String>(Arrays.asList("2099a", "2099b")));
+        assertEquals(test.provideRefresh(), false);
+    }
+
+    public void test_directory_refresh_changedFile() throws Exception {
+        File dir = createDirectory();
+        File file = new File(dir, "a.dat");
+        writeFile(file, "2099a", "Europe/London", LONDON, null, null);
+        TzdbZoneRulesProvider test = new TzdbZoneRulesProvider(dir);
+        assertEquals(test.provideRules("Europe/London"), LONDON);
+
+        // same version replaced, file length differs
+        writeFile(file, "2099a", "Europe/London", NEW_YORK, "Europe/Paris", PARIS);
+        assertEquals(test.provideRefresh(), true);
+        assertEquals(test.provideRules("Europe/London"), NEW_YORK);
+        assertEquals(test.provideRules("Europe/Paris"), PARIS);
+        assertEquals(test.provideVersions("Europe/London").tailMap("2099a").size(), 1);
+    }
+
+    public void test_directory_refresh_invalidFile() throws Exception {
+        File dir = createDirectory();
+        writeFile(new File(dir, "a.dat"), "2099a", "Europe/London", LONDON, null, null);
+        TzdbZoneRulesProvider test = new TzdbZoneRulesProvider(dir);
+        File bad = new File(dir, "b.dat");
+        writeInvalidFile(bad);
+        writeFile(new File(dir, "c.dat"), "2099c", "Europe/London", NEW_YORK, null, null);
+        // the valid file is loaded and the invalid file recorded
+        assertEquals(test.provideRefresh(), true);
+        assertEquals(test.provideRules("Europe/London"), NEW_YORK);
+        assertEquals(test.getFailedFiles().keySet(), Collections.singleton(bad.getAbsolutePath()));
+        assertEquals(test.provideRefresh(), false);
+        // the invalid file is retried once replaced
+        writeFile(bad, "2099b", "Europe/Paris", NEW_YORK, null, null);
+        assertEquals(test.provideRefresh(), true);
+        assertEquals(test.provideVersions("Europe/Paris").lastKey(), "2099b");
+        assertEquals(test.getFailedFiles().isEmpty(), true);
+    }
+
+    public void test_directory_constructor_invalidFile() throws Exception {
+        File dir = createDirectory();
+        writeInvalidFile(new File(dir, "a.dat"));
+        writeFile(new File(dir, "b.dat"), "2099b", "Europe/London", NEW_YORK, null, null);
+        TzdbZoneRulesProvider test = new TzdbZoneRulesProvider(dir);
+        assertEquals(test.provideRules("Europe/London"), NEW_YORK);
+        assertEquals(test.getFailedFiles().size(), 1);
+    }
+
+    public void test_directory_invalidFile_noRegionIds() throws Exception {
+        File dir = createDirectory();
+        // valid header naming an unknown region, truncated before the rules
+        File file = new File(dir, "a.dat");
+        file.deleteOnExit();
+        DataOutputStream out = new DataOutputStream(new FileOutputStream(file));
+        out.writeByte(2);
+        out.writeUTF("TZDB");
+        out.writeShort(1);
+        out.writeUTF("2099a");
+        out.writeShort(1);
+        out.writeUTF("Mars/Olympus_Mons");
+        out.close();
+        TzdbZoneRulesProvider test = new TzdbZoneRulesProvider(dir);
+        assertEquals(test.provideZoneIds().contains("Mars/Olympus_Mons"), false);
+        assertEquals(test.getFailedFiles().size(), 1);
+    }
+
+    //-----------------------------------------------------------------------
+    private File createDirectory() throws Exception {
+        File dir = File.createTempFile("tzdb", "dir");
+        dir.delete();
+        dir.mkdir();
+        dir.deleteOnExit();
+        return dir;
+    }
+
+    private void writeInvalidFile(File file) throws Exception {
+        file.deleteOnExit();
+        FileOutputStream out = new FileOutputStream(file);
+        out.write(new byte[] {2, 0});
+        out.close();
+    }
+
+    private void writeFile(File file, String version,
+            String regionId1, ZoneRules rules1, String regionId2, ZoneRules rules2) throws Exception {
+        SortedMap<String, ZoneRules> builtZones = new TreeMap<String, ZoneRules>();
+        builtZones.put(regionId1, rules1);
+        if (regionId2 != null) {
+            builtZones.put(regionId2, rules2);
+        }
+        Map<String, SortedMap<String, ZoneRules>> allBuiltZones = new TreeMap<String, SortedMap<String, ZoneRules>>();
+        allBuiltZones.put(version, builtZones);
+        file.deleteOnExit();
+        DataOutputStream out = new DataOutputStream(new FileOutputStream(file));
+        try {
+            TzdbZoneRulesCompiler.outputTzdb(out, allBuiltZones, new TreeSet<String>(builtZones.keySet()),
+                    new HashSet<ZoneRules>(builtZones.values()), TzdbZoneRulesCompiler.FORMAT_COMPACT);
+        } finally {
+            out.close();
+        }
+    }
+
+}
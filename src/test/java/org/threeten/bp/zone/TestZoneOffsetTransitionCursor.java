@@ -0,0 +1,212 @@
+/*
+ * Copyright (c) 2007-2013, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.bp.zone;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.testng.annotations.Test;
+import org.threeten.bp.Instant;
+import org.threeten.bp.LocalDateTime;
+import org.threeten.bp.ZoneOffset;
+
+/**
+ * Test ZoneOffsetTransitionCursor.
+ */
+@Test
+public class TestZoneOffsetTransitionCursor {
+
+    private static final Instant START = LocalDateTime.of(1850, 1, 1, 0, 0).toInstant(ZoneOffset.UTC);
+    private static final Instant END = LocalDateTime.of(2100, 1, 1, 0, 0).toInstant(ZoneOffset.UTC);
+
+    //-----------------------------------------------------------------------
+    public void test_allZones_matchesNextTransition() {
+        for (String zoneId : ZoneRulesProvider.getAvailableZoneIds()) {
+            ZoneRules rules = ZoneRulesProvider.getRules(zoneId);
+            if (rules.getTransitions().isEmpty()) {
+                continue;  // nextTransition() does not support an empty history
+            }
+            List<ZoneOffsetTransition> expected = expected(rules, START, END);
+            assertEquals(forwards(rules.transitionCursor(START, END)), expected, zoneId);
+            List<ZoneOffsetTransition> reversed = new ArrayList<ZoneOffsetTransition>(expected);
+            Collections.reverse(reversed);
+            assertEquals(backwards(rules.transitionCursor(START, END)), reversed, zoneId);
+        }
+    }
+
+    public void test_allZones_matchesGenericCursor() {
+        for (String zoneId : ZoneRulesProvider.getAvailableZoneIds()) {
+            ZoneRules rules = ZoneRulesProvider.getRules(zoneId);
+            if (rules.getTransitions().isEmpty()) {
+                continue;
+            }
+            ZoneOffsetTransitionCursor generic = new ZoneOffsetTransitionCursor.Generic(rules, START, END);
+            assertEquals(forwards(rules.transitionCursor(START, END)), forwards(generic), zoneId);
+        }
+    }
+
+    public void test_farFuture() {
+        ZoneRules rules = ZoneRulesProvider.getRules("Europe/London");
+        Instant start = LocalDateTime.of(100000, 1, 1, 0, 0).toInstant(ZoneOffset.UTC);
+        Instant end = LocalDateTime.of(100010, 1, 1, 0, 0).toInstant(ZoneOffset.UTC);
+        List<ZoneOffsetTransition> found = forwards(rules.transitionCursor(start, end));
+        assertEquals(found.size(), 20);
+        List<ZoneOffsetTransitionRule> lastRules = rules.getTransitionRules();
+        for (int i = 0; i < found.size(); i++) {
+            assertEquals(found.get(i), lastRules.get(i % 2).createTransition(100000 + i / 2));
+        }
+    }
+
+    public void test_changeDirection() {
+        ZoneRules rules = ZoneRulesProvider.getRules("Europe/Paris");
+        ZoneOffsetTransitionCursor cursor = rules.transitionCursor(START, END);
+        assertTrue(cursor.next());
+        long first = cursor.getEpochSecond();
+        assertTrue(cursor.next());
+        assertTrue(cursor.previous());
+        assertEquals(cursor.getEpochSecond(), first);
+        assertFalse(cursor.previous());
+        assertFalse(cursor.isPositioned());
+        assertTrue(cursor.next());
+        assertEquals(cursor.getEpochSecond(), first);
+    }
+
+    public void test_changeDirection_acrossLastRules() {
+        ZoneRules rules = ZoneRulesProvider.getRules("Europe/Paris");
+        List<ZoneOffsetTransition> historic = rules.getTransitions();
+        ZoneOffsetTransition last = historic.get(historic.size() - 1);
+        ZoneOffsetTransitionCursor cursor = rules.transitionCursor(last.getInstant(), END);
+        assertTrue(cursor.next());
+        assertEquals(cursor.toTransition(), last);
+        assertTrue(cursor.next());
+        assertEquals(cursor.toTransition(), rules.nextTransition(last.getInstant()));
+        assertTrue(cursor.previous());
+        assertEquals(cursor.toTransition(), last);
+        assertFalse(cursor.previous());
+    }
+
+    public void test_rangeBoundaries() {
+        ZoneRules rules = ZoneRulesProvider.getRules("Europe/London");
+        ZoneOffsetTransition trans = rules.nextTransition(START);
+        Instant at = trans.getInstant();
+        // start is inclusive
+        ZoneOffsetTransitionCursor cursor = rules.transitionCursor(at, END);
+        assertTrue(cursor.next());
+        assertEquals(cursor.getEpochSecond(), at.getEpochSecond());
+        // end is exclusive
+        cursor = rules.transitionCursor(START, at);
+        cursor.afterLast();
+        assertTrue(cursor.previous() == false || cursor.getEpochSecond() < at.getEpochSecond());
+        // fractions of a second round up
+        cursor = rules.transitionCursor(at.plusNanos(1), END);
+        assertTrue(cursor.next());
+        assertTrue(cursor.getEpochSecond() > at.getEpochSecond());
+        cursor = rules.transitionCursor(at, at.plusNanos(1));
+        assertTrue(cursor.next());
+        assertFalse(cursor.next());
+    }
+
+    public void test_emptyRange() {
+        ZoneRules rules = ZoneRulesProvider.getRules("Europe/London");
+        ZoneOffsetTransitionCursor cursor = rules.transitionCursor(END, START);
+        assertFalse(cursor.next());
+        assertFalse(cursor.previous());
+    }
+
+    public void test_fixed() {
+        ZoneRules rules = ZoneRules.of(ZoneOffset.ofHours(2));
+        ZoneOffsetTransitionCursor cursor = rules.transitionCursor(Instant.MIN, Instant.MAX);
+        assertFalse(cursor.next());
+        cursor.afterLast();
+        assertFalse(cursor.previous());
+    }
+
+    public void test_accessors() {
+        ZoneRules rules = ZoneRulesProvider.getRules("Europe/London");
+        ZoneOffsetTransitionCursor cursor = rules.transitionCursor(START, END);
+        assertEquals(cursor.getStartEpochSecond(), START.getEpochSecond());
+        assertEquals(cursor.getEndEpochSecond(), END.getEpochSecond());
+        assertTrue(cursor.next());
+        ZoneOffsetTransition trans = cursor.toTransition();
+        assertEquals(cursor.getEpochSecond(), trans.toEpochSecond());
+        assertEquals(cursor.getOffsetBefore(), trans.getOffsetBefore());
+        assertEquals(cursor.getOffsetAfter(), trans.getOffsetAfter());
+        assertEquals(cursor.isGap(), trans.isGap());
+    }
+
+    @Test(expectedExceptions = IllegalStateException.class)
+    public void test_accessors_notPositioned() {
+        ZoneRules rules = ZoneRulesProvider.getRules("Europe/London");
+        rules.transitionCursor(START, END).getEpochSecond();
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void test_nullStart() {
+        ZoneRulesProvider.getRules("Europe/London").transitionCursor(null, END);
+    }
+
+    //-----------------------------------------------------------------------
+    private static List<ZoneOffsetTransition> expected(ZoneRules rules, Instant start, Instant end) {
+        List<ZoneOffsetTransition> list = new ArrayList<ZoneOffsetTransition>();
+        ZoneOffsetTransition trans = rules.nextTransition(start.minusSeconds(1));
+        while (trans != null && trans.getInstant().isBefore(end)) {
+            list.add(trans);
+            trans = rules.nextTransition(trans.getInstant());
+        }
+        return list;
+    }
+
+    private static List<ZoneOffsetTransition> forwards(ZoneOffsetTransitionCursor cursor) {
+        List<ZoneOffsetTransition> list = new ArrayList<ZoneOffsetTransition>();
+        while (cursor.next()) {
+            list.add(cursor.toTransition());
+        }
+        assertFalse(cursor.isPositioned());
+        return list;
+    }
+
+    private static List<ZoneOffsetTransition> backwards(ZoneOffsetTransitionCursor cursor) {
+        List<ZoneOffsetTransition> list = new ArrayList<ZoneOffsetTransition>();
+        cursor.afterLast();
+        while (cursor.previous()) {
+            list.add(cursor.toTransition());
+        }
+        assertFalse(cursor.isPositioned());
+        return list;
+    }
+
+}
@@ -37,6 +37,7 @@ import java.io.IOException;
 
 import org.testng.annotations.Test;
 import org.threeten.bp.AbstractTest;
+import org.threeten.bp.DateTimeException;
 import org.threeten.bp.DayOfWeek;
 import org.threeten.bp.LocalDateTime;
 import org.threeten.bp.LocalTime;
@@ -437,6 +438,44 @@ public class TestZoneOffsetTransitionRule extends AbstractTest {
         assertEquals(a.equals(null), false);
     }
 
+    //-----------------------------------------------------------------------
+    // transitionEpochSecond()
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_transitionEpochSecond_matchesCreateTransition() {
+        int[] years = {-999999, -100000, -1, 0, 1, 1582, 1900, 1970, 1999, 2000, 2001, 2012, 2100, 2400, 99999, 999999};
+        int[] doms = {-28, -7, -2, -1, 1, 2, 15, 21, 22, 28};
+        for (Month month : Month.values()) {
+            for (int dom : doms) {
+                if (month == Month.FEBRUARY && dom == 28) {
+                    continue;
+                }
+                for (DayOfWeek dow : new DayOfWeek[] {null, DayOfWeek.MONDAY, DayOfWeek.SUNDAY}) {
+                    for (TimeDefinition timeDefinition : TimeDefinition.values()) {
+                        ZoneOffsetTransitionRule test = ZoneOffsetTransitionRule.of(
+                                month, dom, dow, LocalTime.MIDNIGHT, true, timeDefinition,
+                                OFFSET_0200, OFFSET_0300, OFFSET_0200);
+                        ZoneOffsetTransitionRule test2 = ZoneOffsetTransitionRule.of(
+                                month, dom, dow, TIME_0100, false, timeDefinition,
+                                ZoneOffset.ofHoursMinutes(-5, -30), ZoneOffset.ofHours(-5), ZoneOffset.ofHours(-4));
+                        for (int year : years) {
+                            assertEquals(test.transitionEpochSecond(year), test.createTransition(year).toEpochSecond(), test + " " + year);
+                            assertEquals(test2.transitionEpochSecond(year), test2.createTransition(year).toEpochSecond(), test2 + " " + year);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    @Test(expectedExceptions=DateTimeException.class)
+    public void test_transitionEpochSecond_invalidYear() {
+        ZoneOffsetTransitionRule test = ZoneOffsetTransitionRule.of(
+                Month.MARCH, 20, DayOfWeek.SUNDAY, TIME_0100, false, TimeDefinition.WALL,
+                OFFSET_0200, OFFSET_0200, OFFSET_0300);
+        test.transitionEpochSecond(Integer.MAX_VALUE);
+    }
+
     //-----------------------------------------------------------------------
     // hashCode()
     //-----------------------------------------------------------------------
@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2007-2013, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.bp.zone;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertSame;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.List;
+
+import org.testng.annotations.Test;
+import org.threeten.bp.LocalDateTime;
+import org.threeten.bp.ZoneOffset;
+
+/**
+ * Test ZoneRulesInterner.
+ */
+@Test
+public class TestZoneRulesInterner {
+
+    public void test_intern_rules() throws Exception {
+        ZoneRules london = ZoneRulesProvider.getRules("Europe/London");
+        ZoneRules copy1 = copy(london);
+        ZoneRules copy2 = copy(london);
+        assertNotSame(copy1, copy2);
+        ZoneRulesInterner interner = new ZoneRulesInterner();
+        ZoneRules interned1 = interner.intern(copy1);
+        ZoneRules interned2 = interner.intern(copy2);
+        assertSame(interned2, interned1);
+        assertEquals(interned1, london);
+        assertEquals(interned1.getOffset(LocalDateTime.of(2012, 6, 30, 12, 0)), ZoneOffset.ofHours(1));
+    }
+
+    public void test_intern_transitionRulesShared() throws Exception {
+        ZoneRulesInterner interner = new ZoneRulesInterner();
+        ZoneRules paris = interner.intern(copy(ZoneRulesProvider.getRules("Europe/Paris")));
+        ZoneRules berlin = interner.intern(copy(ZoneRulesProvider.getRules("Europe/Berlin")));
+        List<ZoneOffsetTransitionRule> parisRules = paris.getTransitionRules();
+        List<ZoneOffsetTransitionRule> berlinRules = berlin.getTransitionRules();
+        assertSame(berlinRules.get(0), parisRules.get(0));
+        assertSame(berlinRules.get(1), parisRules.get(1));
+    }
+
+    public void test_intern_fixedRules() {
+        ZoneRulesInterner interner = new ZoneRulesInterner();
+        ZoneRules rules = ZoneRules.of(ZoneOffset.ofHours(2));
+        assertSame(interner.intern(rules), rules);
+        assertSame(interner.intern(ZoneRules.of(ZoneOffset.ofHours(2))), rules);
+    }
+
+    public void test_intern_arrays() {
+        ZoneRulesInterner interner = new ZoneRulesInterner();
+        long[] longs = {1, 2, 3};
+        assertSame(interner.intern(longs), longs);
+        assertSame(interner.intern(new long[] {1, 2, 3}), longs);
+        ZoneOffset[] offsets = {ZoneOffset.UTC};
+        assertSame(interner.intern(new ZoneOffset[] {ZoneOffset.UTC}), interner.intern(offsets));
+    }
+
+    public void test_intern_emptyArraysOfDifferentTypes() {
+        ZoneRulesInterner interner = new ZoneRulesInterner();
+        long[] longs = new long[0];
+        ZoneOffset[] offsets = new ZoneOffset[0];
+        LocalDateTime[] dateTimes = new LocalDateTime[0];
+        assertSame(interner.intern(longs), longs);
+        assertSame(interner.intern(offsets), offsets);
+        assertSame(interner.intern(dateTimes), dateTimes);
+        assertEquals(interner.size(), 3);
+    }
+
+    private static ZoneRules copy(ZoneRules rules) throws IOException, ClassNotFoundException {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        Ser.write(rules, new DataOutputStream(baos));
+        return (ZoneRules) Ser.read(new DataInputStream(new ByteArrayInputStream(baos.toByteArray())));
+    }
+
+}
@@ -0,0 +1,181 @@
+/*
+ * Copyright (c) 2007-2013, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.bp.zone;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.fail;
+
+import java.io.File;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import org.threeten.bp.LocalDateTime;
+import org.threeten.bp.ZoneId;
+
+/**
+ * Test ZoneRulesMetrics and ZoneRulesListeners.
+ */
+@Test
+public class TestZoneRulesMetrics {
+
+    @BeforeClass
+    public void setUp() {
+        // ensure the providers are loaded before the metrics are enabled
+        ZoneRulesProvider.getAvailableZoneIds();
+    }
+
+    @AfterMethod
+    public void tearDown() {
+        ZoneRulesMetrics.disable();
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_disabledByDefault() {
+        assertNull(ZoneRulesListeners.getListener());
+    }
+
+    public void test_setListener() {
+        final List<String> events = new ArrayList<String>();
+        ZoneRulesListener listener = new ZoneRulesListener() {
+            @Override
+            public void rulesLoaded(String location, long nanos) {
+                events.add("loaded");
+            }
+            @Override
+            public void rulesDecoded(String regionId, long nanos) {
+                events.add("decoded " + regionId);
+            }
+            @Override
+            public void rulesLookedUp(String zoneId) {
+                events.add("lookup " + zoneId);
+            }
+            @Override
+            public void transitionCacheHit(int year) {
+                events.add("hit " + year);
+            }
+            @Override
+            public void transitionCacheMiss(int year) {
+                events.add("miss " + year);
+            }
+        };
+        ZoneRulesListeners.setListener(listener);
+        assertSame(ZoneRulesListeners.getListener(), listener);
+        ZoneId.of("Europe/London");
+        assertEquals(events.get(events.size() - 1), "lookup Europe/London");
+        ZoneRulesListeners.setListener(null);
+        ZoneId.of("Europe/Paris");
+        assertEquals(events.get(events.size() - 1), "lookup Europe/London");
+    }
+
+    public void test_enable_lookups() {
+        ZoneRulesMetrics metrics = ZoneRulesMetrics.enable();
+        assertSame(ZoneRulesListeners.getListener(), metrics);
+        ZoneId.of("Europe/London");
+        ZoneId.of("Europe/London");
+        ZoneRulesProvider.getRules("Europe/Paris");
+        assertEquals(metrics.getLookupCount(), 3);
+        assertEquals(metrics.getLookupCountByZone().get("Europe/London"), Long.valueOf(2));
+        assertEquals(metrics.getLookupCountByZone().get("Europe/Paris"), Long.valueOf(1));
+        metrics.reset();
+        assertEquals(metrics.getLookupCount(), 0);
+    }
+
+    public void test_enable_lookups_unknownIdNotCounted() {
+        ZoneRulesMetrics metrics = ZoneRulesMetrics.enable();
+        try {
+            ZoneRulesProvider.getRules("Unknown/Location");
+            fail();
+        } catch (ZoneRulesException ex) {
+            // expected
+        }
+        assertEquals(metrics.getLookupCount(), 0);
+        assertEquals(metrics.getLookupCountByZone().containsKey("Unknown/Location"), false);
+    }
+
+    public void test_enable_loadAndDecode() throws Exception {
+        ZoneRulesMetrics metrics = ZoneRulesMetrics.enable();
+        File dir = File.createTempFile("tzdb", "dir");
+        dir.delete();
+        dir.mkdir();
+        dir.deleteOnExit();
+        TzdbZoneRulesProvider provider = new TzdbZoneRulesProvider(dir);
+        assertEquals(metrics.getLoadNanos().size(), 1);
+        assertEquals(metrics.getDecodeCount(), 0);
+        provider.provideRules("Europe/London");
+        provider.provideRules("Europe/London");
+        assertEquals(metrics.getDecodeCount(), 1);
+        assertNotNull(metrics.getDecodeNanosByRegion().get("Europe/London"));
+        assertEquals(metrics.getDecodeNanos() >= 0, true);
+    }
+
+    public void test_enable_transitionCache() throws Exception {
+        ZoneRulesMetrics metrics = ZoneRulesMetrics.enable();
+        File dir = File.createTempFile("tzdb", "dir");
+        dir.delete();
+        dir.mkdir();
+        dir.deleteOnExit();
+        ZoneRules rules = new TzdbZoneRulesProvider(dir).provideRules("Europe/London");
+        rules.getOffset(LocalDateTime.of(2050, 6, 1, 0, 0));
+        assertEquals(metrics.getTransitionCacheHits(), 0);
+        assertEquals(metrics.getTransitionCacheMisses(), 1);
+        rules.getOffset(LocalDateTime.of(2050, 7, 1, 0, 0));
+        assertEquals(metrics.getTransitionCacheHits(), 1);
+        assertEquals(metrics.getTransitionCacheMisses(), 1);
+    }
+
+    public void test_enable_mbean() throws Exception {
+        ZoneRulesMetrics.enable();
+        ZoneRulesProvider.getRules("Europe/Paris");
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName name = new ObjectName(ZoneRulesMetrics.OBJECT_NAME);
+        assertEquals(server.getAttribute(name, "LookupCount"), Long.valueOf(1));
+        server.invoke(name, "reset", new Object[0], new String[0]);
+        assertEquals(server.getAttribute(name, "LookupCount"), Long.valueOf(0));
+
+        ZoneRulesMetrics.enable();
+        assertEquals(server.isRegistered(name), true);
+        ZoneRulesMetrics.disable();
+        assertEquals(server.isRegistered(name), false);
+        assertNull(ZoneRulesListeners.getListener());
+    }
+
+}
@@ -33,15 +33,28 @@ package org.threeten.bp.zone;
 
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertSame;
 import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
 
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.NavigableMap;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.testng.annotations.Test;
+import org.threeten.bp.Duration;
+import org.threeten.bp.ZoneId;
 import org.threeten.bp.ZoneOffset;
 
 /**
@@ -84,6 +97,30 @@ public class TestZoneRulesProvider {
         ZoneRulesProvider.getRules(null);
     }
 
+    @Test
+    public void test_getRules_equalRulesShared() {
+        Map<ZoneRules, ZoneRules> seen = new HashMap<ZoneRules, ZoneRules>();
+        for (String zoneId : ZoneRulesProvider.getAvailableZoneIds()) {
+            ZoneRules rules = ZoneRulesProvider.getRules(zoneId);
+            ZoneRules existing = seen.get(rules);
+            if (existing != null) {
+                assertSame(rules, existing, zoneId);
+            } else {
+                seen.put(rules, rules);
+            }
+        }
+    }
+
+    @Test
+    public void test_getRules_equalTransitionRulesShared() {
+        List<ZoneOffsetTransitionRule> paris = ZoneRulesProvider.getRules("Europe/Paris").getTransitionRules();
+        List<ZoneOffsetTransitionRule> berlin = ZoneRulesProvider.getRules("Europe/Berlin").getTransitionRules();
+        assertEquals(paris.size(), 2);
+        assertEquals(berlin, paris);
+        assertSame(berlin.get(0), paris.get(0));
+        assertSame(berlin.get(1), paris.get(1));
+    }
+
     //-----------------------------------------------------------------------
     // getVersions(String)
     //-----------------------------------------------------------------------
@@ -111,6 +148,54 @@ public class TestZoneRulesProvider {
         ZoneRulesProvider.getVersions(null);
     }
 
+    //-----------------------------------------------------------------------
+    // preload()
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_preload() {
+        Duration time = ZoneRulesProvider.preload(Arrays.asList("Europe/London", "America/New_York"));
+        assertEquals(time.isNegative(), false);
+    }
+
+    @Test(expectedExceptions=ZoneRulesException.class)
+    public void test_preload_unknownId() {
+        ZoneRulesProvider.preload(Arrays.asList("Europe/London", "Europe/Lon"));
+    }
+
+    @Test(expectedExceptions=NullPointerException.class)
+    public void test_preload_null() {
+        ZoneRulesProvider.preload(null);
+    }
+
+    @Test
+    public void test_preloadAll() {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            Duration time = ZoneRulesProvider.preloadAll(executor);
+            assertEquals(time.isNegative(), false);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void test_preloadAll_callerRuns() {
+        final AtomicInteger count = new AtomicInteger();
+        ZoneRulesProvider.preloadAll(new Executor() {
+            @Override
+            public void execute(Runnable command) {
+                count.incrementAndGet();
+                command.run();
+            }
+        });
+        assertEquals(count.get(), ZoneRulesProvider.getAvailableZoneIds().size());
+    }
+
+    @Test(expectedExceptions=NullPointerException.class)
+    public void test_preloadAll_null() {
+        ZoneRulesProvider.preloadAll(null);
+    }
+
     //-----------------------------------------------------------------------
     // refresh()
     //-----------------------------------------------------------------------
@@ -119,6 +204,142 @@ public class TestZoneRulesProvider {
         assertEquals(ZoneRulesProvider.refresh(), false);
     }
 
+    @Test
+    public void test_refresh_dynamicProvider() {
+        MockDynamicProvider provider = new MockDynamicProvider();
+        ZoneRulesProvider.registerProvider(provider);
+        ZoneId zone = ZoneId.of("DynamicLocation");
+        assertEquals(zone.getRules(), ZoneOffset.of("+02:00").getRules());
+        int refreshCount = ZoneRulesProvider.getRefreshCount();
+
+        provider.rules = ZoneOffset.of("+03:00").getRules();
+        provider.changed = true;
+        assertEquals(ZoneRulesProvider.refresh(), true);
+        assertEquals(ZoneRulesProvider.getRefreshCount(), refreshCount + 1);
+        assertEquals(ZoneRulesProvider.getRules("DynamicLocation"), ZoneOffset.of("+03:00").getRules());
+        assertEquals(zone.getRules(), ZoneOffset.of("+03:00").getRules());
+        assertEquals(ZoneId.of("DynamicLocation").getRules(), ZoneOffset.of("+03:00").getRules());
+
+        assertEquals(ZoneRulesProvider.refresh(), false);
+        assertEquals(ZoneRulesProvider.getRefreshCount(), refreshCount + 1);
+    }
+
+    @Test
+    public void test_refresh_zoneIdCachesLatestRules() {
+        MockUnboundProvider provider = new MockUnboundProvider();
+        ZoneRulesProvider.registerProvider(provider);
+        ZoneId zone = ZoneId.of("UnboundLocation");
+        assertEquals(zone.getRules(), ZoneOffset.of("+04:00").getRules());
+
+        provider.offset = ZoneOffset.of("+05:00");
+        provider.changed = true;
+        assertEquals(ZoneRulesProvider.refresh(), true);
+        ZoneRules rules = zone.getRules();
+        assertEquals(rules, ZoneOffset.of("+05:00").getRules());
+        assertSame(zone.getRules(), rules);
+    }
+
+    @Test
+    public void test_refresh_conflictLeavesBindingsUnchanged() {
+        MockConflictProvider provider = new MockConflictProvider();
+        ZoneRulesProvider.registerProvider(provider);
+        ZoneRules london = ZoneRulesProvider.getRules("Europe/London");
+        assertEquals(ZoneRulesProvider.getRules("ConflictLocation"), ZoneOffset.of("+06:00").getRules());
+
+        provider.zoneIds.add("Europe/London");
+        provider.rules = ZoneOffset.of("+07:00").getRules();
+        provider.changed = true;
+        try {
+            ZoneRulesProvider.refresh();
+            fail();
+        } catch (ZoneRulesException ex) {
+            // expected
+        }
+        assertEquals(ZoneRulesProvider.getRules("ConflictLocation"), ZoneOffset.of("+06:00").getRules());
+        assertSame(ZoneRulesProvider.getRules("Europe/London"), london);
+    }
+
+    static class MockConflictProvider extends ZoneRulesProvider {
+        final Set<String> zoneIds = new CopyOnWriteArraySet<String>(Collections.singleton("ConflictLocation"));
+        volatile ZoneRules rules = ZoneOffset.of("+06:00").getRules();
+        volatile boolean changed;
+        @Override
+        public Set<String> provideZoneIds() {
+            return new HashSet<String>(zoneIds);
+        }
+        @Override
+        protected NavigableMap<String, ZoneRules> provideVersions(String zoneId) {
+            NavigableMap<String, ZoneRules> result = new TreeMap<String, ZoneRules>();
+            result.put("ConflictVersion", rules);
+            return result;
+        }
+        @Override
+        protected ZoneRules provideRules(String zoneId) {
+            return rules;
+        }
+        @Override
+        protected boolean provideRefresh() {
+            boolean result = changed;
+            changed = false;
+            return result;
+        }
+    }
+
+    static class MockUnboundProvider extends ZoneRulesProvider {
+        volatile ZoneOffset offset = ZoneOffset.of("+04:00");
+        volatile boolean changed;
+        @Override
+        public Set<String> provideZoneIds() {
+            return new HashSet<String>(Collections.singleton("UnboundLocation"));
+        }
+        @Override
+        protected ZoneRulesProvider provideBind(String zoneId) {
+            return this;
+        }
+        @Override
+        protected NavigableMap<String, ZoneRules> provideVersions(String zoneId) {
+            NavigableMap<String, ZoneRules> result = new TreeMap<String, ZoneRules>();
+            result.put("UnboundVersion", ZoneRules.of(offset));
+            return result;
+        }
+        @Override
+        protected ZoneRules provideRules(String zoneId) {
+            // a new instance on each call, so that repeated lookups can be detected
+            return ZoneRules.of(offset);
+        }
+        @Override
+        protected boolean provideRefresh() {
+            boolean result = changed;
+            changed = false;
+            return result;
+        }
+    }
+
+    static class MockDynamicProvider extends ZoneRulesProvider {
+        volatile ZoneRules rules = ZoneOffset.of("+02:00").getRules();
+        volatile boolean changed;
+        @Override
+        public Set<String> provideZoneIds() {
+            return new HashSet<String>(Collections.singleton("DynamicLocation"));
+        }
+        @Override
+        protected NavigableMap<String, ZoneRules> provideVersions(String zoneId) {
+            NavigableMap<String, ZoneRules> result = new TreeMap<String, ZoneRules>();
+            result.put("DynamicVersion", rules);
+            return result;
+        }
+        @Override
+        protected ZoneRules provideRules(String zoneId) {
+            return rules;
+        }
+        @Override
+        protected boolean provideRefresh() {
+            boolean result = changed;
+            changed = false;
+            return result;
+        }
+    }
+
     //-----------------------------------------------------------------------
     // registerProvider()
     //-----------------------------------------------------------------------